@@ -3,6 +3,7 @@ package com.poi.yow_point.application.mappers;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poi.yow_point.application.model.OpeningHours;
 import io.r2dbc.postgresql.codec.Json;
 import lombok.RequiredArgsConstructor;
 import org.locationtech.jts.geom.Coordinate;
@@ -41,28 +42,20 @@ public class MapperUtils {
         return (point != null) ? point.getX() : null;
     }
 
-    // --- Méthodes pour les conversions String <-> List ---
+    // --- Nettoyage des listes stockées en text[] ---
 
-    @Named("stringToList")
-    public List<String> stringToList(String csvString) {
-        if (csvString == null || csvString.trim().isEmpty()) {
-            return new ArrayList<>();
+    @Named("cleanList")
+    public List<String> cleanList(List<String> list) {
+        if (list == null) {
+            return null;
         }
-        return Arrays.stream(csvString.split(","))
+        List<String> cleaned = list.stream()
+                .filter(Objects::nonNull)
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
+                .distinct()
                 .collect(Collectors.toList());
-    }
-
-    @Named("listToString")
-    public String listToString(List<String> list) {
-        if (list == null || list.isEmpty()) {
-            return null;
-        }
-        return list.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> !s.trim().isEmpty())
-                .collect(Collectors.joining(","));
+        return cleaned.isEmpty() ? null : cleaned;
     }
 
     // --- Méthodes pour les conversions JSON <-> Map ---
@@ -93,6 +86,11 @@ public class MapperUtils {
         }
     }
 
+    @Named("openingHoursToJson")
+    public Json openingHoursToJson(Map<String, Object> plan) {
+        return mapToJson(OpeningHours.normalize(plan));
+    }
+
     // --- Méthodes pour les conversions JsonNode <-> Map ---
 
     public Map<String, Object> jsonNodeToMap(JsonNode jsonNode) {
@@ -1,6 +1,8 @@
 package com.poi.yow_point.application.mappers;
 
 import com.poi.yow_point.infrastructure.entities.PointOfInterest;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestSummary;
+import com.poi.yow_point.presentation.dto.PoiSummaryDTO;
 import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
 import org.mapstruct.*;
 
@@ -11,14 +13,12 @@ public interface PointOfInterestMapper {
 
     @Mapping(source = "locationGeog", target = "latitude", qualifiedByName = "pointToLatitude")
     @Mapping(source = "locationGeog", target = "longitude", qualifiedByName = "pointToLongitude")
-    @Mapping(source = "poiImagesUrls", target = "poiImagesUrls", qualifiedByName = "stringToList")
-    @Mapping(source = "poiAmenities", target = "poiAmenities", qualifiedByName = "stringToList")
-    @Mapping(source = "poiKeywords", target = "poiKeywords", qualifiedByName = "stringToList")
-    @Mapping(source = "poiTypeTags", target = "poiTypeTags", qualifiedByName = "stringToList")
     @Mapping(source = "operationTimePlan", target = "operationTimePlan", qualifiedByName = "jsonToMap")
     @Mapping(source = "poiContacts", target = "poiContacts", qualifiedByName = "jsonToMap")
     PointOfInterestDTO toDto(PointOfInterest entity);
 
+    PoiSummaryDTO toSummaryDto(PointOfInterestSummary summary);
+
 
 
 
@@ -33,11 +33,11 @@ public interface PointOfInterestMapper {
     @Mapping(target = "updatedByUserId", ignore = true)
     @Mapping(target = "popularityScore", ignore = true)
     @Mapping(target = "locationGeog", expression = "java(mapperUtils.coordinatesToPoint(dto.getLatitude(), dto.getLongitude()))")
-    @Mapping(source = "poiImagesUrls", target = "poiImagesUrls", qualifiedByName = "listToString")
-    @Mapping(source = "poiAmenities", target = "poiAmenities", qualifiedByName = "listToString")
-    @Mapping(source = "poiKeywords", target = "poiKeywords", qualifiedByName = "listToString")
-    @Mapping(source = "poiTypeTags", target = "poiTypeTags", qualifiedByName = "listToString")
-    @Mapping(source = "operationTimePlan", target = "operationTimePlan", qualifiedByName = "mapToJson")
+    @Mapping(source = "poiImagesUrls", target = "poiImagesUrls", qualifiedByName = "cleanList")
+    @Mapping(source = "poiAmenities", target = "poiAmenities", qualifiedByName = "cleanList")
+    @Mapping(source = "poiKeywords", target = "poiKeywords", qualifiedByName = "cleanList")
+    @Mapping(source = "poiTypeTags", target = "poiTypeTags", qualifiedByName = "cleanList")
+    @Mapping(source = "operationTimePlan", target = "operationTimePlan", qualifiedByName = "openingHoursToJson")
     @Mapping(source = "poiContacts", target = "poiContacts", qualifiedByName = "mapToJson")
     PointOfInterest toEntity(com.poi.yow_point.presentation.dto.CreatePoiDTO dto, @Context MapperUtils mapperUtils);
 
@@ -49,11 +49,11 @@ public interface PointOfInterestMapper {
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "approuvedByUserId", ignore = true)
     @Mapping(target = "locationGeog", expression = "java(mapperUtils.coordinatesToPoint(dto.getLatitude(), dto.getLongitude()))")
-    @Mapping(source = "poiImagesUrls", target = "poiImagesUrls", qualifiedByName = "listToString")
-    @Mapping(source = "poiAmenities", target = "poiAmenities", qualifiedByName = "listToString")
-    @Mapping(source = "poiKeywords", target = "poiKeywords", qualifiedByName = "listToString")
-    @Mapping(source = "poiTypeTags", target = "poiTypeTags", qualifiedByName = "listToString")
-    @Mapping(source = "operationTimePlan", target = "operationTimePlan", qualifiedByName = "mapToJson")
+    @Mapping(source = "poiImagesUrls", target = "poiImagesUrls", qualifiedByName = "cleanList")
+    @Mapping(source = "poiAmenities", target = "poiAmenities", qualifiedByName = "cleanList")
+    @Mapping(source = "poiKeywords", target = "poiKeywords", qualifiedByName = "cleanList")
+    @Mapping(source = "poiTypeTags", target = "poiTypeTags", qualifiedByName = "cleanList")
+    @Mapping(source = "operationTimePlan", target = "operationTimePlan", qualifiedByName = "openingHoursToJson")
     @Mapping(source = "poiContacts", target = "poiContacts", qualifiedByName = "mapToJson")
     void updateEntityFromDto(@MappingTarget PointOfInterest entity, com.poi.yow_point.presentation.dto.UpdatePoiDTO dto, @Context MapperUtils mapperUtils);
 
@@ -0,0 +1,156 @@
+package com.poi.yow_point.application.model;
+
+import java.time.DayOfWeek;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalised form of {@code operation_time_plan}.
+ * <p>
+ * Each day is stored under its English name ({@code monday} ... {@code sunday}) as a list of
+ * {@code {"open": "HH:MM", "close": "HH:MM"}} slots; an empty list means closed that day, a close time
+ * earlier than the open time runs past midnight. Input may use English or French day names, "HH:MM-HH:MM"
+ * strings (several separated by commas), "closed"/"fermé" or "24h". Keys that are not days, and day values
+ * that cannot be read, are kept unchanged. The database derives the weekly opening minutes
+ * ({@code opening_week_minutes}) from this form, and also reads the same input forms so that plans stored
+ * before normalisation are found too.
+ */
+public final class OpeningHours {
+
+    private static final Map<String, DayOfWeek> DAY_NAMES = new LinkedHashMap<>();
+    private static final Pattern TIME = Pattern.compile("^(\\d{1,2})(?:[:hH](\\d{2})?)?$");
+
+    static {
+        String[][] names = {
+                { "monday", "mon", "lundi" },
+                { "tuesday", "tue", "mardi" },
+                { "wednesday", "wed", "mercredi" },
+                { "thursday", "thu", "jeudi" },
+                { "friday", "fri", "vendredi" },
+                { "saturday", "sat", "samedi" },
+                { "sunday", "sun", "dimanche" } };
+        for (int i = 0; i < names.length; i++) {
+            for (String name : names[i]) {
+                DAY_NAMES.put(name, DayOfWeek.of(i + 1));
+            }
+        }
+    }
+
+    private OpeningHours() {
+    }
+
+    /**
+     * Returns the normalised copy of a plan; null or empty plans are returned as is.
+     */
+    public static Map<String, Object> normalize(Map<String, Object> plan) {
+        if (plan == null || plan.isEmpty()) {
+            return plan;
+        }
+        Map<String, Object> normalized = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : plan.entrySet()) {
+            DayOfWeek day = DAY_NAMES.get(entry.getKey().trim().toLowerCase(Locale.ROOT));
+            if (day == null) {
+                normalized.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            List<Map<String, String>> slots = slots(entry.getValue());
+            normalized.put(dayKey(day), slots != null ? slots : entry.getValue());
+        }
+        return normalized;
+    }
+
+    /**
+     * Minute of the week (0 = Monday 00:00) of the given local date-time, as used by {@code opening_week_minutes}.
+     */
+    public static int minuteOfWeek(ZonedDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * 24 * 60 + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    private static String dayKey(DayOfWeek day) {
+        return day.name().toLowerCase(Locale.ROOT);
+    }
+
+    // null when the value cannot be read
+    private static List<Map<String, String>> slots(Object value) {
+        List<Map<String, String>> slots = new ArrayList<>();
+        if (value == null) {
+            return slots;
+        }
+        if (value instanceof String text) {
+            for (String part : text.split(",")) {
+                if (!addSlot(slots, part)) {
+                    return null;
+                }
+            }
+            return slots;
+        }
+        if (value instanceof List<?> items) {
+            for (Object item : items) {
+                boolean added = item instanceof String text
+                        ? addSlot(slots, text)
+                        : item instanceof Map<?, ?> map && addSlot(slots, map);
+                if (!added) {
+                    return null;
+                }
+            }
+            return slots;
+        }
+        return null;
+    }
+
+    private static boolean addSlot(List<Map<String, String>> slots, String text) {
+        String trimmed = text.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.isEmpty() || trimmed.equals("closed") || trimmed.startsWith("ferm")) {
+            return true;
+        }
+        if (trimmed.equals("24h") || trimmed.equals("24/24")) {
+            slots.add(slot("00:00", "24:00"));
+            return true;
+        }
+        String[] bounds = trimmed.split("\\s*-\\s*");
+        return bounds.length == 2 && addSlot(slots, bounds[0], bounds[1]);
+    }
+
+    private static boolean addSlot(List<Map<String, String>> slots, Map<?, ?> map) {
+        Object open = map.containsKey("open") ? map.get("open") : map.get("from");
+        Object close = map.containsKey("close") ? map.get("close") : map.get("to");
+        return open != null && close != null && addSlot(slots, open.toString(), close.toString());
+    }
+
+    private static boolean addSlot(List<Map<String, String>> slots, String open, String close) {
+        String normalizedOpen = time(open);
+        String normalizedClose = time(close);
+        if (normalizedOpen == null || normalizedClose == null) {
+            return false;
+        }
+        slots.add(slot(normalizedOpen, normalizedClose));
+        return true;
+    }
+
+    // "8", "8h30", "08:30" -> "08:30"; null when not a time of day (24:00 allowed as a closing time)
+    private static String time(String text) {
+        Matcher matcher = TIME.matcher(text.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        int hours = Integer.parseInt(matcher.group(1));
+        int minutes = matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+        if (minutes > 59 || hours > 24 || (hours == 24 && minutes > 0)) {
+            return null;
+        }
+        return String.format("%02d:%02d", hours, minutes);
+    }
+
+    private static Map<String, String> slot(String open, String close) {
+        Map<String, String> slot = new LinkedHashMap<>();
+        slot.put("open", open);
+        slot.put("close", close);
+        return slot;
+    }
+}
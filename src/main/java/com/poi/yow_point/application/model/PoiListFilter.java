@@ -0,0 +1,41 @@
+package com.poi.yow_point.application.model;
+
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Criteria of a POI listing read as summaries. Null fields are ignored; a null {@code limit} means no limit.
+ * Its {@code toString()} is stable and serves as the result-set cache key.
+ */
+@Value
+@Builder(toBuilder = true)
+public class PoiListFilter {
+
+    public enum Order {
+        NONE,
+        POPULARITY,
+        RECENT
+    }
+
+    PoiType poiType;
+
+    PoiCategory poiCategory;
+
+    String city;
+
+    /**
+     * Case-insensitive substring of the name
+     */
+    String nameContains;
+
+    UUID createdByUserId;
+
+    PoiStatus status;
+
+    @Builder.Default
+    Order order = Order.NONE;
+
+    Integer limit;
+}
@@ -2,6 +2,7 @@ package com.poi.yow_point.application.services.blog;
 
 import java.util.UUID;
 
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.blogDto.BlogDTO;
 import com.poi.yow_point.presentation.dto.blogDto.CreateBlogRequest;
 import com.poi.yow_point.presentation.dto.blogDto.UpdateBlogRequest;
@@ -18,6 +19,8 @@ public interface BlogService {
 
     Flux<BlogDTO> getAllBlogs();
 
+    Mono<CursorPage<BlogDTO>> getActiveBlogsPage(String cursor, int size);
+
     Flux<BlogDTO> getBlogsByUserId(UUID userId);
 
     Flux<BlogDTO> getBlogsByPoiId(UUID poiId);
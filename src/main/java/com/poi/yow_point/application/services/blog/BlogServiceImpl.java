@@ -7,7 +7,9 @@ import org.springframework.stereotype.Service;
 
 import com.poi.yow_point.application.mappers.BlogMapper;
 import com.poi.yow_point.application.validation.BlogValidator;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 import com.poi.yow_point.infrastructure.repositories.blog.BlogRepository;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.blogDto.BlogDTO;
 import com.poi.yow_point.presentation.dto.blogDto.CreateBlogRequest;
 import com.poi.yow_point.presentation.dto.blogDto.UpdateBlogRequest;
@@ -62,6 +64,15 @@ public class BlogServiceImpl implements BlogService {
                 .map(blogMapper::toDto);
     }
 
+    @Override
+    public Mono<CursorPage<BlogDTO>> getActiveBlogsPage(String cursor, int size) {
+        return Mono.defer(() -> blogRepository.findActivePageAfter(KeysetCursor.decode(cursor), size + 1)
+                .collectList()
+                .map(rows -> CursorPage.of(rows, size,
+                        blog -> KeysetCursor.of(blog.getCreatedAt(), blog.getBlogId()).encode(),
+                        blogMapper::toDto)));
+    }
+
     @Override
     public Flux<BlogDTO> getBlogsByUserId(UUID userId) {
         return blogRepository.findByUserIdAndIsActiveTrue(userId)
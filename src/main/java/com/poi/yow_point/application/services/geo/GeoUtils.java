@@ -0,0 +1,56 @@
+package com.poi.yow_point.application.services.geo;
+
+/**
+ * Small spherical-earth helpers shared by the in-memory spatial structures.
+ * Accuracy is the same order as PostGIS geography for the radii we serve (a few km).
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * Great-circle distance in meters between two WGS84 coordinates.
+     */
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Whether the box is a WGS84 rectangle with min &lt;= max on both axes (boxes crossing the antimeridian
+     * are not supported).
+     */
+    public static boolean isValidBoundingBox(double minLatitude, double minLongitude,
+            double maxLatitude, double maxLongitude) {
+        return minLatitude >= -90 && maxLatitude <= 90 && minLongitude >= -180 && maxLongitude <= 180
+                && minLatitude <= maxLatitude && minLongitude <= maxLongitude;
+    }
+
+    /**
+     * Latitude span (degrees) covering the given distance, on the sphere used by {@link #haversineMeters}.
+     */
+    public static double latitudeDelta(double meters) {
+        return Math.toDegrees(meters / EARTH_RADIUS_METERS);
+    }
+
+    /**
+     * Longitude half-span (degrees) of the circle of the given radius around a point at the given latitude:
+     * every point of the circle is within that many degrees of the center's longitude (which may wrap past
+     * the antimeridian). The whole globe (180) when the circle reaches a pole.
+     */
+    public static double longitudeDelta(double meters, double latitude) {
+        double angular = meters / EARTH_RADIUS_METERS;
+        if (Math.abs(latitude) + Math.toDegrees(angular) >= 90) {
+            return 180.0;
+        }
+        // Widest point of a spherical cap, which is poleward of its center
+        return Math.toDegrees(Math.asin(Math.sin(angular) / Math.cos(Math.toRadians(latitude))));
+    }
+}
@@ -0,0 +1,54 @@
+package com.poi.yow_point.application.services.geo;
+
+/**
+ * XYZ tile scheme of web maps (Web Mercator, EPSG:3857): at zoom {@code z} the world is split into
+ * {@code 2^z x 2^z} tiles, x growing eastwards from -180° and y southwards from about 85.05°N.
+ */
+public final class WebMercatorTiles {
+
+    /**
+     * Latitude limit of the Web Mercator projection; points beyond are clamped to the edge tiles.
+     */
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    private WebMercatorTiles() {
+    }
+
+    public static boolean isValid(int zoom, int x, int y, int maxZoom) {
+        if (zoom < 0 || zoom > maxZoom || zoom > 30) {
+            return false;
+        }
+        int tiles = 1 << zoom;
+        return x >= 0 && x < tiles && y >= 0 && y < tiles;
+    }
+
+    /**
+     * Fractional tile column of a longitude at {@code zoom}; its integer part is the tile x.
+     */
+    public static double tileX(double longitude, int zoom) {
+        return (longitude + 180) / 360 * (1 << zoom);
+    }
+
+    /**
+     * Fractional tile row of a latitude at {@code zoom}; its integer part is the tile y.
+     */
+    public static double tileY(double latitude, int zoom) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+        double radians = Math.toRadians(clamped);
+        return (1 - Math.log(Math.tan(radians) + 1 / Math.cos(radians)) / Math.PI) / 2 * (1 << zoom);
+    }
+
+    /**
+     * Longitude of the west edge of tile column {@code x} at {@code zoom}; inverse of {@link #tileX}.
+     */
+    public static double longitude(double x, int zoom) {
+        return x / (1 << zoom) * 360 - 180;
+    }
+
+    /**
+     * Latitude of the north edge of tile row {@code y} at {@code zoom}; inverse of {@link #tileY}.
+     */
+    public static double latitude(double y, int zoom) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / (1 << zoom)))));
+    }
+}
@@ -0,0 +1,56 @@
+package com.poi.yow_point.application.services.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poi.yow_point.infrastructure.entities.PoiOutboxMessage;
+import com.poi.yow_point.infrastructure.repositories.poiOutbox.PoiOutboxRepository;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Queues Kafka events in the poi_outbox table, from which {@link PoiOutboxRelay} publishes them.
+ */
+@Component
+@RequiredArgsConstructor
+public class PoiOutbox {
+
+    // Types a payload may be read back as, by the payload_type stored with it; nothing else is ever instantiated
+    private static final Map<String, Class<?>> PAYLOAD_TYPES = Map.of(
+            PointOfInterestDTO.class.getName(), PointOfInterestDTO.class);
+
+    private final PoiOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Queues {@code payload} for {@code topic}, keyed by {@code poiId}. Meant to be part of the transaction that
+     * changes the POI: the event is then published if and only if the change commits.
+     *
+     * @throws IllegalArgumentException (signalled) if the payload is not of an allowed type
+     */
+    public Mono<Void> append(String topic, UUID poiId, Object payload) {
+        if (payloadType(payload.getClass().getName()) == null) {
+            return Mono.error(new IllegalArgumentException(
+                    "Unsupported outbox payload type: " + payload.getClass().getName()));
+        }
+        return Mono.fromCallable(() -> PoiOutboxMessage.builder()
+                        .aggregateId(poiId)
+                        .topic(topic)
+                        .payloadType(payload.getClass().getName())
+                        .payload(objectMapper.writeValueAsString(payload))
+                        .build())
+                .flatMap(repository::save)
+                .then();
+    }
+
+    /**
+     * The class a stored payload of type {@code payloadType} is read as, or null if that type is not allowed.
+     */
+    static Class<?> payloadType(String payloadType) {
+        return payloadType == null ? null : PAYLOAD_TYPES.get(payloadType);
+    }
+}
@@ -0,0 +1,166 @@
+package com.poi.yow_point.application.services.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poi.yow_point.infrastructure.configuration.PoiOutboxProperties;
+import com.poi.yow_point.infrastructure.entities.PoiOutboxMessage;
+import com.poi.yow_point.infrastructure.kafka.KafkaProducerService;
+import com.poi.yow_point.infrastructure.repositories.poiOutbox.PoiOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the poi_outbox table to Kafka.
+ * <p>
+ * Every node runs the loop but only one relays at a time: each transaction first takes the relay's advisory lock
+ * and does nothing if another node holds it, so batches never overlap and a failed batch is retried before any
+ * later message is sent. The transaction then locks the oldest messages, sends them all without waiting on each
+ * record, letting the producer batch and compress them, and deletes them once every send is acknowledged. If a
+ * send fails the transaction rolls back and the batch is retried on the next poll: delivery is at least once (a
+ * retried batch may repeat messages that were already acknowledged), in outbox order per POI, since the messages
+ * of a POI share a key and the idempotent producer keeps the order of a partition. A message whose payload can
+ * no longer be read, or whose payload type is not one {@link PoiOutbox} writes, is logged and deleted instead of
+ * blocking the outbox.
+ * <p>
+ * Metrics: {@code poi.outbox.relay.lag} is the age of the oldest message of the last batch (0 when the outbox
+ * was empty or another node relays), {@code poi.outbox.relay.published} the number of messages sent and deleted.
+ */
+@Component
+@Slf4j
+public class PoiOutboxRelay {
+
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final PoiOutboxRepository repository;
+    private final KafkaProducerService producer;
+    private final ObjectMapper objectMapper;
+    private final PoiOutboxProperties properties;
+    private final TransactionalOperator transactionalOperator;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter discarded;
+    private final Counter failures;
+    private final Timer batchTimer;
+
+    private Disposable relayLoop;
+
+    public PoiOutboxRelay(PoiOutboxRepository repository,
+            KafkaProducerService producer,
+            ObjectMapper objectMapper,
+            PoiOutboxProperties properties,
+            ReactiveTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.producer = producer;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        Gauge.builder("poi.outbox.relay.lag", lagMillis, AtomicLong::get)
+                .description("Age of the oldest outbox message of the last relayed batch")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.published = Counter.builder("poi.outbox.relay.published").register(meterRegistry);
+        this.discarded = Counter.builder("poi.outbox.relay.discarded").register(meterRegistry);
+        this.failures = Counter.builder("poi.outbox.relay.failures").register(meterRegistry);
+        this.batchTimer = Timer.builder("poi.outbox.relay.batch").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isRelayEnabled()) {
+            log.info("POI outbox relay disabled on this node");
+            return;
+        }
+        relayLoop = Mono.defer(this::relayBatch)
+                .flatMap(count -> count < properties.getBatchSize()
+                        ? Mono.delay(Duration.ofMillis(properties.getPollIntervalMs())).thenReturn(count)
+                        : Mono.just(count))
+                .repeat()
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (relayLoop != null) {
+            relayLoop.dispose();
+        }
+    }
+
+    /**
+     * Relays one batch in its own transaction; returns the number of messages taken from the outbox. Errors are
+     * logged and retried after a pause.
+     */
+    Mono<Integer> relayBatch() {
+        long start = System.nanoTime();
+        return repository.tryLockRelay()
+                .flatMap(leader -> leader
+                        ? repository.lockNextBatch(properties.getBatchSize()).collectList()
+                        : Mono.just(List.<PoiOutboxMessage>of()))
+                .flatMap(batch -> {
+                    if (batch.isEmpty()) {
+                        lagMillis.set(0);
+                        return Mono.just(0);
+                    }
+                    lagMillis.set(Math.max(0, System.currentTimeMillis()
+                            - batch.get(0).getCreatedAt().toInstant().toEpochMilli()));
+                    List<Long> ids = batch.stream().map(PoiOutboxMessage::getOutboxId).toList();
+                    // send() may block on metadata or a full buffer: kept off the R2DBC threads
+                    return Mono.fromCallable(() -> sendAll(batch))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(Mono::fromFuture)
+                            .then(repository.deleteAllById(ids))
+                            .thenReturn(batch.size());
+                })
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(count -> {
+                    if (count > 0) {
+                        published.increment(count);
+                        batchTimer.record(Duration.ofNanos(System.nanoTime() - start));
+                    }
+                })
+                .onErrorResume(e -> {
+                    failures.increment();
+                    log.warn("Could not relay POI outbox to Kafka, retrying: {}", e.getMessage());
+                    return Mono.delay(ERROR_BACKOFF).thenReturn(0);
+                });
+    }
+
+    private CompletableFuture<Void> sendAll(List<PoiOutboxMessage> batch) {
+        List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+        for (PoiOutboxMessage message : batch) {
+            Object payload;
+            try {
+                Class<?> type = PoiOutbox.payloadType(message.getPayloadType());
+                if (type == null) {
+                    throw new IllegalArgumentException("Unknown payload type " + message.getPayloadType());
+                }
+                payload = objectMapper.readValue(message.getPayload(), type);
+            } catch (Exception e) {
+                discarded.increment();
+                log.error("Discarding unreadable outbox message {} for topic {}", message.getOutboxId(),
+                        message.getTopic(), e);
+                continue;
+            }
+            sends.add(producer.send(message.getTopic(), message.getAggregateId().toString(), payload));
+        }
+        return CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new));
+    }
+}
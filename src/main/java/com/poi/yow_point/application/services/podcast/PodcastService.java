@@ -3,6 +3,7 @@ package com.poi.yow_point.application.services.podcast;
 import java.util.UUID;
 
 import com.poi.yow_point.presentation.dto.podcastDto.PodcastCreateRequest;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.podcastDto.PodcastDTO;
 import com.poi.yow_point.presentation.dto.podcastDto.UpdatePodcastRequest;
 
@@ -18,6 +19,8 @@ public interface PodcastService {
 
     Flux<PodcastDTO> getAllPodcasts();
 
+    Mono<CursorPage<PodcastDTO>> getActivePodcastsPage(String cursor, int size);
+
     Flux<PodcastDTO> getPodcastsByUserId(UUID userId);
 
     Flux<PodcastDTO> getPodcastsByPoiId(UUID poiId);
@@ -7,7 +7,9 @@ import org.springframework.stereotype.Service;
 
 import com.poi.yow_point.application.mappers.PodcastMapper;
 import com.poi.yow_point.application.validation.PodcastValidator;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 import com.poi.yow_point.infrastructure.repositories.podcast.PodcastRepository;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.podcastDto.PodcastCreateRequest;
 import com.poi.yow_point.presentation.dto.podcastDto.PodcastDTO;
 import com.poi.yow_point.presentation.dto.podcastDto.UpdatePodcastRequest;
@@ -63,6 +65,15 @@ public class PodcastServiceImpl implements PodcastService {
                 .map(podcastMapper::toDto);
     }
 
+    @Override
+    public Mono<CursorPage<PodcastDTO>> getActivePodcastsPage(String cursor, int size) {
+        return Mono.defer(() -> podcastRepository.findActivePageAfter(KeysetCursor.decode(cursor), size + 1)
+                .collectList()
+                .map(rows -> CursorPage.of(rows, size,
+                        podcast -> KeysetCursor.of(podcast.getCreatedAt(), podcast.getPodcastId()).encode(),
+                        podcastMapper::toDto)));
+    }
+
     @Override
     public Flux<PodcastDTO> getPodcastsByUserId(UUID userId) {
         return podcastRepository.findByUserIdAndIsActiveTrue(userId)
@@ -0,0 +1,282 @@
+package com.poi.yow_point.application.services.poiAccessLog;
+
+import com.poi.yow_point.application.mappers.MapperUtils;
+import com.poi.yow_point.application.mappers.PoiAccessLogMapper;
+import com.poi.yow_point.application.services.poiPlatformStat.PlatformStatAggregator;
+import com.poi.yow_point.application.validation.PoiAccessLogValidator;
+import com.poi.yow_point.infrastructure.configuration.AccessLogIngestionProperties;
+import com.poi.yow_point.infrastructure.configuration.AccessLogIngestionProperties.OverflowPolicy;
+import com.poi.yow_point.infrastructure.entities.PoiAccessLog;
+import com.poi.yow_point.infrastructure.repositories.poiAccessLog.PoiAccessLogRepository;
+import com.poi.yow_point.presentation.dto.PoiAccessLogDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Buffered write path for access logs.
+ * <p>
+ * Accepted logs are put in a bounded in-memory queue and written by a single background stage with
+ * multi-row INSERTs, either as soon as {@code batchSize} logs are waiting or every {@code flushIntervalMs}.
+ * Only one flush runs at a time, so ingestion holds at most one pool connection whatever the request rate.
+ * When the queue is full the configured {@link OverflowPolicy} applies. Logs still queued on shutdown are
+ * flushed before the connection pool closes.
+ * <p>
+ * A batch failing on a transient error is retried as a whole, then dropped and counted. A batch rejected by a
+ * constraint (unknown POI or user) is bisected until the offending logs are isolated: only those are dropped,
+ * the rest of the batch is written.
+ */
+@Service
+@Slf4j
+public class PoiAccessLogIngestionService {
+
+    private static final String RECORDS_METER = "poi.access_log.ingestion.records";
+
+    private final PoiAccessLogRepository repository;
+    private final PoiAccessLogMapper mapper;
+    private final MapperUtils mapperUtils;
+    private final PoiAccessLogValidator validator;
+    private final PlatformStatAggregator statAggregator;
+    private final AccessLogIngestionProperties properties;
+    private final BlockingQueue<PoiAccessLog> queue;
+    private final Sinks.Many<Boolean> flushTrigger = Sinks.many().multicast().directBestEffort();
+
+    private final Counter accepted;
+    private final Counter written;
+    private final Counter droppedOverflow;
+    private final Counter rejected;
+    private final Counter droppedFlushError;
+    private final Counter droppedInvalid;
+    private final DistributionSummary batchSizes;
+    private final Timer flushLatency;
+
+    private Disposable flushLoop;
+
+    public PoiAccessLogIngestionService(PoiAccessLogRepository repository,
+            PoiAccessLogMapper mapper,
+            MapperUtils mapperUtils,
+            PoiAccessLogValidator validator,
+            PlatformStatAggregator statAggregator,
+            AccessLogIngestionProperties properties,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.mapperUtils = mapperUtils;
+        this.validator = validator;
+        this.statAggregator = statAggregator;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("poi.access_log.ingestion.queue.depth", queue, BlockingQueue::size)
+                .description("Access logs waiting to be flushed")
+                .register(meterRegistry);
+        this.accepted = recordsCounter(meterRegistry, "accepted");
+        this.written = recordsCounter(meterRegistry, "written");
+        this.droppedOverflow = recordsCounter(meterRegistry, "dropped_overflow");
+        this.rejected = recordsCounter(meterRegistry, "rejected");
+        this.droppedFlushError = recordsCounter(meterRegistry, "dropped_flush_error");
+        this.droppedInvalid = recordsCounter(meterRegistry, "dropped_invalid");
+        this.batchSizes = DistributionSummary.builder("poi.access_log.ingestion.batch.size")
+                .description("Rows written per flush")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("poi.access_log.ingestion.flush.latency")
+                .description("Time taken to write one batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter recordsCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(RECORDS_METER).tag("outcome", outcome).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        flushLoop = Flux.merge(
+                        Flux.interval(Duration.ofMillis(properties.getFlushIntervalMs())).map(tick -> Boolean.TRUE),
+                        flushTrigger.asFlux())
+                // A flush already covers every tick that arrives while it runs
+                .onBackpressureDrop()
+                .concatMap(tick -> flushOnce(), 1)
+                .subscribe();
+        log.info("Ingestion groupée des logs d'accès activée (capacité: {}, lot: {}, intervalle: {} ms, politique: {})",
+                properties.getQueueCapacity(), properties.getBatchSize(), properties.getFlushIntervalMs(),
+                properties.getOverflowPolicy());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Validates the log and queues it for the next flush. The returned DTO carries the generated id; it is empty
+     * when the log was dropped under the {@code DROP_NEWEST} policy, since that id will never be written.
+     * Fails with {@link IllegalArgumentException} on invalid input and with {@link IllegalStateException}
+     * when the queue is full under the {@code REJECT} policy.
+     */
+    public Mono<PoiAccessLogDTO> submit(PoiAccessLogDTO dto) {
+        return validator.validate(dto)
+                .map(valid -> {
+                    PoiAccessLog entity = mapper.toEntity(valid);
+                    entity.setAccessId(UUID.randomUUID());
+                    if (entity.getAccessDatetime() == null)
+                        entity.setAccessDatetime(OffsetDateTime.now());
+                    entity.setMetadata(mapperUtils.mapToJsonNode(valid.getMetadata()));
+                    return entity;
+                })
+                .flatMap(entity -> switch (enqueue(entity)) {
+                    case QUEUED -> Mono.just(mapper.toDto(entity));
+                    case DROPPED -> Mono.empty();
+                    case REJECTED -> Mono.error(new IllegalStateException("File d'ingestion des logs d'accès pleine"));
+                });
+    }
+
+    enum EnqueueResult {
+        QUEUED,
+        /** Full queue, {@code DROP_NEWEST} policy: the log is not written */
+        DROPPED,
+        /** Full queue, {@code REJECT} policy */
+        REJECTED
+    }
+
+    EnqueueResult enqueue(PoiAccessLog entity) {
+        if (!queue.offer(entity)) {
+            switch (properties.getOverflowPolicy()) {
+                case REJECT -> {
+                    rejected.increment();
+                    return EnqueueResult.REJECTED;
+                }
+                case DROP_NEWEST -> {
+                    droppedOverflow.increment();
+                    return EnqueueResult.DROPPED;
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(entity)) {
+                        if (queue.poll() != null) {
+                            droppedOverflow.increment();
+                        }
+                    }
+                }
+            }
+        }
+        accepted.increment();
+        if (queue.size() >= properties.getBatchSize()) {
+            // Best effort: if the emission races with another one, the interval flush picks the logs up
+            flushTrigger.tryEmitNext(Boolean.TRUE);
+        }
+        return EnqueueResult.QUEUED;
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Drains up to one batch and writes it; does nothing when the queue is empty.
+     */
+    Mono<Void> flushOnce() {
+        return Mono.defer(() -> {
+            List<PoiAccessLog> batch = new ArrayList<>(properties.getBatchSize());
+            queue.drainTo(batch, properties.getBatchSize());
+            if (batch.isEmpty()) {
+                return Mono.empty();
+            }
+            Timer.Sample sample = Timer.start();
+            return Mono.defer(() -> repository.insertBatch(batch))
+                    .thenReturn(batch)
+                    // Constraint violations are not transient: retrying the same rows cannot succeed
+                    .retryWhen(Retry.backoff(properties.getMaxRetries(), Duration.ofMillis(200))
+                            .filter(error -> !(error instanceof DataIntegrityViolationException))
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .onErrorResume(DataIntegrityViolationException.class, error -> bisect(batch))
+                    .doOnSuccess(writtenLogs -> {
+                        sample.stop(flushLatency);
+                        batchSizes.record(writtenLogs.size());
+                        written.increment(writtenLogs.size());
+                        writtenLogs.forEach(accessLog -> statAggregator.recordView(accessLog.getPoiId(),
+                                accessLog.getPlatformType(), accessLog.getAccessDatetime()));
+                        log.debug("{} logs d'accès écrits", writtenLogs.size());
+                    })
+                    .onErrorResume(error -> {
+                        droppedFlushError.increment(batch.size());
+                        log.error("Échec de l'écriture d'un lot de {} logs d'accès, lot abandonné: {}",
+                                batch.size(), error.getMessage());
+                        return Mono.empty();
+                    })
+                    .doFinally(signal -> {
+                        if (queue.size() >= properties.getBatchSize()) {
+                            flushTrigger.tryEmitNext(Boolean.TRUE);
+                        }
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Writes the halves of a batch rejected by a constraint separately, down to single logs; a single log that
+     * is still rejected is dropped. Returns the logs written.
+     */
+    private Mono<List<PoiAccessLog>> bisect(List<PoiAccessLog> batch) {
+        if (batch.size() == 1) {
+            droppedInvalid.increment();
+            log.warn("Log d'accès {} rejeté par la base (POI ou utilisateur inconnu), abandonné",
+                    batch.get(0).getAccessId());
+            return Mono.just(List.of());
+        }
+        int middle = batch.size() / 2;
+        return Flux.just(batch.subList(0, middle), batch.subList(middle, batch.size()))
+                .concatMap(half -> Mono.defer(() -> repository.insertBatch(half))
+                        .thenReturn(half)
+                        .onErrorResume(DataIntegrityViolationException.class, error -> bisect(half)))
+                .collectList()
+                .map(halves -> {
+                    List<PoiAccessLog> writtenLogs = new ArrayList<>(batch.size());
+                    halves.forEach(writtenLogs::addAll);
+                    return writtenLogs;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushLoop != null) {
+            flushLoop.dispose();
+        }
+        if (queue.isEmpty()) {
+            return;
+        }
+        log.info("Vidage de {} logs d'accès avant arrêt", queue.size());
+        Duration timeout = Duration.ofMillis(properties.getShutdownTimeoutMs());
+        try {
+            flushOnce()
+                    .repeat(() -> !queue.isEmpty())
+                    .then()
+                    .block(timeout);
+        } catch (RuntimeException e) {
+            log.warn("Vidage des logs d'accès interrompu, {} logs perdus: {}", queue.size(), e.getMessage());
+        }
+    }
+}
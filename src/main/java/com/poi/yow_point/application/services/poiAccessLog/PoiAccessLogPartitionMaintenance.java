@@ -0,0 +1,73 @@
+package com.poi.yow_point.application.services.poiAccessLog;
+
+import com.poi.yow_point.infrastructure.configuration.AccessLogPartitionProperties;
+import com.poi.yow_point.infrastructure.repositories.poiAccessLog.PoiAccessLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps the monthly partitions of poi_access_log ahead of time and applies the retention by dropping
+ * whole partitions instead of deleting rows. Partition bounds are UTC months.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PoiAccessLogPartitionMaintenance {
+
+    private final PoiAccessLogRepository repository;
+    private final AccessLogPartitionProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${poi.access-log.partitioning.cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Mono<Integer> retention = properties.getRetentionDays() > 0
+                ? dropExpired(OffsetDateTime.now(ZoneOffset.UTC).minusDays(properties.getRetentionDays()))
+                : Mono.just(0);
+        ensureUpcomingPartitions()
+                .then(retention)
+                .subscribe(
+                        dropped -> log.info("Maintenance des partitions de logs d'accès terminée ({} supprimées)", dropped),
+                        error -> log.error("Erreur lors de la maintenance des partitions de logs d'accès: {}",
+                                error.getMessage()));
+    }
+
+    /**
+     * Creates the partitions of the current month and of the next {@code monthsAhead} months.
+     */
+    public Mono<Void> ensureUpcomingPartitions() {
+        LocalDate currentMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+        return Flux.range(0, properties.getMonthsAhead() + 1)
+                .map(currentMonth::plusMonths)
+                .concatMap(repository::ensurePartition)
+                .doOnNext(partition -> log.debug("Partition de logs d'accès prête: {}", partition))
+                .then();
+    }
+
+    /**
+     * Drops the partitions entirely older than {@code beforeDate}.
+     */
+    public Mono<Integer> dropExpired(OffsetDateTime beforeDate) {
+        return repository.dropPartitionsBefore(beforeDate)
+                .doOnNext(dropped -> {
+                    if (dropped > 0)
+                        log.info("{} partitions de logs d'accès antérieures à {} supprimées", dropped, beforeDate);
+                });
+    }
+}
@@ -1,5 +1,6 @@
 package com.poi.yow_point.application.services.poiAccessLog;
 
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.PoiAccessLogDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -32,8 +33,17 @@ public interface PoiAccessLogService {
 
     Flux<PoiAccessLogDTO> getRecentAccessLogsByPoiId(UUID poiId, OffsetDateTime since);
 
+    /**
+     * @deprecated OFFSET pagination, use {@link #getAccessLogsPage(UUID, String, int)}.
+     */
+    @Deprecated
     Flux<PoiAccessLogDTO> getAccessLogsByPoiIdWithPagination(UUID poiId, int page, int size);
 
+    /**
+     * Keyset page of access logs, most recent first; {@code poiId} is optional.
+     */
+    Mono<CursorPage<PoiAccessLogDTO>> getAccessLogsPage(UUID poiId, String cursor, int size);
+
     Mono<Long> countAccessLogsByPoiId(UUID poiId);
 
     Mono<Long> countAccessLogsByPoiIdAndAccessType(UUID poiId, String accessType);
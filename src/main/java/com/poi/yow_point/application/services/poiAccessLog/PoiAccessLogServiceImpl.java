@@ -2,9 +2,13 @@ package com.poi.yow_point.application.services.poiAccessLog;
 
 import com.poi.yow_point.application.mappers.MapperUtils;
 import com.poi.yow_point.application.mappers.PoiAccessLogMapper;
+import com.poi.yow_point.application.services.poiPlatformStat.PlatformStatAggregator;
 import com.poi.yow_point.application.validation.PoiAccessLogValidator;
+import com.poi.yow_point.infrastructure.configuration.AccessLogPartitionProperties;
 //import com.poi.yow_point.infrastructure.entities.PoiAccessLog;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 import com.poi.yow_point.infrastructure.repositories.poiAccessLog.PoiAccessLogRepository;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.PoiAccessLogDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +30,8 @@ public class PoiAccessLogServiceImpl implements PoiAccessLogService {
     private final PoiAccessLogMapper mapper;
     private final MapperUtils mapperUtils;
     private final PoiAccessLogValidator validator;
+    private final AccessLogPartitionProperties partitionProperties;
+    private final PlatformStatAggregator statAggregator;
 
     @Override
     @Transactional
@@ -40,6 +46,8 @@ public class PoiAccessLogServiceImpl implements PoiAccessLogService {
                         entity.setAccessDatetime(OffsetDateTime.now());
                 })
                 .flatMap(repository::save)
+                .doOnNext(saved -> statAggregator.recordView(saved.getPoiId(), saved.getPlatformType(),
+                        saved.getAccessDatetime()))
                 .map(mapper::toDto)
                 .doOnSuccess(result -> log.info("Log d'accès créé avec succès: {}", result.getAccessId()))
                 .doOnError(error -> log.error("Erreur lors de la création du log d'accès: {}", error.getMessage()));
@@ -134,12 +142,23 @@ public class PoiAccessLogServiceImpl implements PoiAccessLogService {
     }
 
     @Override
+    @Deprecated
     public Flux<PoiAccessLogDTO> getAccessLogsByPoiIdWithPagination(UUID poiId, int page, int size) {
         int offset = page * size;
         log.debug("Recherche paginée des logs d'accès pour POI: {} (page: {}, taille: {})", poiId, page, size);
         return repository.findByPoiIdWithPagination(poiId, size, offset).map(mapper::toDto);
     }
 
+    @Override
+    public Mono<CursorPage<PoiAccessLogDTO>> getAccessLogsPage(UUID poiId, String cursor, int size) {
+        log.debug("Recherche paginée (keyset) des logs d'accès pour POI: {} (taille: {})", poiId, size);
+        return Mono.defer(() -> repository.findPageAfter(poiId, KeysetCursor.decode(cursor), size + 1)
+                .collectList()
+                .map(rows -> CursorPage.of(rows, size,
+                        accessLog -> KeysetCursor.of(accessLog.getAccessDatetime(), accessLog.getAccessId()).encode(),
+                        mapper::toDto)));
+    }
+
     @Override
     public Mono<Long> countAccessLogsByPoiId(UUID poiId) {
         log.debug("Comptage des accès pour POI: {}", poiId);
@@ -176,7 +195,14 @@ public class PoiAccessLogServiceImpl implements PoiAccessLogService {
     @Transactional
     public Mono<Long> deleteOldLogs(OffsetDateTime beforeDate) {
         log.info("Suppression des logs d'accès antérieurs à: {}", beforeDate);
-        return repository.deleteOldLogs(beforeDate)
+        // Sur la table partitionnée, les mois entiers sont supprimés par DROP de partition ;
+        // le DELETE ne touche plus que la partition du mois de beforeDate et la partition par défaut
+        Mono<Integer> droppedPartitions = partitionProperties.isEnabled()
+                ? repository.dropPartitionsBefore(beforeDate)
+                : Mono.just(0);
+        return droppedPartitions
+                .doOnNext(dropped -> log.info("Nombre de partitions supprimées: {}", dropped))
+                .then(repository.deleteOldLogs(beforeDate))
                 .doOnSuccess(count -> log.info("Nombre de logs supprimés: {}", count))
                 .doOnError(
                         error -> log.error("Erreur lors de la suppression des anciens logs: {}", error.getMessage()));
@@ -0,0 +1,198 @@
+package com.poi.yow_point.application.services.poiPlatformStat;
+
+import com.poi.yow_point.infrastructure.configuration.PlatformStatRollupProperties;
+import com.poi.yow_point.infrastructure.entities.PoiPlatformStat;
+import com.poi.yow_point.infrastructure.repositories.poiPlatformStat.PoiPlatformStatRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Streaming rollup of access logs and review events into poi_platform_stat.
+ * <p>
+ * Events only bump in-memory counters keyed by (poi, platform, day); a background stage periodically
+ * takes the pending counters and adds them to the stored rows with one {@code INSERT ... ON CONFLICT DO UPDATE}
+ * per batch. Counters of a failed upsert are merged back and retried on the next flush; counters of a POI
+ * deleted in the meantime are dropped by the upsert, so one such row cannot fail its batch on every flush.
+ * Dashboards therefore read pre-aggregated rows instead of grouping the raw access log.
+ */
+@Component
+@Slf4j
+public class PlatformStatAggregator {
+
+    private static final String UNKNOWN_PLATFORM = "UNKNOWN";
+
+    private final PoiPlatformStatRepository repository;
+    private final PlatformStatRollupProperties properties;
+    private final ZoneId zone;
+    private final Map<StatKey, Counters> pending = new ConcurrentHashMap<>();
+    private final Counter flushedRows;
+    private final Counter failedFlushes;
+
+    private Disposable flushLoop;
+
+    public PlatformStatAggregator(PoiPlatformStatRepository repository,
+            PlatformStatRollupProperties properties,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.zone = ZoneId.of(properties.getZone());
+        Gauge.builder("poi.platform_stat.rollup.pending", pending, Map::size)
+                .description("(poi, platform, day) rows waiting to be upserted")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("poi.platform_stat.rollup.rows").register(meterRegistry);
+        this.failedFlushes = Counter.builder("poi.platform_stat.rollup.failures").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        flushLoop = Flux.interval(Duration.ofMillis(properties.getFlushIntervalMs()))
+                .onBackpressureDrop()
+                .concatMap(tick -> flush(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushLoop != null) {
+            flushLoop.dispose();
+            flush().block(Duration.ofSeconds(10));
+        }
+    }
+
+    public void recordView(UUID poiId, String platformType, OffsetDateTime at) {
+        record(poiId, platformType, at, Counters::addView);
+    }
+
+    public void recordReview(UUID poiId, String platformType, OffsetDateTime at) {
+        record(poiId, platformType, at, Counters::addReview);
+    }
+
+    public void recordLike(UUID poiId, String platformType) {
+        record(poiId, platformType, null, Counters::addLike);
+    }
+
+    public void recordDislike(UUID poiId, String platformType) {
+        record(poiId, platformType, null, Counters::addDislike);
+    }
+
+    private void record(UUID poiId, String platformType, OffsetDateTime at, Consumer<Counters> bump) {
+        if (!properties.isEnabled() || poiId == null) {
+            return;
+        }
+        LocalDate day = at != null ? at.atZoneSameInstant(zone).toLocalDate() : LocalDate.now(zone);
+        String platform = platformType == null || platformType.isBlank() ? UNKNOWN_PLATFORM : platformType;
+        // compute() and the remove() in flush() are atomic per key, so no increment is lost
+        pending.compute(new StatKey(poiId, platform, day), (key, counters) -> {
+            Counters target = counters != null ? counters : new Counters();
+            bump.accept(target);
+            return target;
+        });
+    }
+
+    /**
+     * Upserts every pending counter; does nothing when there is none.
+     */
+    Mono<Void> flush() {
+        return Mono.defer(() -> {
+            List<PoiPlatformStat> increments = new ArrayList<>();
+            for (StatKey key : pending.keySet()) {
+                Counters counters = pending.remove(key);
+                if (counters != null) {
+                    increments.add(counters.toIncrement(key));
+                }
+            }
+            if (increments.isEmpty()) {
+                return Mono.empty();
+            }
+            int batchSize = properties.getBatchSize();
+            return Flux.range(0, (increments.size() + batchSize - 1) / batchSize)
+                    .map(i -> increments.subList(i * batchSize, Math.min(increments.size(), (i + 1) * batchSize)))
+                    .concatMap(batch -> repository.upsertIncrements(batch)
+                            .doOnSuccess(rows -> flushedRows.increment(batch.size()))
+                            .onErrorResume(error -> {
+                                failedFlushes.increment();
+                                log.error("Échec de l'agrégation de {} statistiques de plateforme, nouvel essai au prochain cycle: {}",
+                                        batch.size(), error.getMessage());
+                                batch.forEach(this::restore);
+                                return Mono.empty();
+                            }))
+                    .then();
+        });
+    }
+
+    private void restore(PoiPlatformStat increment) {
+        StatKey key = new StatKey(increment.getPoiId(), increment.getPlatformType(), increment.getStatDate());
+        pending.compute(key, (k, counters) -> {
+            Counters target = counters != null ? counters : new Counters();
+            target.views += increment.getViews();
+            target.reviews += increment.getReviews();
+            target.likes += increment.getLikes();
+            target.dislikes += increment.getDislikes();
+            return target;
+        });
+    }
+
+    private record StatKey(UUID poiId, String platformType, LocalDate day) {
+    }
+
+    /**
+     * Mutated only inside {@link ConcurrentHashMap#compute}, hence plain fields.
+     */
+    private static final class Counters {
+        private int views;
+        private int reviews;
+        private int likes;
+        private int dislikes;
+
+        void addView() {
+            views++;
+        }
+
+        void addReview() {
+            reviews++;
+        }
+
+        void addLike() {
+            likes++;
+        }
+
+        void addDislike() {
+            dislikes++;
+        }
+
+        PoiPlatformStat toIncrement(StatKey key) {
+            return PoiPlatformStat.builder()
+                    .poiId(key.poiId())
+                    .platformType(key.platformType())
+                    .statDate(key.day())
+                    .views(views)
+                    .reviews(reviews)
+                    .likes(likes)
+                    .dislikes(dislikes)
+                    .build();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.poi.yow_point.application.services.poiPlatformStat;
 
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.PoiPlatformStatDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -13,6 +14,11 @@ public interface PoiPlatformStatService {
 
     Flux<PoiPlatformStatDTO> getAllStats();
 
+    /**
+     * Keyset page of statistics, most recent day first; {@code poiId} is optional.
+     */
+    Mono<CursorPage<PoiPlatformStatDTO>> getStatsPage(UUID poiId, String cursor, int size);
+
     Mono<PoiPlatformStatDTO> getStatById(UUID statId);
 
     //Flux<PoiPlatformStatDTO> getStatsByOrgId(UUID orgId);
@@ -25,6 +31,12 @@ public interface PoiPlatformStatService {
 
     Flux<PoiPlatformStatDTO> getStatsByDateRange(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Per-day totals of a POI over the rolled-up rows; all platforms are summed when {@code platformType} is null.
+     */
+    Flux<PoiPlatformStatDTO> getDailyTotalsByPoiId(UUID poiId, String platformType, LocalDate startDate,
+            LocalDate endDate);
+
     //Flux<PoiPlatformStatDTO> getStatsByOrgIdAndDateRange(UUID orgId, LocalDate startDate, LocalDate endDate);
 
     Mono<PoiPlatformStatDTO> updateStat(UUID statId, PoiPlatformStatDTO statDTO);
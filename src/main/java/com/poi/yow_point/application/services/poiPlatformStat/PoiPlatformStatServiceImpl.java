@@ -3,7 +3,9 @@ package com.poi.yow_point.application.services.poiPlatformStat;
 import com.poi.yow_point.application.mappers.PoiPlatformStatMapper;
 import com.poi.yow_point.application.validation.PoiPlatformStatValidator;
 import com.poi.yow_point.infrastructure.entities.PoiPlatformStat;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 import com.poi.yow_point.infrastructure.repositories.poiPlatformStat.PoiPlatformStatRepository;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.PoiPlatformStatDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -64,6 +66,16 @@ public class PoiPlatformStatServiceImpl implements PoiPlatformStatService {
                 .doOnComplete(() -> log.info("Retrieved all statistics"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<CursorPage<PoiPlatformStatDTO>> getStatsPage(UUID poiId, String cursor, int size) {
+        return Mono.defer(() -> repository.findPageAfter(poiId, KeysetCursor.decode(cursor), size + 1)
+                .collectList()
+                .map(rows -> CursorPage.of(rows, size,
+                        stat -> KeysetCursor.of(stat.getStatDate(), stat.getStatId()).encode(),
+                        mapper::toDTO)));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Mono<PoiPlatformStatDTO> getStatById(UUID statId) {
@@ -117,6 +129,16 @@ public class PoiPlatformStatServiceImpl implements PoiPlatformStatService {
                 .doOnComplete(() -> log.info("Retrieved statistics between {} and {}", startDate, endDate));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<PoiPlatformStatDTO> getDailyTotalsByPoiId(UUID poiId, String platformType, LocalDate startDate,
+            LocalDate endDate) {
+        return repository.findDailyTotals(poiId, platformType, startDate, endDate)
+                .map(mapper::toDTO)
+                .doOnComplete(() -> log.info("Retrieved daily totals for POI {} between {} and {}", poiId, startDate,
+                        endDate));
+    }
+
     /* 
     @Override
     @Transactional(readOnly = true)
@@ -1,6 +1,7 @@
 package com.poi.yow_point.application.services.poiReview;
 
 import com.poi.yow_point.application.mappers.PoiReviewMapper;
+import com.poi.yow_point.application.services.poiPlatformStat.PlatformStatAggregator;
 import com.poi.yow_point.application.services.websocket.PoiEventPublisher;
 import com.poi.yow_point.infrastructure.entities.PoiReview;
 import com.poi.yow_point.infrastructure.repositories.poiReview.PoiReviewRepository;
@@ -28,6 +29,7 @@ public class PoiReviewServiceImpl implements PoiReviewService {
     private final PoiReviewValidator poiReviewValidator;
     private final R2dbcEntityTemplate entityTemplate;
     private final PoiEventPublisher eventPublisher;
+    private final PlatformStatAggregator statAggregator;
 
     @Override
     public Mono<PoiReviewDTO> createReview(PoiReviewDTO reviewDTO) {
@@ -41,6 +43,8 @@ public class PoiReviewServiceImpl implements PoiReviewService {
                     return review;
                 }))
                 .flatMap(entityTemplate::insert)
+                .doOnNext(saved -> statAggregator.recordReview(saved.getPoiId(), saved.getPlatformType(),
+                        saved.getCreatedAt()))
                 .map(poiReviewMapper::toDTO)
                 .doOnSuccess(savedReview -> log.info("Review created with ID: {}", savedReview.getReviewId()))
                 .doOnError(error -> log.error("Error creating review: {}", error.getMessage(), error));
@@ -175,6 +179,7 @@ public class PoiReviewServiceImpl implements PoiReviewService {
                     return review;
                 })
                 .flatMap(poiReviewRepository::save)
+                .doOnNext(saved -> statAggregator.recordLike(saved.getPoiId(), saved.getPlatformType()))
                 .map(poiReviewMapper::toDTO)
                 .doOnSuccess(review -> log.info("Likes incremented for review: {}", reviewId));
     }
@@ -191,6 +196,7 @@ public class PoiReviewServiceImpl implements PoiReviewService {
                     return review;
                 })
                 .flatMap(poiReviewRepository::save)
+                .doOnNext(saved -> statAggregator.recordDislike(saved.getPoiId(), saved.getPlatformType()))
                 .map(poiReviewMapper::toDTO)
                 .doOnSuccess(review -> log.info("Dislikes incremented for review: {}", reviewId));
     }
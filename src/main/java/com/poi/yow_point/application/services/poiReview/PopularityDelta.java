@@ -0,0 +1,76 @@
+package com.poi.yow_point.application.services.poiReview;
+
+import com.poi.yow_point.infrastructure.entities.Review;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Change brought by one review write to the popularity state of its POI (freshness-weighted rating sum and
+ * total weight) and to the global rating totals. {@code poiId} is null for blog and podcast reviews, which only
+ * move the global totals.
+ */
+public record PopularityDelta(UUID poiId, double weightedSum, double totalWeight, double ratingSum, long ratingCount) {
+
+    private static final double MILLIS_PER_DAY = 86_400_000.0;
+
+    public static PopularityDelta created(Review review) {
+        if (review.getRating() == null) {
+            return none(review.getPoiId());
+        }
+        double weight = weightOf(review.getCreatedAt(), Instant.now());
+        return new PopularityDelta(review.getPoiId(), review.getRating() * weight, weight, review.getRating(), 1);
+    }
+
+    public static PopularityDelta deleted(Review review) {
+        if (review.getRating() == null) {
+            return none(review.getPoiId());
+        }
+        double weight = weightOf(review.getCreatedAt(), Instant.now());
+        return new PopularityDelta(review.getPoiId(), -review.getRating() * weight, -weight, -review.getRating(), -1);
+    }
+
+    /**
+     * @param previousRating rating before the update, {@code review} holding the new one
+     */
+    public static PopularityDelta updated(Review review, Integer previousRating) {
+        if (previousRating == null) {
+            return created(review);
+        }
+        double weight = weightOf(review.getCreatedAt(), Instant.now());
+        if (review.getRating() == null) {
+            return new PopularityDelta(review.getPoiId(), -previousRating * weight, -weight, -previousRating, -1);
+        }
+        int ratingChange = review.getRating() - previousRating;
+        return new PopularityDelta(review.getPoiId(), ratingChange * weight, 0, ratingChange, 0);
+    }
+
+    private static PopularityDelta none(UUID poiId) {
+        return new PopularityDelta(poiId, 0, 0, 0, 0);
+    }
+
+    /**
+     * Current weight of a review: {@code exp(-lambda * age in days)}.
+     */
+    static double weightOf(OffsetDateTime createdAt, Instant now) {
+        if (createdAt == null) {
+            return 1.0;
+        }
+        double ageDays = Math.max(0, Duration.between(createdAt.toInstant(), now).toMillis() / MILLIS_PER_DAY);
+        return Math.exp(-PopularityScoreService.LAMBDA * ageDays);
+    }
+
+    /**
+     * Sum of two deltas of the same POI.
+     */
+    public PopularityDelta plus(PopularityDelta other) {
+        return new PopularityDelta(poiId, weightedSum + other.weightedSum, totalWeight + other.totalWeight,
+                ratingSum + other.ratingSum, ratingCount + other.ratingCount);
+    }
+
+    public boolean isEmpty() {
+        return weightedSum == 0 && totalWeight == 0 && ratingSum == 0 && ratingCount == 0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.poi.yow_point.application.services.poiReview;
+
+import com.poi.yow_point.infrastructure.configuration.PopularityRecomputeProperties;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepository;
+import com.poi.yow_point.infrastructure.repositories.poiReview.PopularityState;
+import com.poi.yow_point.infrastructure.repositories.poiReview.ReviewRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Nightly recomputation of every popularity score, set-based instead of one rescan per POI.
+ * <p>
+ * The review table is read once, grouped by POI and decayed to now in SQL; the resulting rows are streamed
+ * and written back in chunks (state upsert plus {@code UPDATE ... FROM (VALUES ...)} on point_of_interest),
+ * one chunk at a time, each in its own transaction. A run therefore holds at most two connections: the
+ * streaming read and the chunk write. The maintained global rating totals are resynchronised first, which also
+ * corrects any drift of the incremental path. A failed chunk is counted and skipped; runs never overlap.
+ * <p>
+ * A POI deleted since the read is skipped. A review delta applied to a POI after the read is newer than the
+ * streamed state, so that POI keeps its incremental state and score until the next run. A delta whose
+ * transaction started before the read but committed after it is the one case still overwritten; the next run
+ * corrects it.
+ */
+@Component
+@Slf4j
+public class PopularityRecomputeJob {
+
+    private final ReviewRepository reviewRepository;
+    private final PointOfInterestRepository poiRepository;
+    private final PopularityRecomputeProperties properties;
+    private final TransactionalOperator transactionalOperator;
+    private final Timer runDuration;
+    private final Counter rowsProcessed;
+    private final Counter chunkFailures;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile RecomputeReport lastReport;
+
+    public PopularityRecomputeJob(ReviewRepository reviewRepository,
+            PointOfInterestRepository poiRepository,
+            PopularityRecomputeProperties properties,
+            ReactiveTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.reviewRepository = reviewRepository;
+        this.poiRepository = poiRepository;
+        this.properties = properties;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.runDuration = Timer.builder("poi.popularity.recompute.duration").register(meterRegistry);
+        this.rowsProcessed = Counter.builder("poi.popularity.recompute.rows").register(meterRegistry);
+        this.chunkFailures = Counter.builder("poi.popularity.recompute.failures").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${poi.popularity.recompute.cron:0 0 2 * * ?}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            run().subscribe(
+                    report -> { },
+                    error -> log.error("Popularity recompute failed: {}", error.getMessage(), error));
+        }
+    }
+
+    /**
+     * Runs a full recomputation; completes empty if one is already in progress.
+     */
+    public Mono<RecomputeReport> run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Popularity recompute already running, skipping");
+            return Mono.empty();
+        }
+        log.info("Starting popularity recompute for all POIs");
+        Timer.Sample sample = Timer.start();
+        AtomicLong rows = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+
+        return reviewRepository.resyncRatingTotals()
+                .flatMapMany(globalAvg -> reviewRepository.streamPopularityStates(PopularityScoreService.LAMBDA)
+                        .buffer(properties.getChunkSize())
+                        .concatMap(chunk -> writeChunk(chunk, globalAvg)
+                                .doOnSuccess(unused -> {
+                                    rowsProcessed.increment(chunk.size());
+                                    log.debug("Popularity recompute progress: {} POIs", rows.addAndGet(chunk.size()));
+                                })
+                                .onErrorResume(error -> {
+                                    failures.incrementAndGet();
+                                    chunkFailures.increment();
+                                    log.error("Popularity recompute chunk of {} POIs failed: {}", chunk.size(),
+                                            error.getMessage());
+                                    return Mono.empty();
+                                }), 1))
+                .then(Mono.fromCallable(() -> new RecomputeReport(rows.get(), failures.get(),
+                        Duration.ofNanos(sample.stop(runDuration)))))
+                .doOnNext(report -> {
+                    lastReport = report;
+                    log.info("Popularity recompute done: {} POIs in {} ms, {} failed chunks",
+                            report.rows(), report.duration().toMillis(), report.failedChunks());
+                })
+                .doFinally(signal -> running.set(false));
+    }
+
+    // State and score of a chunk commit together; only the POIs whose state was written get a new score
+    private Mono<Void> writeChunk(List<PopularityState> chunk, double globalAvg) {
+        return reviewRepository.replacePopularityStates(chunk)
+                .collect(Collectors.toSet())
+                .flatMap(written -> poiRepository.updatePopularityScores(scores(chunk, written, globalAvg)))
+                .as(transactionalOperator::transactional)
+                .then();
+    }
+
+    private static Map<UUID, Float> scores(List<PopularityState> chunk, Set<UUID> written, double globalAvg) {
+        Map<UUID, Float> scores = new LinkedHashMap<>();
+        for (PopularityState state : chunk) {
+            if (written.contains(state.getPoiId())) {
+                scores.put(state.getPoiId(), (float) PopularityScoreService.score(state.getWeightedSum(),
+                        state.getTotalWeight(), globalAvg));
+            }
+        }
+        return scores;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public RecomputeReport getLastReport() {
+        return lastReport;
+    }
+
+    public record RecomputeReport(long rows, long failedChunks, Duration duration) {
+    }
+}
@@ -1,19 +1,17 @@
 package com.poi.yow_point.application.services.poiReview;
 
-import com.poi.yow_point.infrastructure.entities.PointOfInterest;
 import com.poi.yow_point.infrastructure.entities.Review;
 import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepository;
 import com.poi.yow_point.infrastructure.repositories.poiReview.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 @Slf4j
@@ -25,11 +23,57 @@ public class PopularityScoreService {
     private final PointOfInterestRepository poiRepository;
 
     // lambda for half-life of 180 days: ln(2) / 180
-    private static final double LAMBDA = 0.00385;
+    static final double LAMBDA = 0.00385;
     private static final double M_THRESHOLD = 5.0;
+    // Below this total weight the POI is treated as having no review (guards against rounding after deletes)
+    private static final double MIN_WEIGHT = 1e-9;
 
     /**
-     * Recalculate and update the popularity score for a specific POI.
+     * Applies the change of one review write in constant time: the stored state of the POI is decayed to now
+     * and shifted by the delta, the global rating totals are shifted, and the score is recomputed from both.
+     */
+    @Transactional
+    public Mono<Void> applyDelta(PopularityDelta delta) {
+        if (delta.isEmpty()) {
+            return Mono.empty();
+        }
+        log.debug("Applying popularity delta for POI {}: {}", delta.poiId(), delta);
+
+        Mono<Double> globalAverage = reviewRepository.applyRatingTotalsDelta(delta.ratingSum(), delta.ratingCount());
+        if (delta.poiId() == null) {
+            return globalAverage.then();
+        }
+        return globalAverage.flatMap(globalAvg -> reviewRepository
+                .applyPopularityDelta(delta.poiId(), delta.weightedSum(), delta.totalWeight(), LAMBDA)
+                .flatMap(state -> poiRepository.updatePopularityScore(delta.poiId(),
+                        (float) score(state.getWeightedSum(), state.getTotalWeight(), globalAvg))))
+                .then();
+    }
+
+    /**
+     * Applies several deltas, at most one per POI: the global totals are shifted once by their sum,
+     * then each POI state and score is updated in turn.
+     */
+    @Transactional
+    public Mono<Void> applyDeltas(Collection<PopularityDelta> deltas) {
+        double ratingSum = 0;
+        long ratingCount = 0;
+        for (PopularityDelta delta : deltas) {
+            ratingSum += delta.ratingSum();
+            ratingCount += delta.ratingCount();
+        }
+        return reviewRepository.applyRatingTotalsDelta(ratingSum, ratingCount)
+                .flatMapMany(globalAvg -> Flux.fromIterable(deltas)
+                        .filter(delta -> delta.poiId() != null && (delta.weightedSum() != 0 || delta.totalWeight() != 0))
+                        .concatMap(delta -> reviewRepository
+                                .applyPopularityDelta(delta.poiId(), delta.weightedSum(), delta.totalWeight(), LAMBDA)
+                                .flatMap(state -> poiRepository.updatePopularityScore(delta.poiId(),
+                                        (float) score(state.getWeightedSum(), state.getTotalWeight(), globalAvg)))))
+                .then();
+    }
+
+    /**
+     * Recalculate the popularity score for a specific POI from all its reviews and rebase its stored state.
      */
     @Transactional
     public Mono<Void> updatePoiPopularityScore(UUID poiId) {
@@ -37,19 +81,10 @@ public class PopularityScoreService {
 
         return Mono.zip(
                 reviewRepository.findByPoiId(poiId).collectList(),
-                reviewRepository.findGlobalAverageRating(),
-                reviewRepository.countTotalReviews()
+                reviewRepository.findGlobalAverageRating()
         ).flatMap(tuple -> {
             var reviews = tuple.getT1();
             double globalAvg = tuple.getT2();
-            
-            if (reviews.isEmpty()) {
-                return poiRepository.findById(poiId)
-                        .flatMap(poi -> {
-                            poi.setPopularityScore((float) globalAvg);
-                            return poiRepository.save(poi);
-                        }).then();
-            }
 
             // Calculate freshness-weighted sum of ratings and sum of weights
             double weightedSum = 0;
@@ -57,34 +92,31 @@ public class PopularityScoreService {
             Instant now = Instant.now();
 
             for (Review review : reviews) {
-                OffsetDateTime reviewDate = review.getCreatedAt();
-                long days = Duration.between(reviewDate.toInstant(), now).toDays();
-                double weight = Math.exp(-LAMBDA * days);
-                
+                if (review.getRating() == null) {
+                    continue;
+                }
+                double weight = PopularityDelta.weightOf(review.getCreatedAt(), now);
                 weightedSum += review.getRating() * weight;
                 totalWeight += weight;
             }
 
-            double averageRating = weightedSum / totalWeight;
-            
-            // Bayesian Average formula: (v / (v + m)) * R + (m / (v + m)) * C
-            double score = (totalWeight / (totalWeight + M_THRESHOLD)) * averageRating +
-                           (M_THRESHOLD / (totalWeight + M_THRESHOLD)) * globalAvg;
-
-            return poiRepository.findById(poiId)
-                    .flatMap(poi -> {
-                        poi.setPopularityScore((float) score);
-                        return poiRepository.save(poi);
-                    }).then();
+            float score = (float) score(weightedSum, totalWeight, globalAvg);
+            return reviewRepository.replacePopularityState(poiId, weightedSum, totalWeight)
+                    .then(poiRepository.updatePopularityScore(poiId, score))
+                    .then();
         });
     }
 
-    @Scheduled(cron = "0 0 2 * * ?")
-    public void updateAllPoiPopularityScores() {
-        log.info("Triggering batch update for all POI popularity scores");
-        poiRepository.findAll()
-                .flatMap(poi -> updatePoiPopularityScore(poi.getPoiId()))
-                .then()
-                .subscribe();
+    /**
+     * Bayesian average of the freshness-weighted rating, pulled towards the global average for few reviews:
+     * (v / (v + m)) * R + (m / (v + m)) * C
+     */
+    static double score(double weightedSum, double totalWeight, double globalAvg) {
+        if (totalWeight <= MIN_WEIGHT) {
+            return globalAvg;
+        }
+        double averageRating = weightedSum / totalWeight;
+        return (totalWeight / (totalWeight + M_THRESHOLD)) * averageRating +
+               (M_THRESHOLD / (totalWeight + M_THRESHOLD)) * globalAvg;
     }
 }
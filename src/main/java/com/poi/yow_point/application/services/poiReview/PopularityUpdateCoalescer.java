@@ -0,0 +1,147 @@
+package com.poi.yow_point.application.services.poiReview;
+
+import com.poi.yow_point.infrastructure.configuration.PopularityCoalescingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Debounces the popularity updates caused by review writes.
+ * <p>
+ * Review writes submit their {@link PopularityDelta} and return immediately. Deltas of the same POI are summed
+ * until the end of the window, then every dirty POI is updated once through
+ * {@link PopularityScoreService#applyDeltas}, so a burst of N reviews on a trending POI costs one update instead
+ * of N. Deltas whose update fails are merged back and retried with the next window; deltas of a POI deleted in
+ * the meantime are dropped by the update itself, so they cannot fail the window forever.
+ * <p>
+ * A delta submitted inside a transaction is only queued once that transaction commits: a rolled-back review
+ * write does not count.
+ */
+@Component
+@Slf4j
+public class PopularityUpdateCoalescer {
+
+    // ConcurrentHashMap has no null key: blog and podcast deltas (no POI) are gathered under this one
+    private static final UUID NO_POI = new UUID(0L, 0L);
+
+    private final PopularityScoreService popularityScoreService;
+    private final PopularityCoalescingProperties properties;
+    private final Map<UUID, PopularityDelta> dirty = new ConcurrentHashMap<>();
+    private final Counter submitted;
+    private final Counter applied;
+
+    private Disposable flushLoop;
+
+    public PopularityUpdateCoalescer(PopularityScoreService popularityScoreService,
+            PopularityCoalescingProperties properties,
+            MeterRegistry meterRegistry) {
+        this.popularityScoreService = popularityScoreService;
+        this.properties = properties;
+        Gauge.builder("poi.popularity.coalescer.dirty", dirty, Map::size)
+                .description("POIs waiting for their popularity update")
+                .register(meterRegistry);
+        this.submitted = Counter.builder("poi.popularity.coalescer.submitted").register(meterRegistry);
+        this.applied = Counter.builder("poi.popularity.coalescer.applied").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        flushLoop = Flux.interval(Duration.ofMillis(properties.getWindowMs()))
+                .onBackpressureDrop()
+                .concatMap(tick -> flush(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushLoop != null) {
+            flushLoop.dispose();
+            flush().block(Duration.ofSeconds(10));
+        }
+    }
+
+    /**
+     * Records the change of one review write. When coalescing is disabled the update is applied inline (in the
+     * caller's transaction, if any) and the returned Mono completes after it; otherwise it completes immediately
+     * and the delta is queued after the caller's transaction commits, or at once outside a transaction.
+     */
+    public Mono<Void> submit(PopularityDelta delta) {
+        if (delta.isEmpty()) {
+            return Mono.empty();
+        }
+        if (!properties.isEnabled()) {
+            return popularityScoreService.applyDelta(delta);
+        }
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(synchronization -> synchronization.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        enqueue(delta);
+                        return Mono.empty();
+                    }
+                }))
+                .switchIfEmpty(Mono.fromRunnable(() -> enqueue(delta)))
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> enqueue(delta)))
+                .then();
+    }
+
+    private void enqueue(PopularityDelta delta) {
+        submitted.increment();
+        merge(delta);
+    }
+
+    private void merge(PopularityDelta delta) {
+        dirty.merge(delta.poiId() != null ? delta.poiId() : NO_POI, delta, PopularityDelta::plus);
+    }
+
+    /**
+     * Applies every pending delta; does nothing when there is none.
+     */
+    Mono<Void> flush() {
+        return Mono.defer(() -> {
+            List<PopularityDelta> batch = new ArrayList<>(dirty.size());
+            for (UUID poiId : dirty.keySet()) {
+                PopularityDelta delta = dirty.remove(poiId);
+                if (delta != null && !delta.isEmpty()) {
+                    batch.add(delta);
+                }
+            }
+            if (batch.isEmpty()) {
+                return Mono.empty();
+            }
+            return popularityScoreService.applyDeltas(batch)
+                    .doOnSuccess(unused -> {
+                        applied.increment(batch.size());
+                        log.debug("Popularity updated for {} coalesced POIs", batch.size());
+                    })
+                    .onErrorResume(error -> {
+                        log.error("Coalesced popularity update of {} POIs failed, retrying next window: {}",
+                                batch.size(), error.getMessage());
+                        batch.forEach(this::merge);
+                        return Mono.empty();
+                    });
+        });
+    }
+}
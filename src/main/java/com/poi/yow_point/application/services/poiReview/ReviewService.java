@@ -13,6 +13,7 @@ public interface ReviewService {
     Mono<Object> getReviewById(UUID reviewId); // Returns specific DTO or Generic
 
     Flux<PoiReviewResponseDTO> getReviewsByPoiId(UUID poiId);
+    Mono<CursorPage<PoiReviewResponseDTO>> getReviewsPageByPoiId(UUID poiId, String cursor, int size);
     Flux<BlogReviewResponseDTO> getReviewsByBlogId(UUID blogId);
     Flux<PodcastReviewResponseDTO> getReviewsByPodcastId(UUID podcastId);
 
@@ -1,7 +1,9 @@
 package com.poi.yow_point.application.services.poiReview;
 
+import com.poi.yow_point.application.services.poiPlatformStat.PlatformStatAggregator;
 import com.poi.yow_point.application.services.websocket.PoiEventPublisher;
 import com.poi.yow_point.infrastructure.entities.Review;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 import com.poi.yow_point.infrastructure.repositories.poiReview.ReviewRepository;
 import com.poi.yow_point.presentation.dto.*;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +25,8 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final R2dbcEntityTemplate entityTemplate;
-    private final PopularityScoreService popularityScoreService;
+    private final PopularityUpdateCoalescer popularityUpdateCoalescer;
+    private final PlatformStatAggregator statAggregator;
 
     @Override
     public Mono<PoiReviewResponseDTO> createReviewForPoi(UUID poiId, ReviewRequestDTO reviewDTO) {
@@ -34,7 +37,9 @@ public class ReviewServiceImpl implements ReviewService {
                     return review;
                 })
                 .flatMap(reviewRepository::save)
-                .flatMap(savedReview -> popularityScoreService.updatePoiPopularityScore(poiId)
+                .doOnNext(saved -> statAggregator.recordReview(saved.getPoiId(), saved.getPlatformType(),
+                        saved.getCreatedAt()))
+                .flatMap(savedReview -> popularityUpdateCoalescer.submit(PopularityDelta.created(savedReview))
                         .thenReturn(toPoiReviewResponseDTO(savedReview)));
     }
 
@@ -47,7 +52,8 @@ public class ReviewServiceImpl implements ReviewService {
                     return review;
                 })
                 .flatMap(reviewRepository::save)
-                .map(this::toBlogReviewResponseDTO);
+                .flatMap(savedReview -> popularityUpdateCoalescer.submit(PopularityDelta.created(savedReview))
+                        .thenReturn(toBlogReviewResponseDTO(savedReview)));
     }
 
     @Override
@@ -59,7 +65,8 @@ public class ReviewServiceImpl implements ReviewService {
                     return review;
                 })
                 .flatMap(reviewRepository::save)
-                .map(this::toPodcastReviewResponseDTO);
+                .flatMap(savedReview -> popularityUpdateCoalescer.submit(PopularityDelta.created(savedReview))
+                        .thenReturn(toPodcastReviewResponseDTO(savedReview)));
     }
 
     private Mono<Review> createReviewEntity(ReviewRequestDTO dto) {
@@ -88,6 +95,15 @@ public class ReviewServiceImpl implements ReviewService {
                 .map(this::toPoiReviewResponseDTO);
     }
 
+    @Override
+    public Mono<CursorPage<PoiReviewResponseDTO>> getReviewsPageByPoiId(UUID poiId, String cursor, int size) {
+        return Mono.defer(() -> reviewRepository.findPageByPoiIdAfter(poiId, KeysetCursor.decode(cursor), size + 1)
+                .collectList()
+                .map(rows -> CursorPage.of(rows, size,
+                        review -> KeysetCursor.of(review.getCreatedAt(), review.getReviewId()).encode(),
+                        this::toPoiReviewResponseDTO)));
+    }
+
     @Override
     public Flux<BlogReviewResponseDTO> getReviewsByBlogId(UUID blogId) {
         return reviewRepository.findByBlogId(blogId)
@@ -111,20 +127,16 @@ public class ReviewServiceImpl implements ReviewService {
     public Mono<Object> updateReview(UUID reviewId, ReviewRequestDTO reviewDTO) {
         return reviewRepository.findById(reviewId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Review not found")))
-                .map(review -> {
+                .flatMap(review -> {
+                    Integer previousRating = review.getRating();
                     if (reviewDTO.getRating() != null) review.setRating(reviewDTO.getRating());
                     if (reviewDTO.getReviewText() != null) review.setReviewText(reviewDTO.getReviewText());
                     if (reviewDTO.getLikes() != null) review.setLikes(reviewDTO.getLikes());
                     if (reviewDTO.getDislikes() != null) review.setDislikes(reviewDTO.getDislikes());
-                    return review;
-                })
-                .flatMap(reviewRepository::save)
-                .flatMap(savedReview -> {
-                    if (savedReview.getPoiId() != null) {
-                        return popularityScoreService.updatePoiPopularityScore(savedReview.getPoiId())
-                                .thenReturn(toResponseDTO(savedReview));
-                    }
-                    return Mono.just(toResponseDTO(savedReview));
+                    return reviewRepository.save(review)
+                            .flatMap(savedReview -> popularityUpdateCoalescer
+                                    .submit(PopularityDelta.updated(savedReview, previousRating))
+                                    .thenReturn(toResponseDTO(savedReview)));
                 });
     }
 
@@ -132,12 +144,8 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional
     public Mono<Void> deleteReview(UUID reviewId) {
         return reviewRepository.findById(reviewId)
-                .flatMap(review -> {
-                    UUID poiId = review.getPoiId();
-                    return reviewRepository.deleteById(reviewId)
-                            .then(Mono.defer(() -> poiId != null ? 
-                                    popularityScoreService.updatePoiPopularityScore(poiId) : Mono.empty()));
-                });
+                .flatMap(review -> reviewRepository.deleteById(reviewId)
+                        .then(Mono.defer(() -> popularityUpdateCoalescer.submit(PopularityDelta.deleted(review)))));
     }
 
     @Override
@@ -157,6 +165,7 @@ public class ReviewServiceImpl implements ReviewService {
                     review.setLikes(review.getLikes() + 1);
                     return reviewRepository.save(review);
                 })
+                .doOnNext(saved -> statAggregator.recordLike(saved.getPoiId(), saved.getPlatformType()))
                 .map(this::toResponseDTO);
     }
 
@@ -167,6 +176,7 @@ public class ReviewServiceImpl implements ReviewService {
                     review.setDislikes(review.getDislikes() + 1);
                     return reviewRepository.save(review);
                 })
+                .doOnNext(saved -> statAggregator.recordDislike(saved.getPoiId(), saved.getPlatformType()))
                 .map(this::toResponseDTO);
     }
 
@@ -0,0 +1,162 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.application.services.geo.GeoHash;
+import com.poi.yow_point.application.services.point_of_interest.PoiPrefixTrie.Suggestion;
+import com.poi.yow_point.infrastructure.configuration.AutocompleteProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over the names, aliases and keywords of active POIs, for the autocomplete.
+ * <p>
+ * Terms are lower-cased and stripped of accents; every word of a name starts a term, so "mvo" finds
+ * "Café de Mvog-Mbi". Suggestions are ranked by popularity score, which the periodic rebuild (see
+ * {@link RebuildablePoiIndex}) refreshes; lookups never touch the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class PoiAutocompleteIndex extends RebuildablePoiIndex<PoiAutocompleteIndex.Trie> {
+
+    static final int GEOHASH_PRECISION = 9;
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final AutocompleteProperties properties;
+
+    private record IndexedPoi(Suggestion suggestion, Set<String> terms) {
+    }
+
+    /**
+     * The prefix trie and the terms of each POI in it, needed to remove it.
+     */
+    static final class Trie {
+        private final PoiPrefixTrie trie = new PoiPrefixTrie();
+        private final Map<UUID, IndexedPoi> entries;
+
+        private Trie(int expectedSize) {
+            entries = new HashMap<>(expectedSize * 2);
+        }
+    }
+
+    @Override
+    protected String name() {
+        return "autocomplete";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Up to {@code limit} POIs with a name, alias or keyword starting with {@code prefix}, most popular first.
+     *
+     * @param city          optional, compared ignoring case and accents
+     * @param geohashPrefix optional, keeps POIs located inside that geohash cell
+     */
+    public List<Suggestion> complete(String prefix, String city, String geohashPrefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+        String normalizedCity = city == null || city.isBlank() ? null : normalize(city);
+        String cell = geohashPrefix == null || geohashPrefix.isBlank() ? null : geohashPrefix.toLowerCase(Locale.ROOT);
+        Predicate<Suggestion> filter = suggestion -> (normalizedCity == null || normalizedCity.equals(suggestion.cityKey()))
+                && (cell == null || (suggestion.geohash() != null && suggestion.geohash().startsWith(cell)));
+
+        return read(target -> target.trie.complete(normalizedPrefix, limit, filter), List.of());
+    }
+
+    @Override
+    protected Trie newStructure(int expectedSize) {
+        return new Trie(expectedSize);
+    }
+
+    @Override
+    protected boolean isIndexable(PointOfInterestDTO dto) {
+        return Boolean.TRUE.equals(dto.getIsActive());
+    }
+
+    @Override
+    protected void put(Trie target, PointOfInterestDTO dto) {
+        delete(target, dto.getPoiId());
+        String geohash = dto.getLatitude() != null && dto.getLongitude() != null
+                ? GeoHash.encode(dto.getLatitude(), dto.getLongitude(), GEOHASH_PRECISION)
+                : null;
+        Suggestion suggestion = new Suggestion(dto.getPoiId(), dto.getPoiName(), dto.getAddressCity(),
+                dto.getAddressCity() == null ? null : normalize(dto.getAddressCity()), geohash,
+                dto.getPopularityScore() == null ? 0f : dto.getPopularityScore());
+        Set<String> terms = termsOf(dto);
+        terms.forEach(term -> target.trie.insert(term, suggestion));
+        target.entries.put(dto.getPoiId(), new IndexedPoi(suggestion, terms));
+    }
+
+    @Override
+    protected void delete(Trie target, UUID poiId) {
+        IndexedPoi previous = target.entries.remove(poiId);
+        if (previous != null) {
+            previous.terms().forEach(term -> target.trie.remove(term, poiId));
+        }
+    }
+
+    @Override
+    protected int size(Trie target) {
+        return target.entries.size();
+    }
+
+    // Each phrase is indexed from the start of every word long enough, so that inner words also match
+    private Set<String> termsOf(PointOfInterestDTO dto) {
+        Set<String> terms = new LinkedHashSet<>();
+        addPhrase(terms, dto.getPoiName());
+        addPhrase(terms, dto.getPoiLongName());
+        addPhrase(terms, dto.getPoiShortName());
+        addPhrase(terms, dto.getPoiFriendlyName());
+        if (dto.getPoiKeywords() != null) {
+            dto.getPoiKeywords().forEach(keyword -> addPhrase(terms, keyword));
+        }
+        return terms;
+    }
+
+    private void addPhrase(Set<String> terms, String phrase) {
+        String normalized = normalize(phrase);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        int wordStart = 0;
+        while (wordStart >= 0) {
+            int wordEnd = normalized.indexOf(' ', wordStart);
+            int wordLength = (wordEnd < 0 ? normalized.length() : wordEnd) - wordStart;
+            if (wordLength >= properties.getMinTermLength()) {
+                String term = normalized.substring(wordStart);
+                terms.add(term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term);
+            }
+            wordStart = wordEnd < 0 ? -1 : wordEnd + 1;
+        }
+    }
+
+    /**
+     * Lower case, no accents, words separated by single spaces.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
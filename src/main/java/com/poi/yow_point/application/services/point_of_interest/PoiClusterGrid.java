@@ -0,0 +1,214 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.application.services.geo.WebMercatorTiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-zoom grid aggregates of POI locations, not thread-safe (see {@link PoiClusterIndex}).
+ * <p>
+ * At zoom {@code z} the Web Mercator world is split into {@code 2^(z + shift)} cells per side, i.e.
+ * {@code 2^shift} cells per map tile. Each non-empty cell holds the count, the coordinate sums (for the
+ * centroid) and the type and category counts of its POIs, for every zoom level from 0 to {@code maxZoom}.
+ * Adding or removing a POI touches one cell per level; a query reads only the cells of the box.
+ */
+class PoiClusterGrid {
+
+    private static final PoiType[] TYPES = PoiType.values();
+    private static final PoiCategory[] CATEGORIES = PoiCategory.values();
+
+    /**
+     * Aggregate of the POIs of one grid cell. The dominant type and category are null when unknown.
+     */
+    record Cluster(int count, double latitude, double longitude, PoiType dominantType, PoiCategory dominantCategory) {
+    }
+
+    private record Member(double latitude, double longitude, PoiType type, PoiCategory category) {
+    }
+
+    private static final class Cell {
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private final Tally types = new Tally();
+        private final Tally categories = new Tally();
+    }
+
+    // Sparse ordinal -> count; a cell rarely holds more than a few distinct values
+    private static final class Tally {
+        private int[] ordinals = new int[0];
+        private int[] counts = new int[0];
+
+        private void add(int ordinal, int delta) {
+            if (ordinal < 0) {
+                return;
+            }
+            for (int i = 0; i < ordinals.length; i++) {
+                if (ordinals[i] == ordinal) {
+                    counts[i] += delta;
+                    if (counts[i] <= 0) {
+                        int last = ordinals.length - 1;
+                        ordinals[i] = ordinals[last];
+                        counts[i] = counts[last];
+                        ordinals = Arrays.copyOf(ordinals, last);
+                        counts = Arrays.copyOf(counts, last);
+                    }
+                    return;
+                }
+            }
+            if (delta > 0) {
+                ordinals = Arrays.copyOf(ordinals, ordinals.length + 1);
+                counts = Arrays.copyOf(counts, counts.length + 1);
+                ordinals[ordinals.length - 1] = ordinal;
+                counts[counts.length - 1] = delta;
+            }
+        }
+
+        // Highest count, first name on ties like mode() in the SQL fallback; -1 when empty
+        private int dominant(Enum<?>[] values) {
+            int best = -1;
+            int bestCount = 0;
+            for (int i = 0; i < ordinals.length; i++) {
+                if (counts[i] > bestCount
+                        || (counts[i] == bestCount && values[ordinals[i]].name().compareTo(values[best].name()) < 0)) {
+                    best = ordinals[i];
+                    bestCount = counts[i];
+                }
+            }
+            return best;
+        }
+    }
+
+    private final int maxZoom;
+    private final int shift;
+    private final List<Map<Long, Cell>> levels;
+    private final Map<UUID, Member> members = new HashMap<>();
+
+    PoiClusterGrid(int maxZoom, int shift) {
+        this.maxZoom = maxZoom;
+        this.shift = shift;
+        this.levels = new ArrayList<>(maxZoom + 1);
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    int size() {
+        return members.size();
+    }
+
+    void put(UUID poiId, double latitude, double longitude, PoiType type, PoiCategory category) {
+        remove(poiId);
+        Member member = new Member(latitude, longitude, type, category);
+        members.put(poiId, member);
+        apply(member, 1);
+    }
+
+    void remove(UUID poiId) {
+        Member previous = members.remove(poiId);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+    }
+
+    /**
+     * Number of cells of a {@code 2^gridZoom} grid intersecting the box.
+     */
+    static long coveredCells(int gridZoom, double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude) {
+        long columns = cellIndex(WebMercatorTiles.tileX(maxLongitude, gridZoom), gridZoom)
+                - cellIndex(WebMercatorTiles.tileX(minLongitude, gridZoom), gridZoom) + 1;
+        long rows = cellIndex(WebMercatorTiles.tileY(minLatitude, gridZoom), gridZoom)
+                - cellIndex(WebMercatorTiles.tileY(maxLatitude, gridZoom), gridZoom) + 1;
+        return columns * rows;
+    }
+
+    /**
+     * Non-empty cells of zoom level {@code zoom} (capped at {@code maxZoom}) intersecting the box. Each cell is
+     * returned whole: its count and centroid include the POIs of the cell lying outside the box.
+     */
+    List<Cluster> clusters(int zoom, double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude) {
+        int level = Math.min(zoom, maxZoom);
+        int gridZoom = level + shift;
+        int minX = cellIndex(WebMercatorTiles.tileX(minLongitude, gridZoom), gridZoom);
+        int maxX = cellIndex(WebMercatorTiles.tileX(maxLongitude, gridZoom), gridZoom);
+        // Rows grow southwards
+        int minY = cellIndex(WebMercatorTiles.tileY(maxLatitude, gridZoom), gridZoom);
+        int maxY = cellIndex(WebMercatorTiles.tileY(minLatitude, gridZoom), gridZoom);
+        long covered = (long) (maxX - minX + 1) * (maxY - minY + 1);
+
+        Map<Long, Cell> cells = levels.get(level);
+        List<Cluster> result = new ArrayList<>();
+        if (covered <= cells.size()) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    Cell cell = cells.get(key(x, y));
+                    if (cell != null) {
+                        result.add(toCluster(cell));
+                    }
+                }
+            }
+        } else {
+            // Sparse level: cheaper to scan its cells than to probe every position of the box
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                int x = (int) (entry.getKey() >>> 32);
+                int y = (int) (long) entry.getKey();
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                    result.add(toCluster(entry.getValue()));
+                }
+            }
+        }
+        return result;
+    }
+
+    private void apply(Member member, int delta) {
+        int typeOrdinal = member.type() == null ? -1 : member.type().ordinal();
+        int categoryOrdinal = member.category() == null ? -1 : member.category().ordinal();
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            int gridZoom = zoom + shift;
+            long key = key(cellIndex(WebMercatorTiles.tileX(member.longitude(), gridZoom), gridZoom),
+                    cellIndex(WebMercatorTiles.tileY(member.latitude(), gridZoom), gridZoom));
+            Map<Long, Cell> cells = levels.get(zoom);
+            Cell cell = cells.get(key);
+            if (cell == null) {
+                if (delta < 0) {
+                    continue;
+                }
+                cell = new Cell();
+                cells.put(key, cell);
+            }
+            cell.count += delta;
+            cell.latitudeSum += delta * member.latitude();
+            cell.longitudeSum += delta * member.longitude();
+            cell.types.add(typeOrdinal, delta);
+            cell.categories.add(categoryOrdinal, delta);
+            if (cell.count <= 0) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static Cluster toCluster(Cell cell) {
+        int type = cell.types.dominant(TYPES);
+        int category = cell.categories.dominant(CATEGORIES);
+        return new Cluster(cell.count, cell.latitudeSum / cell.count, cell.longitudeSum / cell.count,
+                type < 0 ? null : TYPES[type], category < 0 ? null : CATEGORIES[category]);
+    }
+
+    private static int cellIndex(double fractional, int gridZoom) {
+        int max = (1 << gridZoom) - 1;
+        return (int) Math.max(0, Math.min(max, Math.floor(fractional)));
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,91 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.application.services.point_of_interest.PoiClusterGrid.Cluster;
+import com.poi.yow_point.infrastructure.configuration.ClusterIndexProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-memory per-zoom cluster grid over active POIs, for /clusters.
+ * <p>
+ * Aggregates are maintained on write rather than computed per request, so answering a box costs one lookup per
+ * grid cell whatever the number of POIs inside (see {@link PoiClusterGrid}). Rebuilt and kept current as
+ * described in {@link RebuildablePoiIndex}; until the first build completes callers fall back to PostGIS.
+ */
+@Component
+@RequiredArgsConstructor
+public class PoiClusterIndex extends RebuildablePoiIndex<PoiClusterGrid> {
+
+    private final ClusterIndexProperties properties;
+
+    @Override
+    protected String name() {
+        return "cluster";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Zoom of the grid used at map zoom {@code zoom}: {@code 2^gridZoom} cells per side of the world.
+     */
+    public int gridZoom(int zoom) {
+        return Math.min(zoom, properties.getMaxZoom()) + shift();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the box covers more than {@code poi.clusters.max-cells} grid cells
+     *                                  at {@code zoom}, which bounds the size of a response
+     */
+    public void checkBox(int zoom, double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        long covered = PoiClusterGrid.coveredCells(gridZoom(zoom), minLatitude, minLongitude, maxLatitude, maxLongitude);
+        if (covered > properties.getMaxCells()) {
+            throw new IllegalArgumentException("Bounding box covers " + covered + " cells at zoom " + zoom
+                    + ", at most " + properties.getMaxCells() + " allowed");
+        }
+    }
+
+    /**
+     * Clusters of the grid cells intersecting the box at {@code zoom}; see {@link #checkBox}.
+     */
+    public List<Cluster> clusters(int zoom, double minLatitude, double minLongitude,
+            double maxLatitude, double maxLongitude) {
+        return read(grid -> grid.clusters(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude), List.of());
+    }
+
+    @Override
+    protected PoiClusterGrid newStructure(int expectedSize) {
+        return new PoiClusterGrid(properties.getMaxZoom(), shift());
+    }
+
+    @Override
+    protected boolean isIndexable(PointOfInterestDTO dto) {
+        return Boolean.TRUE.equals(dto.getIsActive()) && dto.getLatitude() != null && dto.getLongitude() != null;
+    }
+
+    @Override
+    protected void put(PoiClusterGrid target, PointOfInterestDTO dto) {
+        target.put(dto.getPoiId(), dto.getLatitude(), dto.getLongitude(), dto.getPoiType(), dto.getPoiCategory());
+    }
+
+    @Override
+    protected void delete(PoiClusterGrid target, UUID poiId) {
+        target.remove(poiId);
+    }
+
+    @Override
+    protected int size(PoiClusterGrid target) {
+        return target.size();
+    }
+
+    private int shift() {
+        return 31 - Integer.numberOfLeadingZeros(Math.max(1, properties.getCellsPerTile()));
+    }
+}
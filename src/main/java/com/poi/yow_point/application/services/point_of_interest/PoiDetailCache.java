@@ -0,0 +1,159 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poi.yow_point.infrastructure.configuration.PoiCacheProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache for single POIs: an in-process Caffeine cache (L1, W-TinyLFU) in front of Redis (L2).
+ * <p>
+ * Evictions are applied locally, deleted from Redis and broadcast on a Redis pub/sub channel so that
+ * the other nodes drop their L1 copy. Hit/miss/eviction metrics of both tiers are published to Micrometer.
+ */
+@Component
+@Slf4j
+public class PoiDetailCache {
+
+    static final String CACHE_KEY_PREFIX = "poi:";
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    private final ReactiveRedisTemplate<String, PointOfInterestDTO> redisTemplate;
+    private final ReactiveStringRedisTemplate stringRedisTemplate;
+    private final PoiCacheProperties properties;
+    private final Cache<UUID, PointOfInterestDTO> local;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Duration remoteTtl;
+    // Identifies this node so that it ignores its own invalidation messages
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final List<Consumer<UUID>> remoteInvalidationListeners = new CopyOnWriteArrayList<>();
+
+    private Disposable invalidationSubscription;
+
+    public PoiDetailCache(ReactiveRedisTemplate<String, PointOfInterestDTO> redisTemplate,
+            ReactiveStringRedisTemplate stringRedisTemplate,
+            PoiCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.remoteTtl = Duration.ofSeconds(properties.getRemote().getTtlSeconds());
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.getLocal().getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getLocal().getExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "poi.detail.local");
+        this.remoteHits = Counter.builder("poi.detail.remote.requests").tag("result", "hit").register(meterRegistry);
+        this.remoteMisses = Counter.builder("poi.detail.remote.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Looks the POI up in L1, then Redis, then {@code loader}; each lower tier fills the upper ones.
+     * Redis errors are treated as misses.
+     */
+    public Mono<PointOfInterestDTO> get(UUID poiId, Supplier<Mono<PointOfInterestDTO>> loader) {
+        PointOfInterestDTO cached = local.getIfPresent(poiId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        String key = CACHE_KEY_PREFIX + poiId;
+        return redisTemplate.opsForValue().get(key)
+                .onErrorResume(e -> Mono.empty())
+                .doOnNext(dto -> {
+                    remoteHits.increment();
+                    local.put(poiId, dto);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    remoteMisses.increment();
+                    return loader.get()
+                            .flatMap(dto -> redisTemplate.opsForValue().set(key, dto, remoteTtl)
+                                    .onErrorResume(e -> Mono.just(false))
+                                    .thenReturn(dto))
+                            .doOnNext(dto -> local.put(poiId, dto));
+                }));
+    }
+
+    /**
+     * Drops the POI from L1 and Redis and notifies the other nodes. Call it once the write committed: a read
+     * between an earlier eviction and the commit would cache the old row again.
+     */
+    public Mono<Void> evict(UUID poiId) {
+        local.invalidate(poiId);
+        broadcast(poiId);
+        return redisTemplate.opsForValue().delete(CACHE_KEY_PREFIX + poiId).then();
+    }
+
+    /**
+     * Registers a callback run when another node invalidates a POI, so that derived caches can follow.
+     */
+    public void addRemoteInvalidationListener(Consumer<UUID> listener) {
+        remoteInvalidationListeners.add(listener);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribeToInvalidations() {
+        if (!properties.getInvalidation().isEnabled()) {
+            return;
+        }
+        String channel = properties.getInvalidation().getChannel();
+        invalidationSubscription = stringRedisTemplate.listenToChannel(channel)
+                .doOnSubscribe(s -> log.info("Listening for POI cache invalidations on Redis channel {}", channel))
+                .doOnError(e -> log.warn("POI cache invalidation channel lost, resubscribing: {}", e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+                .subscribe(message -> onInvalidation(message.getMessage()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    private void onInvalidation(String payload) {
+        int separator = payload.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            UUID poiId = UUID.fromString(payload.substring(separator + 1));
+            local.invalidate(poiId);
+            remoteInvalidationListeners.forEach(listener -> listener.accept(poiId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed POI cache invalidation message: {}", payload);
+        }
+    }
+
+    private void broadcast(UUID poiId) {
+        if (!properties.getInvalidation().isEnabled()) {
+            return;
+        }
+        stringRedisTemplate.convertAndSend(properties.getInvalidation().getChannel(), nodeId + MESSAGE_SEPARATOR + poiId)
+                .subscribe(receivers -> { },
+                        e -> log.warn("Failed to broadcast POI cache invalidation for {}: {}", poiId, e.getMessage()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.application.mappers.PointOfInterestMapper;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Warms the in-memory POI indexes at startup and rebuilds them periodically, all from one load of the active
+ * POIs: every enabled index starts recording writes before the load, then each builds its own structure from
+ * the same list.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PoiIndexRebuilder {
+
+    private final PointOfInterestRepository repository;
+    private final PointOfInterestMapper mapper;
+    private final List<RebuildablePoiIndex<?>> indexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        indexes.stream()
+                .filter(index -> !index.isEnabled())
+                .forEach(index -> log.info("POI {} index disabled, its queries will use the database", index.name()));
+        rebuild().subscribe();
+    }
+
+    @Scheduled(fixedDelayString = "${poi.indexes.refresh-interval-ms:600000}",
+            initialDelayString = "${poi.indexes.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        rebuild().subscribe();
+    }
+
+    /**
+     * Reloads every active POI from the database and swaps the structure of each enabled index.
+     * Emits the number of loaded POIs, or completes empty if no index needs a rebuild (disabled or already
+     * rebuilding).
+     */
+    public Mono<Integer> rebuild() {
+        return Mono.defer(() -> {
+            List<RebuildablePoiIndex<?>> started = indexes.stream()
+                    .filter(RebuildablePoiIndex::isEnabled)
+                    .filter(RebuildablePoiIndex::beginRebuild)
+                    .toList();
+            if (started.isEmpty()) {
+                return Mono.empty();
+            }
+            long start = System.nanoTime();
+            return Flux.defer(repository::findByIsActiveTrue)
+                    .map(mapper::toDto)
+                    .collectList()
+                    .doOnNext(pois -> log.info("Loaded {} active POIs for the in-memory indexes in {} ms",
+                            pois.size(), (System.nanoTime() - start) / 1_000_000))
+                    .map(pois -> {
+                        started.forEach(index -> index.swap(pois));
+                        return pois.size();
+                    })
+                    .doOnError(e -> log.warn("POI index rebuild failed: {}", e.getMessage()))
+                    .onErrorResume(e -> Mono.empty())
+                    .doFinally(signal -> started.forEach(RebuildablePoiIndex::endRebuild));
+        });
+    }
+}
@@ -0,0 +1,245 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Radix trie from normalised terms to POI suggestions, not thread-safe (see {@link PoiAutocompleteIndex}).
+ * <p>
+ * Edges carry whole substrings, so a chain of single-child nodes costs one node. Every node keeps the best
+ * score of its subtree: a completion walks down to the prefix, then expands the subtree best-first and stops
+ * as soon as {@code limit} suggestions are found, whatever the number of terms under the prefix.
+ */
+class PoiPrefixTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_VALUES = new Suggestion[0];
+
+    /**
+     * One POI as offered by the autocomplete. The same instance is attached to every term of the POI.
+     * {@code cityKey} is the normalised city used for filtering.
+     */
+    record Suggestion(UUID poiId, String label, String city, String cityKey, String geohash, float score) {
+    }
+
+    private static final class Node {
+        private String edge;
+        private Node[] children = NO_CHILDREN;
+        private Suggestion[] values = NO_VALUES;
+        private float best = Float.NEGATIVE_INFINITY;
+
+        private Node(String edge) {
+            this.edge = edge;
+        }
+
+        private int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].edge.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void addChild(Node child) {
+            int index = -(childIndex(child.edge.charAt(0)) + 1);
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        private void removeChild(int index) {
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk;
+        }
+
+        private void recomputeBest() {
+            float max = Float.NEGATIVE_INFINITY;
+            for (Suggestion value : values) {
+                max = Math.max(max, value.score());
+            }
+            for (Node child : children) {
+                max = Math.max(max, child.best);
+            }
+            best = max;
+        }
+    }
+
+    // Either a node to expand or a suggestion to emit, ordered by score
+    private record Candidate(float score, Node node, Suggestion suggestion) {
+    }
+
+    private final Node root = new Node("");
+    private int termCount;
+
+    int termCount() {
+        return termCount;
+    }
+
+    void insert(String term, Suggestion suggestion) {
+        if (term.isEmpty()) {
+            return;
+        }
+        insert(root, term, suggestion);
+    }
+
+    private void insert(Node node, String rest, Suggestion suggestion) {
+        node.best = Math.max(node.best, suggestion.score());
+        if (rest.isEmpty()) {
+            for (Suggestion value : node.values) {
+                if (value.poiId().equals(suggestion.poiId())) {
+                    return;
+                }
+            }
+            node.values = Arrays.copyOf(node.values, node.values.length + 1);
+            node.values[node.values.length - 1] = suggestion;
+            termCount++;
+            return;
+        }
+        int index = node.childIndex(rest.charAt(0));
+        if (index < 0) {
+            Node leaf = new Node(rest);
+            node.addChild(leaf);
+            insert(leaf, "", suggestion);
+            return;
+        }
+        Node child = node.children[index];
+        int common = commonPrefixLength(child.edge, rest);
+        if (common < child.edge.length()) {
+            // Split the edge: node -> middle(common part) -> child(remaining part)
+            Node middle = new Node(child.edge.substring(0, common));
+            child.edge = child.edge.substring(common);
+            middle.children = new Node[] { child };
+            middle.best = child.best;
+            node.children[index] = middle;
+            child = middle;
+        }
+        insert(child, rest.substring(common), suggestion);
+    }
+
+    void remove(String term, UUID poiId) {
+        if (!term.isEmpty()) {
+            remove(root, term, poiId);
+        }
+    }
+
+    private void remove(Node node, String rest, UUID poiId) {
+        if (rest.isEmpty()) {
+            for (int i = 0; i < node.values.length; i++) {
+                if (node.values[i].poiId().equals(poiId)) {
+                    Suggestion[] shrunk = new Suggestion[node.values.length - 1];
+                    System.arraycopy(node.values, 0, shrunk, 0, i);
+                    System.arraycopy(node.values, i + 1, shrunk, i, node.values.length - i - 1);
+                    node.values = shrunk.length == 0 ? NO_VALUES : shrunk;
+                    termCount--;
+                    break;
+                }
+            }
+        } else {
+            int index = node.childIndex(rest.charAt(0));
+            if (index < 0) {
+                return;
+            }
+            Node child = node.children[index];
+            if (!rest.startsWith(child.edge)) {
+                return;
+            }
+            remove(child, rest.substring(child.edge.length()), poiId);
+            if (child.values.length == 0 && child.children.length == 0) {
+                node.removeChild(index);
+            } else if (child.values.length == 0 && child.children.length == 1) {
+                // Merge back a node left with a single child
+                Node grandChild = child.children[0];
+                grandChild.edge = child.edge + grandChild.edge;
+                node.children[index] = grandChild;
+            }
+        }
+        node.recomputeBest();
+    }
+
+    /**
+     * Up to {@code limit} distinct POIs having a term that starts with {@code prefix} and accepted by
+     * {@code filter}, best score first.
+     * <p>
+     * The filter is applied to the suggestions as they come out, not to the subtree scores: with a selective
+     * filter (a small city, a geohash cell) most candidates are rejected, and a short prefix may walk the whole
+     * subtree before {@code limit} suggestions are found or the subtree is exhausted.
+     */
+    List<Suggestion> complete(String prefix, int limit, Predicate<Suggestion> filter) {
+        List<Suggestion> result = new ArrayList<>(limit);
+        Node start = locate(prefix);
+        if (start == null || limit <= 0) {
+            return result;
+        }
+        Set<UUID> seen = new HashSet<>();
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                (a, b) -> Float.compare(b.score(), a.score()));
+        queue.add(new Candidate(start.best, start, null));
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.suggestion() != null) {
+                Suggestion suggestion = candidate.suggestion();
+                if (seen.add(suggestion.poiId()) && filter.test(suggestion)) {
+                    result.add(suggestion);
+                }
+                continue;
+            }
+            for (Suggestion value : candidate.node().values) {
+                queue.add(new Candidate(value.score(), null, value));
+            }
+            for (Node child : candidate.node().children) {
+                queue.add(new Candidate(child.best, child, null));
+            }
+        }
+        return result;
+    }
+
+    // Node whose subtree holds exactly the terms starting with prefix
+    private Node locate(String prefix) {
+        Node node = root;
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            int index = node.childIndex(rest.charAt(0));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            if (child.edge.startsWith(rest)) {
+                return child;
+            }
+            if (!rest.startsWith(child.edge)) {
+                return null;
+            }
+            rest = rest.substring(child.edge.length());
+            node = child;
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,139 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poi.yow_point.application.services.geo.GeoUtils;
+import com.poi.yow_point.application.services.websocket.PoiEventPublisher;
+import com.poi.yow_point.infrastructure.configuration.PoiCacheProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Result-set cache for the POI list lookups, keyed by normalised query parameters.
+ * <p>
+ * Each entry holds a cached {@code Mono<List>}: the first caller for a key triggers the load and every
+ * concurrent caller subscribes to the same {@code Mono}, so a key is only ever loaded once at a time
+ * (stampede protection). Failed loads are removed so that the next call retries. The whole cache is
+ * dropped on POI write events, local ones from {@link PoiEventPublisher} and remote ones relayed by
+ * {@link PoiDetailCache}: any write may move a POI in or out of any cached list. Writers publish both only
+ * once their transaction committed, otherwise a list loaded in between would keep the old rows.
+ */
+@Component
+@Slf4j
+public class PoiQueryCache {
+
+    private static final Set<PoiEvent.EventType> WRITE_EVENTS = EnumSet.of(
+            PoiEvent.EventType.POI_CREATED,
+            PoiEvent.EventType.POI_UPDATED,
+            PoiEvent.EventType.POI_DELETED,
+            PoiEvent.EventType.POI_ACTIVATED,
+            PoiEvent.EventType.POI_DESACTIVATED);
+
+    /**
+     * Loads POIs around a (snapped) center.
+     */
+    @FunctionalInterface
+    public interface NearbyLoader {
+        Flux<PointOfInterestDTO> load(double latitude, double longitude, double radiusKm);
+    }
+
+    private final PoiCacheProperties.QueryResults properties;
+    // Values are Mono<List<T>>, T being fixed by the key namespace chosen by the caller
+    private final Cache<String, Mono<? extends List<?>>> cache;
+    private final Disposable eventSubscription;
+
+    public PoiQueryCache(PoiCacheProperties cacheProperties,
+            PoiEventPublisher eventPublisher,
+            PoiDetailCache detailCache,
+            MeterRegistry meterRegistry) {
+        this.properties = cacheProperties.getQuery();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "poi.query");
+
+        this.eventSubscription = eventPublisher.getPublisher()
+                .filter(event -> WRITE_EVENTS.contains(event.getType()))
+                .subscribe(event -> invalidateAll());
+        detailCache.addRemoteInvalidationListener(poiId -> invalidateAll());
+    }
+
+    /**
+     * Cached result of {@code loader} for {@code key}. A key must always be loaded with the same element type
+     * (summary lists use keys starting with "summary:").
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Flux<T> get(String key, Supplier<Flux<T>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        Mono<List<T>> cached = (Mono<List<T>>) cache.get(key, k -> load(k, loader));
+        return cached.flatMapIterable(list -> list);
+    }
+
+    /**
+     * Cached radius lookup. The center is snapped to a grid cell so that nearby callers share one entry:
+     * the entry holds every POI within {@code radius + half cell diagonal} of the cell center, and is
+     * then filtered exactly against the caller's own center.
+     */
+    public Flux<PointOfInterestDTO> getNearby(double latitude, double longitude, double radiusKm, NearbyLoader loader) {
+        if (!properties.isEnabled()) {
+            return loader.load(latitude, longitude, radiusKm);
+        }
+        double grid = properties.getNearbyGridDegrees();
+        double cellLatitude = Math.floor(latitude / grid) * grid + grid / 2;
+        double cellLongitude = Math.floor(longitude / grid) * grid + grid / 2;
+        double halfDiagonalKm = GeoUtils.haversineMeters(cellLatitude, cellLongitude,
+                cellLatitude + grid / 2, cellLongitude + grid / 2) / 1000;
+        // Radius rounded up to 100 m so that "5" and "5.0001" share an entry
+        double keyRadiusKm = Math.ceil(radiusKm * 10) / 10;
+        String key = String.format(Locale.ROOT, "nearby:%.6f:%.6f:%.1f", cellLatitude, cellLongitude, keyRadiusKm);
+        double radiusMeters = radiusKm * 1000;
+
+        return get(key, () -> loader.load(cellLatitude, cellLongitude, keyRadiusKm + halfDiagonalKm))
+                .filter(dto -> dto.getLatitude() != null && dto.getLongitude() != null
+                        && GeoUtils.haversineMeters(latitude, longitude, dto.getLatitude(), dto.getLongitude()) <= radiusMeters);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventSubscription.dispose();
+    }
+
+    private <T> Mono<List<T>> load(String key, Supplier<Flux<T>> loader) {
+        AtomicReference<Mono<List<T>>> self = new AtomicReference<>();
+        Mono<List<T>> shared = Flux.defer(loader)
+                .collectList()
+                .doOnError(e -> {
+                    log.warn("POI query cache load failed for {}: {}", key, e.getMessage());
+                    // Only drop this failed load, not a newer entry loaded since
+                    cache.asMap().remove(key, self.get());
+                })
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+}
@@ -0,0 +1,179 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.application.services.geo.GeoUtils;
+import com.poi.yow_point.infrastructure.configuration.SpatialIndexProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.quadtree.Quadtree;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * In-memory spatial index over active POIs, see {@link RebuildablePoiIndex}.
+ * <p>
+ * Backed by a JTS {@link Quadtree} (unlike {@code STRtree} it supports inserts and removals
+ * after the build). Until the first build completes callers fall back to PostGIS.
+ */
+@Component
+@RequiredArgsConstructor
+public class PoiSpatialIndex extends RebuildablePoiIndex<PoiSpatialIndex.Tree> {
+
+    private final SpatialIndexProperties properties;
+
+    private static final double KNN_INITIAL_RADIUS_METERS = 500;
+    private static final double KNN_MAX_RADIUS_METERS = 20_100_000; // half the earth circumference
+
+    /**
+     * A POI together with its coordinates, as stored in the tree.
+     */
+    public record IndexedPoi(PointOfInterestDTO poi, double latitude, double longitude) {
+    }
+
+    /**
+     * A KNN result: the POI and its great-circle distance to the query point.
+     */
+    public record Neighbour(PointOfInterestDTO poi, double distanceMeters) {
+    }
+
+    /**
+     * The quadtree and the entry of each POI in it, needed to remove it.
+     */
+    static final class Tree {
+        private final Quadtree quadtree = new Quadtree();
+        private final Map<UUID, IndexedPoi> entries;
+
+        private Tree(int expectedSize) {
+            entries = new HashMap<>(expectedSize * 2);
+        }
+    }
+
+    @Override
+    protected String name() {
+        return "spatial";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Active POIs within {@code radiusMeters} of the given point.
+     */
+    public List<PointOfInterestDTO> findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        List<PointOfInterestDTO> result = new ArrayList<>();
+        for (IndexedPoi candidate : candidates(latitude, longitude, radiusMeters)) {
+            if (GeoUtils.haversineMeters(latitude, longitude, candidate.latitude(), candidate.longitude()) <= radiusMeters) {
+                result.add(candidate.poi());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The {@code limit} POIs closest to the given point among those accepted by {@code filter},
+     * nearest first. The search envelope grows geometrically until enough matches fall inside the
+     * search circle, so the cost depends on local density and {@code limit}, not on the index size.
+     */
+    public List<Neighbour> findNearest(double latitude, double longitude, int limit,
+            Predicate<PointOfInterestDTO> filter) {
+        int total = size();
+        double radius = KNN_INITIAL_RADIUS_METERS;
+        while (true) {
+            List<IndexedPoi> candidates = candidates(latitude, longitude, radius);
+            boolean exhaustive = candidates.size() >= total || radius >= KNN_MAX_RADIUS_METERS;
+            List<Neighbour> hits = new ArrayList<>();
+            for (IndexedPoi candidate : candidates) {
+                if (!filter.test(candidate.poi())) {
+                    continue;
+                }
+                double distance = GeoUtils.haversineMeters(latitude, longitude, candidate.latitude(), candidate.longitude());
+                // Only points inside the circle are guaranteed to beat everything outside the envelope
+                if (exhaustive || distance <= radius) {
+                    hits.add(new Neighbour(candidate.poi(), distance));
+                }
+            }
+            if (hits.size() >= limit || exhaustive) {
+                hits.sort(Comparator.comparingDouble(Neighbour::distanceMeters));
+                return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+            }
+            radius = Math.min(radius * 4, KNN_MAX_RADIUS_METERS);
+        }
+    }
+
+    /**
+     * POIs of the envelope around the search circle. A circle that crosses the antimeridian is searched as
+     * two envelopes, one on each side, so the index answers like PostGIS {@code ST_DWithin} on geography.
+     */
+    @SuppressWarnings("unchecked")
+    List<IndexedPoi> candidates(double latitude, double longitude, double radiusMeters) {
+        double dLat = GeoUtils.latitudeDelta(radiusMeters);
+        double dLon = GeoUtils.longitudeDelta(radiusMeters, latitude);
+        double minLat = Math.max(-90, latitude - dLat);
+        double maxLat = Math.min(90, latitude + dLat);
+        List<Envelope> searches = new ArrayList<>(2);
+        if (dLon >= 180) {
+            searches.add(new Envelope(-180, 180, minLat, maxLat));
+        } else if (longitude - dLon < -180) {
+            searches.add(new Envelope(longitude - dLon + 360, 180, minLat, maxLat));
+            searches.add(new Envelope(-180, longitude + dLon, minLat, maxLat));
+        } else if (longitude + dLon > 180) {
+            searches.add(new Envelope(longitude - dLon, 180, minLat, maxLat));
+            searches.add(new Envelope(-180, longitude + dLon - 360, minLat, maxLat));
+        } else {
+            searches.add(new Envelope(longitude - dLon, longitude + dLon, minLat, maxLat));
+        }
+        return read(tree -> {
+            List<IndexedPoi> result = new ArrayList<>();
+            for (Envelope search : searches) {
+                result.addAll((List<IndexedPoi>) tree.quadtree.query(search));
+            }
+            return result;
+        }, new ArrayList<>());
+    }
+
+    @Override
+    protected Tree newStructure(int expectedSize) {
+        return new Tree(expectedSize);
+    }
+
+    @Override
+    protected void put(Tree target, PointOfInterestDTO dto) {
+        delete(target, dto.getPoiId());
+        IndexedPoi entry = new IndexedPoi(dto, dto.getLatitude(), dto.getLongitude());
+        target.quadtree.insert(new Envelope(entry.longitude(), entry.longitude(), entry.latitude(), entry.latitude()),
+                entry);
+        target.entries.put(dto.getPoiId(), entry);
+    }
+
+    @Override
+    protected void delete(Tree target, UUID poiId) {
+        IndexedPoi previous = target.entries.remove(poiId);
+        if (previous != null) {
+            target.quadtree.remove(
+                    new Envelope(previous.longitude(), previous.longitude(), previous.latitude(), previous.latitude()),
+                    previous);
+        }
+    }
+
+    @Override
+    protected int size(Tree target) {
+        return target.entries.size();
+    }
+
+    @Override
+    protected boolean isIndexable(PointOfInterestDTO dto) {
+        return Boolean.TRUE.equals(dto.getIsActive())
+                && dto.getLatitude() != null
+                && dto.getLongitude() != null;
+    }
+}
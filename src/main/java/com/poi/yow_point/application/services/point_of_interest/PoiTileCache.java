@@ -0,0 +1,133 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poi.yow_point.application.services.geo.WebMercatorTiles;
+import com.poi.yow_point.application.services.websocket.PoiEventPublisher;
+import com.poi.yow_point.infrastructure.configuration.VectorTileProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the generated vector tiles, keyed by {@code z/x/y}, with the same stampede protection as
+ * {@link PoiQueryCache}.
+ * <p>
+ * Creations, activations, deactivations and deletions carry the POI's location, so only the tiles showing it
+ * are dropped: one per zoom level, plus the neighbours whose buffer reaches it at unclustered zooms. An update
+ * may have moved the POI from a location the event does not carry, so updates (and remote invalidations,
+ * which only carry the id) drop every tile. Popularity changes are not tracked; the TTL bounds how long a
+ * tile shows an old score.
+ */
+@Component
+@Slf4j
+public class PoiTileCache {
+
+    private static final Set<PoiEvent.EventType> LOCATED_EVENTS = EnumSet.of(
+            PoiEvent.EventType.POI_CREATED,
+            PoiEvent.EventType.POI_DELETED,
+            PoiEvent.EventType.POI_ACTIVATED,
+            PoiEvent.EventType.POI_DESACTIVATED);
+
+    private final VectorTileProperties properties;
+    private final Cache<String, Mono<byte[]>> cache;
+    private final Disposable eventSubscription;
+
+    public PoiTileCache(VectorTileProperties properties,
+            PoiEventPublisher eventPublisher,
+            PoiDetailCache detailCache,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getCacheTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "poi.tiles");
+
+        this.eventSubscription = eventPublisher.getPublisher()
+                .subscribe(this::onEvent);
+        detailCache.addRemoteInvalidationListener(poiId -> invalidateAll());
+    }
+
+    /**
+     * Cached result of {@code loader} for tile {@code zoom/x/y}.
+     */
+    public Mono<byte[]> get(int zoom, int x, int y, Supplier<Mono<byte[]>> loader) {
+        if (!properties.isCacheEnabled()) {
+            return loader.get();
+        }
+        return cache.get(key(zoom, x, y), k -> load(k, loader));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops every cached tile that may show a POI located at the given point.
+     */
+    public void invalidateAt(double latitude, double longitude) {
+        double margin = (double) properties.getBuffer() / properties.getExtent();
+        for (int zoom = 0; zoom <= properties.getMaxZoom(); zoom++) {
+            double tileMargin = zoom < properties.getClusterMaxZoom() ? 0 : margin;
+            int tiles = 1 << zoom;
+            double tileX = WebMercatorTiles.tileX(longitude, zoom);
+            double tileY = WebMercatorTiles.tileY(latitude, zoom);
+            int minX = Math.max(0, (int) Math.floor(tileX - tileMargin));
+            int maxX = Math.min(tiles - 1, (int) Math.floor(tileX + tileMargin));
+            int minY = Math.max(0, (int) Math.floor(tileY - tileMargin));
+            int maxY = Math.min(tiles - 1, (int) Math.floor(tileY + tileMargin));
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    cache.invalidate(key(zoom, x, y));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventSubscription.dispose();
+    }
+
+    private void onEvent(PoiEvent event) {
+        PointOfInterestDTO poi = event.getPayload();
+        if (LOCATED_EVENTS.contains(event.getType()) && poi != null
+                && poi.getLatitude() != null && poi.getLongitude() != null) {
+            invalidateAt(poi.getLatitude(), poi.getLongitude());
+        } else if (LOCATED_EVENTS.contains(event.getType()) || event.getType() == PoiEvent.EventType.POI_UPDATED) {
+            invalidateAll();
+        }
+    }
+
+    private Mono<byte[]> load(String key, Supplier<Mono<byte[]>> loader) {
+        AtomicReference<Mono<byte[]>> self = new AtomicReference<>();
+        Mono<byte[]> shared = Mono.defer(loader)
+                .doOnError(e -> {
+                    log.warn("POI tile cache load failed for {}: {}", key, e.getMessage());
+                    // Only drop this failed load, not a newer entry loaded since
+                    cache.asMap().remove(key, self.get());
+                })
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    private static String key(int zoom, int x, int y) {
+        return zoom + "/" + x + "/" + y;
+    }
+}
@@ -1,10 +1,22 @@
 package com.poi.yow_point.application.services.point_of_interest;
 
+import com.poi.yow_point.presentation.dto.CursorPage;
+import com.poi.yow_point.presentation.dto.NearestPoiDTO;
+import com.poi.yow_point.presentation.dto.PoiClusterDTO;
+import com.poi.yow_point.presentation.dto.PoiSearchResultDTO;
+import com.poi.yow_point.presentation.dto.PoiSuggestionDTO;
+import com.poi.yow_point.presentation.dto.PoiSummaryDTO;
 import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiListFilter;
+import com.poi.yow_point.application.model.PoiStatus;
+import com.poi.yow_point.application.model.PoiType;
 import com.poi.yow_point.presentation.dto.CreatePoiDTO;
 import com.poi.yow_point.presentation.dto.UpdatePoiDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public interface PointOfInterestService {
@@ -21,12 +33,83 @@ public interface PointOfInterestService {
 
     Flux<PointOfInterestDTO> findByLocationWithinRadius(Double latitude, Double longitude, Double radiusKm);
 
-    Flux<PointOfInterestDTO> findByType(com.poi.yow_point.application.model.PoiType poiType);
+    Flux<NearestPoiDTO> findNearest(Double latitude, Double longitude, Integer limit,
+            PoiType poiType,
+            PoiCategory poiCategory);
 
-    Flux<PointOfInterestDTO> findByCategory(com.poi.yow_point.application.model.PoiCategory poiCategory);
+    Flux<PointOfInterestDTO> findByType(PoiType poiType);
+
+    Flux<PointOfInterestDTO> findByCategory(PoiCategory poiCategory);
 
     Flux<PointOfInterestDTO> searchByName(String name);
 
+    /**
+     * Active POIs open at {@code at} according to their opening hours, filtered in the database.
+     * Type, category, point and radius are optional; with a point the nearest come first.
+     */
+    Flux<NearestPoiDTO> findOpenAt(Instant at, PoiType poiType,
+            PoiCategory poiCategory,
+            Double latitude, Double longitude, Double radiusKm, Integer limit);
+
+    /**
+     * Active POIs offering all the given amenities and carrying all the given type tags, optionally
+     * restricted to {@code radiusKm} around a point (then nearest first, else most popular first).
+     * {@code distance_meters} is only set when a point is given.
+     */
+    Flux<NearestPoiDTO> findByAmenitiesAndTypeTags(List<String> amenities, List<String> typeTags,
+            Double latitude, Double longitude, Double radiusKm, Integer limit);
+
+    /**
+     * Most popular active POIs whose name, alias or keyword starts with {@code prefix}, served from memory
+     * once the autocomplete index is warm. {@code city} and {@code geohash} (cell prefix) are optional filters.
+     */
+    Flux<PoiSuggestionDTO> autocomplete(String prefix, String city, String geohash, int limit);
+
+    /**
+     * Ranked full-text and fuzzy search, keyset-paginated by score.
+     *
+     * @throws IllegalArgumentException (as error signal) if the query is blank or the cursor is malformed
+     */
+    Mono<CursorPage<PoiSearchResultDTO>> search(String query, PoiType poiType,
+            PoiCategory poiCategory, String city,
+            Double latitude, Double longitude, String cursor, int size);
+
+    /**
+     * POIs matching the filter as slim summaries, read with only the summary columns; cached like the full
+     * list lookups.
+     */
+    Flux<PoiSummaryDTO> findSummaries(
+            PoiListFilter filter);
+
+    /**
+     * Active POIs inside the box as slim summaries, most popular first; {@code poiType}, {@code poiCategory}
+     * and {@code limit} are optional.
+     *
+     * @throws IllegalArgumentException (as error signal) if the box is invalid
+     */
+    Flux<PoiSummaryDTO> findWithinBoundingBox(double minLatitude,
+            double minLongitude, double maxLatitude, double maxLongitude,
+            PoiType poiType,
+            PoiCategory poiCategory, Integer limit);
+
+    /**
+     * Clusters of the active POIs inside the box at {@code zoom}: count, centroid and most frequent type and
+     * category per grid cell, served from memory once the cluster index is warm.
+     *
+     * @throws IllegalArgumentException (as error signal) if the box or zoom is invalid, or the box is too large
+     *                                  for the zoom
+     */
+    Flux<PoiClusterDTO> findClusters(double minLatitude, double minLongitude,
+            double maxLatitude, double maxLongitude, int zoom);
+
+    /**
+     * Mapbox Vector Tile of the active POIs in tile {@code zoom/x/y}, clustered at low zoom; an empty array
+     * means an empty tile.
+     *
+     * @throws IllegalArgumentException (as error signal) if the tile coordinates are out of range
+     */
+    Mono<byte[]> getVectorTile(int zoom, int x, int y);
+
     Flux<PointOfInterestDTO> findByCity(String city);
 
     Flux<PointOfInterestDTO> findTopPopular(Integer limit);
@@ -58,4 +141,11 @@ public interface PointOfInterestService {
     Mono<Void> approvePoi(UUID poiId, UUID approverId);
 
     Mono<Void> rejectPoi(UUID poiId, UUID rejecterId);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of POIs, newest first. {@code city}, {@code poiType} and {@code status} are optional
+     * filters; {@code cursor} is the {@code next_cursor} of the previous page (null for the first page).
+     */
+    Mono<CursorPage<PointOfInterestDTO>> findPage(String city, PoiType poiType,
+            PoiStatus status, String cursor, int size);
+}
@@ -2,27 +2,43 @@ package com.poi.yow_point.application.services.point_of_interest;
 
 import com.poi.yow_point.application.mappers.MapperUtils;
 import com.poi.yow_point.application.mappers.PointOfInterestMapper;
+import com.poi.yow_point.application.model.OpeningHours;
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiListFilter;
 import com.poi.yow_point.application.model.PoiStatus;
+import com.poi.yow_point.application.model.PoiType;
 import com.poi.yow_point.application.services.appUser.AppUserService;
+import com.poi.yow_point.application.services.geo.GeoHash;
+import com.poi.yow_point.application.services.geo.GeoUtils;
+import com.poi.yow_point.application.services.geo.WebMercatorTiles;
 import com.poi.yow_point.application.services.notification.NotificationService;
+import com.poi.yow_point.application.services.outbox.PoiOutbox;
 import com.poi.yow_point.application.services.websocket.PoiEventPublisher;
 import com.poi.yow_point.application.validation.PointOfInterestValidator;
-import com.poi.yow_point.infrastructure.kafka.KafkaProducerService;
+import com.poi.yow_point.infrastructure.configuration.OpeningHoursProperties;
+import com.poi.yow_point.infrastructure.configuration.VectorTileProperties;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 import com.poi.yow_point.presentation.dto.CreatePoiDTO;
+import com.poi.yow_point.presentation.dto.CursorPage;
+import com.poi.yow_point.presentation.dto.NearestPoiDTO;
+import com.poi.yow_point.presentation.dto.PoiClusterDTO;
+import com.poi.yow_point.presentation.dto.PoiSearchResultDTO;
+import com.poi.yow_point.presentation.dto.PoiSuggestionDTO;
+import com.poi.yow_point.presentation.dto.PoiSummaryDTO;
 import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
 import com.poi.yow_point.presentation.dto.UpdatePoiDTO;
 import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -35,16 +51,21 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
     private final MapperUtils mapperUtils;
     private final PointOfInterestValidator validator;
     private final PoiEventPublisher eventPublisher;
-    private final KafkaProducerService kafkaProducerService;
-    private final ReactiveRedisTemplate<String, PointOfInterestDTO> redisTemplate;
+    private final PoiOutbox outbox;
     private final NotificationService notificationService;
     private final AppUserService appUserService;
-
-    private static final String CACHE_KEY_PREFIX = "poi:";
-    private static final Duration CACHE_TTL = Duration.ofHours(1);
+    private final PoiSpatialIndex spatialIndex;
+    private final PoiAutocompleteIndex autocompleteIndex;
+    private final PoiClusterIndex clusterIndex;
+    private final PoiDetailCache detailCache;
+    private final PoiQueryCache queryCache;
+    private final OpeningHoursProperties openingHoursProperties;
+    private final PoiTileCache tileCache;
+    private final VectorTileProperties tileProperties;
+    // Wraps the writes only, so that caches, indexes and events follow the commit
+    private final TransactionalOperator transactionalOperator;
 
     @Override
-    @Transactional
     public Mono<PointOfInterestDTO> createPoi(CreatePoiDTO dto) {
         return Mono.just(dto) // Skipping complex validation for now as logic changed, relying on partial checks
                 .flatMap(validDto -> repository.existsByNameAndOrganizationIdExcludingId(
@@ -69,11 +90,17 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
                 })
                 .flatMap(repository::save)
                 .map(mapper::toDto)
+                // Kafka event queued in the same transaction, relayed once it commits
+                .flatMap(savedDto -> outbox.append("poi-created", savedDto.getPoiId(), savedDto).thenReturn(savedDto))
+                .as(transactionalOperator::transactional)
+                // Nothing cached for a new POI, but the broadcast makes the other nodes drop their cached lists
+                .flatMap(savedDto -> evictCommitted(savedDto.getPoiId()).thenReturn(savedDto))
                 .doOnSuccess(savedDto -> {
                     log.info("POI created successfully with ID: {}. Status: SUBMITTED.", savedDto.getPoiId());
-                    
-                    // Send Kafka message
-                    kafkaProducerService.sendMessage("poi-created", savedDto);
+                    spatialIndex.upsert(savedDto);
+                    autocompleteIndex.upsert(savedDto);
+                    clusterIndex.upsert(savedDto);
+                    eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_CREATED, savedDto));
 
                     // Notify user about submission
                     if (savedDto.getCreatedByUserId() != null) {
@@ -90,10 +117,8 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
     }
 
     @Override
-    @Transactional
     public Mono<PointOfInterestDTO> updatePoi(UUID poiId, UpdatePoiDTO dto) {
-        return redisTemplate.opsForValue().delete(CACHE_KEY_PREFIX + poiId)
-                .then(repository.findById(poiId))
+        return repository.findById(poiId)
                 .switchIfEmpty(Mono.error(new RuntimeException("POI not found with ID: " + poiId)))
                 .flatMap(existingEntity -> {
                     if (dto.getPoiName() != null && !dto.getPoiName().equals(existingEntity.getPoiName())) {
@@ -118,22 +143,22 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
                 })
                 .flatMap(repository::save)
                 .map(mapper::toDto)
+                .flatMap(updatedDto -> outbox.append("poi-updated", poiId, updatedDto).thenReturn(updatedDto))
+                .as(transactionalOperator::transactional)
+                .flatMap(updatedDto -> evictCommitted(poiId).thenReturn(updatedDto))
                 .doOnSuccess(updatedDto -> {
                     log.info("POI updated successfully: {}", updatedDto.getPoiId());
+                    spatialIndex.upsert(updatedDto);
+                    autocompleteIndex.upsert(updatedDto);
+                    clusterIndex.upsert(updatedDto);
                     eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_UPDATED, updatedDto));
-                    kafkaProducerService.sendMessage("poi-updated", updatedDto);
                 })
                 .doOnError(error -> log.error("Error updating POI {}: {}", poiId, error.getMessage()));
     }
 
     @Override
     public Mono<PointOfInterestDTO> findById(UUID poiId) {
-        String cacheKey = CACHE_KEY_PREFIX + poiId;
-        return redisTemplate.opsForValue().get(cacheKey)
-                .onErrorResume(e -> Mono.empty())
-                .switchIfEmpty(repository.findById(poiId)
-                        .map(mapper::toDto)
-                        .flatMap(dto -> redisTemplate.opsForValue().set(cacheKey, dto, CACHE_TTL).thenReturn(dto)));
+        return detailCache.get(poiId, () -> repository.findById(poiId).map(mapper::toDto));
     }
 
     /* 
@@ -154,20 +179,40 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
 
     @Override
     public Flux<PointOfInterestDTO> findByLocationWithinRadius(Double latitude, Double longitude, Double radiusKm) {
-        return repository.findByLocationWithinRadius(latitude, longitude, radiusKm)
-                .map(mapper::toDto);
+        if (spatialIndex.isReady()) {
+            return Flux.defer(() -> Flux.fromIterable(
+                    spatialIndex.findWithinRadius(latitude, longitude, radiusKm * 1000)));
+        }
+        // Index still warming: fall back to PostGIS, through the result-set cache
+        return queryCache.getNearby(latitude, longitude, radiusKm,
+                (lat, lon, radius) -> repository.findByLocationWithinRadius(lat, lon, radius).map(mapper::toDto));
     }
 
     @Override
-    public Flux<PointOfInterestDTO> findByType(com.poi.yow_point.application.model.PoiType poiType) {
-        return repository.findByPoiType(poiType)
-                .map(mapper::toDto);
+    public Flux<NearestPoiDTO> findNearest(Double latitude, Double longitude, Integer limit,
+            PoiType poiType,
+            PoiCategory poiCategory) {
+        if (spatialIndex.isReady()) {
+            return Flux.defer(() -> Flux.fromIterable(spatialIndex.findNearest(latitude, longitude, limit,
+                    dto -> (poiType == null || poiType == dto.getPoiType())
+                            && (poiCategory == null || poiCategory == dto.getPoiCategory()))))
+                    .map(neighbour -> new NearestPoiDTO(neighbour.poi(), neighbour.distanceMeters()));
+        }
+        return repository.findNearest(latitude, longitude, limit, poiType, poiCategory)
+                .take(limit)
+                .map(row -> new NearestPoiDTO(mapper.toDto(row.getPoi()), row.getDistanceMeters()));
     }
 
     @Override
-    public Flux<PointOfInterestDTO> findByCategory(com.poi.yow_point.application.model.PoiCategory poiCategory) {
-        return repository.findByPoiCategory(poiCategory)
-                .map(mapper::toDto);
+    public Flux<PointOfInterestDTO> findByType(PoiType poiType) {
+        return queryCache.get("type:" + poiType,
+                () -> repository.findByPoiType(poiType).map(mapper::toDto));
+    }
+
+    @Override
+    public Flux<PointOfInterestDTO> findByCategory(PoiCategory poiCategory) {
+        return queryCache.get("category:" + poiCategory,
+                () -> repository.findByPoiCategory(poiCategory).map(mapper::toDto));
     }
 
     @Override
@@ -176,23 +221,124 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
                 .map(mapper::toDto);
     }
 
+    @Override
+    public Flux<NearestPoiDTO> findOpenAt(Instant at, PoiType poiType,
+            PoiCategory poiCategory,
+            Double latitude, Double longitude, Double radiusKm, Integer limit) {
+        int minuteOfWeek = OpeningHours.minuteOfWeek(at.atZone(ZoneId.of(openingHoursProperties.getZone())));
+        return repository.findOpenAt(minuteOfWeek, poiType, poiCategory, latitude, longitude, radiusKm, limit)
+                .map(row -> new NearestPoiDTO(mapper.toDto(row.getPoi()), row.getDistanceMeters()));
+    }
+
+    @Override
+    public Flux<NearestPoiDTO> findByAmenitiesAndTypeTags(List<String> amenities, List<String> typeTags,
+            Double latitude, Double longitude, Double radiusKm, Integer limit) {
+        return repository.findByAmenitiesAndTypeTags(mapperUtils.cleanList(amenities), mapperUtils.cleanList(typeTags),
+                        latitude, longitude, radiusKm, limit)
+                .map(row -> new NearestPoiDTO(mapper.toDto(row.getPoi()), row.getDistanceMeters()));
+    }
+
+    @Override
+    public Flux<PoiSuggestionDTO> autocomplete(String prefix, String city, String geohash, int limit) {
+        if (autocompleteIndex.isReady()) {
+            return Flux.defer(() -> Flux.fromIterable(autocompleteIndex.complete(prefix, city, geohash, limit)))
+                    .map(suggestion -> new PoiSuggestionDTO(suggestion.poiId(), suggestion.label(),
+                            suggestion.city(), suggestion.score()));
+        }
+        // Index still warming up: name-only lookup, filtered like the index would
+        return repository.findByPoiNameContainingIgnoreCase(prefix)
+                .filter(poi -> Boolean.TRUE.equals(poi.getIsActive()))
+                .filter(poi -> city == null || city.equalsIgnoreCase(poi.getAddressCity()))
+                .map(mapper::toDto)
+                .filter(dto -> geohash == null || (dto.getLatitude() != null && dto.getLongitude() != null
+                        && GeoHash.encode(dto.getLatitude(), dto.getLongitude(), PoiAutocompleteIndex.GEOHASH_PRECISION)
+                                .startsWith(geohash.toLowerCase())))
+                .take(limit)
+                .map(dto -> new PoiSuggestionDTO(dto.getPoiId(), dto.getPoiName(), dto.getAddressCity(),
+                        dto.getPopularityScore()));
+    }
+
+    @Override
+    public Mono<CursorPage<PoiSearchResultDTO>> search(String query, PoiType poiType,
+            PoiCategory poiCategory, String city,
+            Double latitude, Double longitude, String cursor, int size) {
+        return Mono.defer(() -> {
+            if (query == null || query.isBlank()) {
+                return Mono.error(new IllegalArgumentException("Search query must not be blank"));
+            }
+            return repository.search(query.trim(), poiType, poiCategory, city, latitude, longitude,
+                            KeysetCursor.decode(cursor), size + 1)
+                    .collectList()
+                    .map(rows -> CursorPage.of(rows, size,
+                            hit -> KeysetCursor.of(hit.getScore(), hit.getPoi().getPoiId()).encode(),
+                            hit -> new PoiSearchResultDTO(mapper.toDto(hit.getPoi()), hit.getScore(),
+                                    hit.getDistanceMeters())));
+        });
+    }
+
+    @Override
+    public Flux<PoiSummaryDTO> findSummaries(PoiListFilter filter) {
+        PoiListFilter normalized = filter.getCity() == null ? filter
+                : filter.toBuilder().city(filter.getCity().trim()).build();
+        return queryCache.get("summary:" + normalized,
+                () -> repository.findSummaries(normalized).map(mapper::toSummaryDto));
+    }
+
+    @Override
+    public Flux<PoiSummaryDTO> findWithinBoundingBox(double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude, PoiType poiType,
+            PoiCategory poiCategory, Integer limit) {
+        if (!GeoUtils.isValidBoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+            return Flux.error(new IllegalArgumentException("Invalid bounding box"));
+        }
+        return repository.findSummariesWithinBoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                        poiType, poiCategory, limit)
+                .map(mapper::toSummaryDto);
+    }
+
+    @Override
+    public Flux<PoiClusterDTO> findClusters(double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude, int zoom) {
+        return Flux.defer(() -> {
+            if (!GeoUtils.isValidBoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude) || zoom < 0) {
+                return Flux.error(new IllegalArgumentException("Invalid bounding box or zoom"));
+            }
+            clusterIndex.checkBox(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude);
+            if (clusterIndex.isReady()) {
+                return Flux.fromIterable(clusterIndex.clusters(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude))
+                        .map(cluster -> new PoiClusterDTO((long) cluster.count(), cluster.latitude(),
+                                cluster.longitude(), cluster.dominantType(), cluster.dominantCategory()));
+            }
+            return repository.findGridCells(clusterIndex.gridZoom(zoom), minLatitude, minLongitude, maxLatitude, maxLongitude)
+                    .map(cell -> new PoiClusterDTO(cell.getCount(), cell.getLatitude(), cell.getLongitude(),
+                            cell.getDominantType(), cell.getDominantCategory()));
+        });
+    }
+
+    @Override
+    public Mono<byte[]> getVectorTile(int zoom, int x, int y) {
+        if (!WebMercatorTiles.isValid(zoom, x, y, tileProperties.getMaxZoom())) {
+            return Mono.error(new IllegalArgumentException("Invalid tile " + zoom + "/" + x + "/" + y));
+        }
+        return tileCache.get(zoom, x, y, () -> repository.findVectorTile(zoom, x, y));
+    }
+
     @Override
     public Flux<PointOfInterestDTO> findByCity(String city) {
-        return repository.findByAddressCity(city)
-                .map(mapper::toDto);
+        String normalizedCity = city == null ? null : city.trim();
+        return queryCache.get("city:" + normalizedCity,
+                () -> repository.findByAddressCity(normalizedCity).map(mapper::toDto));
     }
 
     @Override
     public Flux<PointOfInterestDTO> findTopPopular(Integer limit) {
-        return repository.findTopByPopularityScore(limit)
-                .map(mapper::toDto);
+        return queryCache.get("popular:" + limit,
+                () -> repository.findTopByPopularityScore(limit).map(mapper::toDto));
     }
 
     @Override
-    @Transactional
     public Mono<Void> deactivatePoi(UUID poiId, String reason, UUID deactivatedByUserId) {
-        return redisTemplate.opsForValue().delete(CACHE_KEY_PREFIX + poiId)
-                .then(repository.findById(poiId))
+        return repository.findById(poiId)
                 .flatMap(poi -> {
                     poi.setIsActive(false);
                     poi.setDeactivationReason(reason);
@@ -200,18 +346,24 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
                     poi.setUpdatedAt(Instant.now());
                     return repository.save(poi);
                 })
-                .doOnSuccess(saved -> {
+                .map(mapper::toDto)
+                // Other nodes drop an inactive POI from their indexes on its update event
+                .flatMap(deactivated -> outbox.append("poi-updated", poiId, deactivated).thenReturn(deactivated))
+                .as(transactionalOperator::transactional)
+                .flatMap(deactivated -> evictCommitted(poiId).thenReturn(deactivated))
+                .doOnSuccess(deactivated -> {
                      log.info("POI {} deactivated by user {}", poiId, deactivatedByUserId);
-                     eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_DESACTIVATED, mapper.toDto(saved)));
+                     spatialIndex.remove(poiId);
+                     autocompleteIndex.remove(poiId);
+                     clusterIndex.remove(poiId);
+                     eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_DESACTIVATED, deactivated));
                 })
                 .then();
     }
 
     @Override
-    @Transactional
     public Mono<Void> activatePoi(UUID poiId) {
-        return redisTemplate.opsForValue().delete(CACHE_KEY_PREFIX + poiId)
-                .then(repository.findById(poiId))
+        return repository.findById(poiId)
                 .flatMap(poi -> {
                     poi.setIsActive(true);
                     poi.setDeactivationReason(null);
@@ -219,23 +371,35 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
                     poi.setUpdatedAt(Instant.now());
                     return repository.save(poi);
                 })
-                .doOnSuccess(saved -> {
+                .map(mapper::toDto)
+                .flatMap(activated -> outbox.append("poi-updated", poiId, activated).thenReturn(activated))
+                .as(transactionalOperator::transactional)
+                .flatMap(activated -> evictCommitted(poiId).thenReturn(activated))
+                .doOnSuccess(activated -> {
                     log.info("POI {} activated", poiId);
-                    eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_ACTIVATED, mapper.toDto(saved)));
+                    spatialIndex.upsert(activated);
+                    autocompleteIndex.upsert(activated);
+                    clusterIndex.upsert(activated);
+                    eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_ACTIVATED, activated));
                 })
                 .then();
     }
 
     @Override
-    @Transactional
     public Mono<Void> deletePoi(UUID poiId) {
-        return redisTemplate.opsForValue().delete(CACHE_KEY_PREFIX + poiId)
-                .then(repository.findById(poiId))
-                .flatMap(poi -> repository.deleteById(poiId).then(Mono.just(poi)))
-                .doOnSuccess(poi -> {
+        return repository.findById(poiId)
+                .map(mapper::toDto)
+                .flatMap(deleted -> repository.deleteById(poiId)
+                        .then(outbox.append("poi-deleted", poiId, deleted))
+                        .thenReturn(deleted))
+                .as(transactionalOperator::transactional)
+                .flatMap(deleted -> evictCommitted(poiId).thenReturn(deleted))
+                .doOnSuccess(deleted -> {
                     log.info("POI {} deleted", poiId);
-                    eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_DELETED, null));
-                    kafkaProducerService.sendMessage("poi-deleted", mapper.toDto(poi));
+                    spatialIndex.remove(poiId);
+                    autocompleteIndex.remove(poiId);
+                    clusterIndex.remove(poiId);
+                    eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_DELETED, deleted));
                 })
                 .then();
     }
@@ -267,6 +431,16 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
         return repository.findAll().map(mapper::toDto);
     }
 
+    @Override
+    public Mono<CursorPage<PointOfInterestDTO>> findPage(String city, PoiType poiType,
+            PoiStatus status, String cursor, int size) {
+        return Mono.defer(() -> repository.findPageAfter(city, poiType, status, KeysetCursor.decode(cursor), size + 1)
+                .collectList()
+                .map(rows -> CursorPage.of(rows, size,
+                        poi -> KeysetCursor.of(poi.getCreatedAt(), poi.getPoiId()).encode(),
+                        mapper::toDto)));
+    }
+
     @Override
     public Mono<Long> countAll() {
         return repository.count();
@@ -274,7 +448,8 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
 
     @Override
     public Flux<PointOfInterestDTO> findRecent(Integer limit) {
-        return repository.findRecent(limit).map(mapper::toDto);
+        return queryCache.get("recent:" + limit,
+                () -> repository.findRecent(limit).map(mapper::toDto));
     }
 
     // --- New Methods ---
@@ -290,21 +465,31 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
     }
 
     @Override
-    @Transactional
     public Mono<Void> approvePoi(UUID poiId, UUID approverId) {
-        return redisTemplate.opsForValue().delete(CACHE_KEY_PREFIX + poiId)
-                .then(repository.findById(poiId))
+        return repository.findById(poiId)
                 .flatMap(poi -> {
                     poi.setStatus(PoiStatus.APPROUVED);
                     poi.setApprouvedByUserId(approverId);
                     poi.setUpdatedAt(Instant.now());
                     return repository.save(poi);
                 })
-                .doOnSuccess(saved -> {
+                .map(mapper::toDto)
+                .flatMap(approved -> outbox.append("poi-updated", poiId, approved).thenReturn(approved))
+                .as(transactionalOperator::transactional)
+                .flatMap(approved -> evictCommitted(poiId).thenReturn(approved))
+                .doOnSuccess(approved -> {
+                    if (approved == null) {
+                        return;
+                    }
+                    spatialIndex.upsert(approved);
+                    autocompleteIndex.upsert(approved);
+                    clusterIndex.upsert(approved);
+                    eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_UPDATED, approved));
+
                     // Notify user about approval
-                    if (saved.getCreatedByUserId() != null) {
-                        appUserService.getUserById(saved.getCreatedByUserId())
-                                .flatMap(userDto -> notificationService.notifyPoiApproved(mapper.toDto(saved), userDto))
+                    if (approved.getCreatedByUserId() != null) {
+                        appUserService.getUserById(approved.getCreatedByUserId())
+                                .flatMap(userDto -> notificationService.notifyPoiApproved(approved, userDto))
                                 .onErrorResume(e -> {
                                     log.error("Failed to send approval notification: {}", e.getMessage());
                                     return Mono.empty();
@@ -316,10 +501,8 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
     }
 
     @Override
-    @Transactional
     public Mono<Void> rejectPoi(UUID poiId, UUID rejecterId) {
-        return redisTemplate.opsForValue().delete(CACHE_KEY_PREFIX + poiId)
-                .then(repository.findById(poiId))
+        return repository.findById(poiId)
                 .flatMap(poi -> {
                     // Notify user about rejection BEFORE deleting (so we have user data)
                     if (poi.getCreatedByUserId() != null) {
@@ -331,8 +514,30 @@ public class PointOfInterestServiceImpl implements PointOfInterestService {
                                 })
                                 .subscribe();
                     }
-                    return repository.delete(poi);
+                    PointOfInterestDTO rejected = mapper.toDto(poi);
+                    return repository.delete(poi)
+                            .then(outbox.append("poi-deleted", poiId, rejected))
+                            .thenReturn(rejected);
+                })
+                .as(transactionalOperator::transactional)
+                .flatMap(rejected -> evictCommitted(poiId).thenReturn(rejected))
+                .doOnSuccess(rejected -> {
+                    spatialIndex.remove(poiId);
+                    autocompleteIndex.remove(poiId);
+                    clusterIndex.remove(poiId);
+                    if (rejected != null) {
+                        eventPublisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_DELETED, rejected));
+                    }
                 })
                 .then();
     }
+
+    // After commit only: evicted any earlier, the entry could be cached again from the old row before the commit
+    private Mono<Void> evictCommitted(UUID poiId) {
+        return detailCache.evict(poiId)
+                .onErrorResume(e -> {
+                    log.warn("Could not evict POI {} from the detail cache: {}", poiId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
 }
@@ -0,0 +1,179 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory structure over active POIs, fully rebuilt from the database by {@link PoiIndexRebuilder} and kept
+ * current in between by the write paths of {@link PointOfInterestServiceImpl} and the Kafka consumer.
+ * <p>
+ * A rebuild loads the POIs without holding the lock; the writes received meanwhile are recorded and replayed on
+ * the fresh structure before it is swapped in, so a load never rolls back a newer write. Until the first build
+ * completes {@link #isReady()} returns false and callers fall back to the database. Subclasses only say which
+ * POIs they keep and how one is put into or removed from their structure.
+ *
+ * @param <S> the indexed structure, replaced as a whole by each rebuild
+ */
+@Slf4j
+public abstract class RebuildablePoiIndex<S> {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // Guarded by lock; null until the first build
+    private S structure;
+    private Map<UUID, Optional<PointOfInterestDTO>> pendingDuringRebuild;
+
+    private volatile boolean ready = false;
+
+    /**
+     * Name of the index in logs.
+     */
+    protected abstract String name();
+
+    /**
+     * Whether the index is built and served.
+     */
+    public abstract boolean isEnabled();
+
+    protected abstract S newStructure(int expectedSize);
+
+    /**
+     * Whether the POI belongs in the index; the others are removed on upsert.
+     */
+    protected abstract boolean isIndexable(PointOfInterestDTO dto);
+
+    /**
+     * Adds or replaces the POI in the structure.
+     */
+    protected abstract void put(S target, PointOfInterestDTO dto);
+
+    protected abstract void delete(S target, UUID poiId);
+
+    protected abstract int size(S target);
+
+    public boolean isReady() {
+        return ready && isEnabled();
+    }
+
+    public int size() {
+        return read(this::size, 0);
+    }
+
+    /**
+     * Adds, moves or refreshes a POI; POIs the index does not keep are removed.
+     */
+    public void upsert(PointOfInterestDTO dto) {
+        if (dto == null || dto.getPoiId() == null) {
+            return;
+        }
+        if (!isIndexable(dto)) {
+            remove(dto.getPoiId());
+            return;
+        }
+        withWriteLock(() -> {
+            if (structure != null) {
+                put(structure, dto);
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(dto.getPoiId(), Optional.of(dto));
+            }
+        });
+    }
+
+    public void remove(UUID poiId) {
+        if (poiId == null) {
+            return;
+        }
+        withWriteLock(() -> {
+            if (structure != null) {
+                delete(structure, poiId);
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(poiId, Optional.empty());
+            }
+        });
+    }
+
+    /**
+     * Runs a query on the current structure under the read lock; {@code whenEmpty} before the first build.
+     */
+    protected <T> T read(Function<S, T> query, T whenEmpty) {
+        lock.readLock().lock();
+        try {
+            return structure == null ? whenEmpty : query.apply(structure);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts recording writes for the replay; false if a rebuild of this index is already running.
+     */
+    boolean beginRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        withWriteLock(() -> pendingDuringRebuild = new HashMap<>());
+        return true;
+    }
+
+    /**
+     * Builds a fresh structure from the loaded POIs, replays the writes recorded since {@link #beginRebuild()}
+     * and swaps it in. Returns the number of indexed POIs.
+     */
+    int swap(List<PointOfInterestDTO> pois) {
+        long start = System.nanoTime();
+        S fresh = newStructure(pois.size());
+        pois.stream().filter(this::isIndexable).forEach(dto -> put(fresh, dto));
+
+        int count;
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.forEach((id, dto) -> {
+                    if (dto.isPresent()) {
+                        put(fresh, dto.get());
+                    } else {
+                        delete(fresh, id);
+                    }
+                });
+                pendingDuringRebuild = null;
+            }
+            structure = fresh;
+            ready = true;
+            count = size(fresh);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("POI {} index built with {} entries in {} ms", name(), count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    /**
+     * Stops recording writes, whether the rebuild succeeded or not.
+     */
+    void endRebuild() {
+        withWriteLock(() -> pendingDuringRebuild = null);
+        rebuilding.set(false);
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
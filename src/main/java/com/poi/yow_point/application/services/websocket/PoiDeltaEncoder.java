@@ -0,0 +1,99 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes POI events for the SSE stream, not thread-safe (called by the fan-out, one event at a time).
+ * <p>
+ * Each event gets a full form, {@code {"type":"POI_UPDATED","poi_id":"…","full":true,"changes":{…whole POI…}}},
+ * and, when the previous state of the POI is known, a field-level delta carrying only the fields that differ
+ * from it, with their new value (null when cleared):
+ * <pre>{"type":"POI_UPDATED","poi_id":"…","changes":{"popularity_score":4.2}}</pre>
+ * The delta is only valid for a client that received the previous event of that POI, whose sequence number is
+ * returned along ({@link Encoded#baseSeq()}); it is up to each stream to check that. The last state of each POI
+ * is kept (up to {@code maxSnapshots} POIs, least recently changed evicted). A deletion is a tombstone,
+ * {@code {"type":"POI_DELETED","poi_id":"…"}}. Events without a POI only carry their type.
+ */
+class PoiDeltaEncoder {
+
+    /**
+     * @param delta   changed fields only, null when the previous state is unknown
+     * @param full    whole state (tombstone for deletions)
+     * @param baseSeq sequence number of the event {@code delta} is relative to, 0 without delta
+     */
+    record Encoded(String delta, String full, long baseSeq) {
+    }
+
+    private record Snapshot(ObjectNode state, long seq) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, Snapshot> snapshots;
+
+    PoiDeltaEncoder(ObjectMapper objectMapper, long maxSnapshots) {
+        this.objectMapper = objectMapper;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSnapshots)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Encodes the event numbered {@code seq}.
+     */
+    Encoded encode(PoiEvent event, long seq) throws JsonProcessingException {
+        ObjectNode header = objectMapper.createObjectNode();
+        header.put("type", event.getType().name());
+        PointOfInterestDTO poi = event.getPayload();
+        if (poi == null || poi.getPoiId() == null) {
+            String json = objectMapper.writeValueAsString(header);
+            return new Encoded(json, json, 0);
+        }
+        UUID poiId = poi.getPoiId();
+        header.put("poi_id", poiId.toString());
+        if (event.getType() == PoiEvent.EventType.POI_DELETED) {
+            snapshots.invalidate(poiId);
+            String tombstone = objectMapper.writeValueAsString(header);
+            return new Encoded(tombstone, tombstone, 0);
+        }
+
+        ObjectNode state = objectMapper.valueToTree(poi);
+        Snapshot previous = snapshots.getIfPresent(poiId);
+        snapshots.put(poiId, new Snapshot(state, seq));
+        ObjectNode full = header.deepCopy();
+        full.put("full", true);
+        full.set("changes", state);
+        if (previous == null) {
+            return new Encoded(null, objectMapper.writeValueAsString(full), 0);
+        }
+
+        ObjectNode delta = header.deepCopy();
+        ObjectNode changes = delta.putObject("changes");
+        for (Iterator<Map.Entry<String, JsonNode>> fields = state.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().equals(previous.state().get(field.getKey()))) {
+                changes.set(field.getKey(), field.getValue());
+            }
+        }
+        for (Iterator<String> names = previous.state().fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!state.has(name)) {
+                changes.set(name, NullNode.getInstance());
+            }
+        }
+        return new Encoded(objectMapper.writeValueAsString(delta), objectMapper.writeValueAsString(full),
+                previous.seq());
+    }
+}
@@ -0,0 +1,167 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poi.yow_point.infrastructure.configuration.PoiEventBusProperties;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.ReactiveStreamOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cluster-wide stream of POI events for the WebSocket fan-out.
+ * <p>
+ * {@link PoiEventPublisher} only carries the events of this node. With {@code poi.events.bus.enabled}, each
+ * of them is appended once to a Redis stream, and every node (this one included) reads the stream and hands
+ * the events to its {@link PoiEventFanout}. Delivery is at most once: no consumer group, no acknowledgement,
+ * an event lost on the way is not retried (an event that cannot be appended is still delivered locally).
+ * <p>
+ * The stream is polled without BLOCK: a blocking XREAD would hold the shared Redis connection used by the
+ * caches. An idle node reads it every {@code poll-interval-ms}, which bounds the added latency.
+ */
+@Component
+@Slf4j
+public class PoiEventBus {
+
+    private static final String EVENT_FIELD = "event";
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final PoiEventPublisher eventPublisher;
+    private final ReactiveStreamOperations<String, String, String> streamOperations;
+    private final ObjectMapper objectMapper;
+    private final PoiEventBusProperties.Bus properties;
+    private final Sinks.Many<PoiEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    // Only touched by the poll loop, which reads one batch at a time
+    private RecordId lastId;
+
+    private Disposable publishSubscription;
+    private Disposable pollLoop;
+
+    public PoiEventBus(PoiEventPublisher eventPublisher,
+            ReactiveStringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            PoiEventBusProperties properties) {
+        this.eventPublisher = eventPublisher;
+        this.streamOperations = redisTemplate.opsForStream();
+        this.objectMapper = objectMapper;
+        this.properties = properties.getBus();
+    }
+
+    /**
+     * Events of every node when the bus is enabled, of this node only otherwise.
+     */
+    public Flux<PoiEvent> events() {
+        return properties.isEnabled() ? sink.asFlux() : eventPublisher.getPublisher();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("POI event bus disabled, WebSocket clients only receive events of this node");
+            return;
+        }
+        publishSubscription = eventPublisher.getPublisher().subscribe(this::publish);
+        pollLoop = Mono.defer(this::readBatch)
+                .flatMap(count -> count < properties.getBatchSize()
+                        ? Mono.delay(Duration.ofMillis(properties.getPollIntervalMs())).thenReturn(count)
+                        : Mono.just(count))
+                .repeat()
+                .subscribe();
+        log.info("Distributing POI events over Redis stream {}", properties.getStreamKey());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (publishSubscription != null) {
+            publishSubscription.dispose();
+        }
+        if (pollLoop != null) {
+            pollLoop.dispose();
+        }
+    }
+
+    private void publish(PoiEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing POI event {}", event.getType(), e);
+            return;
+        }
+        MapRecord<String, String, String> record = StreamRecords.newRecord()
+                .in(properties.getStreamKey())
+                .ofMap(Map.of(EVENT_FIELD, json));
+        streamOperations.add(record, XAddOptions.maxlen(properties.getMaxLength()).approximateTrimming(true))
+                .subscribe(id -> { }, e -> {
+                    log.warn("Could not publish POI event {} to Redis, delivering it locally only: {}",
+                            event.getType(), e.getMessage());
+                    emit(event);
+                });
+    }
+
+    // Number of entries read; errors are logged and retried after a pause
+    private Mono<Integer> readBatch() {
+        Mono<RecordId> from = lastId != null ? Mono.just(lastId) : lastRecordId();
+        return from
+                .flatMapMany(id -> {
+                    lastId = id;
+                    return streamOperations.read(StreamReadOptions.empty().count(properties.getBatchSize()),
+                            StreamOffset.create(properties.getStreamKey(), ReadOffset.from(id)));
+                })
+                .doOnNext(this::onRecord)
+                .count()
+                .map(Long::intValue)
+                .onErrorResume(e -> {
+                    log.warn("Could not read POI events from Redis: {}", e.getMessage());
+                    return Mono.delay(ERROR_BACKOFF).thenReturn(0);
+                });
+    }
+
+    // A node only reads the entries appended after it started
+    private Mono<RecordId> lastRecordId() {
+        return streamOperations.reverseRange(properties.getStreamKey(), Range.unbounded(), Limit.limit().count(1))
+                .next()
+                .map(MapRecord::getId)
+                .defaultIfEmpty(RecordId.of("0-0"));
+    }
+
+    private void onRecord(MapRecord<String, String, String> record) {
+        lastId = record.getId();
+        String json = record.getValue().get(EVENT_FIELD);
+        if (json == null) {
+            return;
+        }
+        try {
+            emit(objectMapper.readValue(json, PoiEvent.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping unreadable POI event {}: {}", record.getId(), e.getMessage());
+        }
+    }
+
+    private void emit(PoiEvent event) {
+        // The poll loop and failed publications may emit concurrently
+        sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+}
@@ -0,0 +1,332 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poi.yow_point.infrastructure.configuration.PoiEventBusProperties;
+import com.poi.yow_point.infrastructure.configuration.SseProperties;
+import com.poi.yow_point.infrastructure.configuration.WebSocketFanoutProperties;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEventMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans the {@link PoiEventBus} stream out to the /ws/pois sessions and the /events SSE streams.
+ * <p>
+ * Each event is numbered in this node's sequence and serialized once into a {@link PoiEventFrame} (in full for
+ * WebSocket, in full and delta forms for SSE), which every session writes as is. Sessions are spread over
+ * shards; a shard is dispatched by a single worker, which matches the event against the filter of each of its
+ * sessions and hands it to the matching ones without ever waiting on them. Every session has its own bounded buffer: when a
+ * client reads too slowly, {@code poi.websocket.overflow-policy} either drops its oldest buffered events or
+ * disconnects it, and the other sessions are not affected.
+ * <p>
+ * A new session first receives the latest event, if it matches its filter. A session resuming from a sequence
+ * number of this node instead receives the matching events it missed, taken from a log bounded by
+ * {@code poi.events.log.*}; if they are no longer all there, or the number comes from another node (or an
+ * earlier run), it receives a {@code RESYNC} message telling it to reload.
+ * <p>
+ * Positions are per node, so resuming needs the client to reconnect to the same node. The id of the
+ * {@link PoiEventBus} Redis stream entry would be a cluster-wide position, but not every event has one: the bus
+ * can be disabled, and an event that could not be appended to the stream is still delivered locally.
+ */
+@Component
+@Slf4j
+public class PoiEventFanout {
+
+    private static final String RESYNC_DELTA = "{\"type\":\"RESYNC\"}";
+
+    private final WebSocketFanoutProperties properties;
+    private final ObjectMapper objectMapper;
+    private final PoiDeltaEncoder deltaEncoder;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final PoiEventLog eventLog;
+    private final Scheduler scheduler;
+    private final Shard[] shards;
+    private final AtomicLong nextId = new AtomicLong();
+    private final Counter framesDropped;
+    private final Counter sessionsDisconnected;
+    private final Counter serializationFailures;
+    private final Counter resyncs;
+    private final Disposable eventSubscription;
+
+    private volatile PoiEventFrame latest;
+
+    @Autowired
+    public PoiEventFanout(WebSocketFanoutProperties properties,
+            PoiEventBusProperties busProperties,
+            SseProperties sseProperties,
+            PoiEventBus eventBus,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this(properties, busProperties.getLog(), sseProperties.getDeltaSnapshots(), eventBus.events(), objectMapper,
+                meterRegistry);
+    }
+
+    PoiEventFanout(WebSocketFanoutProperties properties,
+            PoiEventBusProperties.Log logProperties,
+            long deltaSnapshots,
+            Flux<PoiEvent> events,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.deltaEncoder = new PoiDeltaEncoder(objectMapper, deltaSnapshots);
+        this.eventLog = new PoiEventLog(logProperties.getMaxSize(),
+                Duration.ofSeconds(logProperties.getWindowSeconds()).toMillis());
+        int shardCount = properties.getShards() > 0
+                ? properties.getShards()
+                : Runtime.getRuntime().availableProcessors();
+        this.scheduler = Schedulers.newParallel("poi-ws-fanout", shardCount, true);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(scheduler.createWorker());
+        }
+
+        Gauge.builder("poi.websocket.sessions", this, PoiEventFanout::sessionCount)
+                .description("Open /ws/pois sessions")
+                .register(meterRegistry);
+        this.framesDropped = Counter.builder("poi.websocket.frames.dropped").register(meterRegistry);
+        this.sessionsDisconnected = Counter.builder("poi.websocket.sessions.disconnected").register(meterRegistry);
+        this.serializationFailures = Counter.builder("poi.websocket.serialization.failures").register(meterRegistry);
+        this.resyncs = Counter.builder("poi.websocket.resyncs").register(meterRegistry);
+
+        this.eventSubscription = events.subscribe(this::onEvent);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Sequence number of the last event; resuming from it skips everything sent so far.
+     */
+    public long currentSeq() {
+        return sequence.get();
+    }
+
+    /**
+     * Registers a session. Its events are delivered by {@link ClientSubscription#frames()}.
+     *
+     * @throws IllegalArgumentException if the filter has more than {@code poi.websocket.max-filter-entries} entries
+     */
+    public ClientSubscription subscribe(PoiEventFilter filter) {
+        return subscribe(filter, null, null);
+    }
+
+    /**
+     * Registers a session that already received the events up to {@code resumeFrom} of node {@code node}.
+     * A null {@code resumeFrom} starts a new session.
+     *
+     * @throws IllegalArgumentException if the filter has more than {@code poi.websocket.max-filter-entries} entries
+     */
+    public ClientSubscription subscribe(PoiEventFilter filter, Long resumeFrom, String node) {
+        checkFilter(filter);
+        long id = nextId.incrementAndGet();
+        Shard shard = shards[(int) (id % shards.length)];
+        ClientSubscription subscription = new ClientSubscription(id, shard, filter);
+        // Registration and the replay of the latest event run on the shard's worker, like every later emission
+        // to this session's sink, so the sink is never emitted to concurrently
+        shard.worker.schedule(() -> {
+            if (subscription.closed) {
+                return;
+            }
+            shard.sessions.put(id, subscription);
+            if (resumeFrom == null) {
+                PoiEventFrame last = latest;
+                if (last != null) {
+                    subscription.offer(last);
+                }
+                return;
+            }
+            List<PoiEventFrame> missed = nodeId.equals(node)
+                    ? eventLog.since(resumeFrom, System.currentTimeMillis())
+                    : null;
+            if (missed == null) {
+                resyncs.increment();
+                PoiEventFrame resync = resyncFrame();
+                if (resync != null) {
+                    subscription.emit(resync);
+                }
+            } else {
+                missed.forEach(subscription::offer);
+            }
+        });
+        return subscription;
+    }
+
+    public int sessionCount() {
+        int count = 0;
+        for (Shard shard : shards) {
+            count += shard.sessions.size();
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventSubscription.dispose();
+        scheduler.dispose();
+    }
+
+    // Events arrive one at a time, so frames are appended to the log in sequence order
+    private void onEvent(PoiEvent event) {
+        long seq = sequence.get() + 1;
+        byte[] json = serialize(seq, event);
+        if (json == null) {
+            return;
+        }
+        PoiDeltaEncoder.Encoded encoded;
+        try {
+            encoded = deltaEncoder.encode(event, seq);
+        } catch (JsonProcessingException e) {
+            serializationFailures.increment();
+            log.error("Error encoding POI event {} as a delta", event.getType(), e);
+            return;
+        }
+        sequence.set(seq);
+        PoiEventFrame frame = PoiEventFrame.of(seq, event, json, encoded);
+        eventLog.append(frame, System.currentTimeMillis());
+        latest = frame;
+        for (Shard shard : shards) {
+            shard.worker.schedule(() -> shard.dispatch(frame));
+        }
+    }
+
+    // Current position of the sequence, for the client to resume from once it has reloaded
+    private PoiEventFrame resyncFrame() {
+        long seq = sequence.get();
+        PoiEvent event = new PoiEvent(PoiEvent.EventType.RESYNC, null);
+        byte[] json = serialize(seq, event);
+        return json == null ? null
+                : PoiEventFrame.of(seq, event, json, new PoiDeltaEncoder.Encoded(RESYNC_DELTA, RESYNC_DELTA, 0));
+    }
+
+    private byte[] serialize(long seq, PoiEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(new PoiEventMessage(seq, nodeId, event));
+        } catch (JsonProcessingException e) {
+            serializationFailures.increment();
+            log.error("Error serializing POI event {}", event.getType(), e);
+            return null;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the filter has more than {@code poi.websocket.max-filter-entries} entries
+     */
+    public void checkFilter(PoiEventFilter filter) {
+        if (filter.size() > properties.getMaxFilterEntries()) {
+            throw new IllegalArgumentException("Subscription filter has " + filter.size()
+                    + " entries, at most " + properties.getMaxFilterEntries() + " allowed");
+        }
+    }
+
+    private static final class Shard {
+        private final Scheduler.Worker worker;
+        private final Map<Long, ClientSubscription> sessions = new ConcurrentHashMap<>();
+
+        private Shard(Scheduler.Worker worker) {
+            this.worker = worker;
+        }
+
+        private void dispatch(PoiEventFrame frame) {
+            for (ClientSubscription subscription : sessions.values()) {
+                subscription.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * Registration of one session.
+     */
+    public final class ClientSubscription {
+
+        private final long id;
+        private final Shard shard;
+        // Only emitted to from the shard's worker; the bounded buffer sits downstream in frames()
+        private final Sinks.Many<PoiEventFrame> sink = Sinks.many().unicast().onBackpressureBuffer();
+        private volatile PoiEventFilter filter;
+        private volatile boolean closed;
+        // Highest sequence number emitted, so that an event both replayed and dispatched is sent once
+        private long lastSeq;
+
+        private ClientSubscription(long id, Shard shard, PoiEventFilter filter) {
+            this.id = id;
+            this.shard = shard;
+            this.filter = filter;
+        }
+
+        /**
+         * Events matching the current filter, buffered up to {@code poi.websocket.session-buffer-size}. With the
+         * DISCONNECT policy the flux fails with an overflow error ({@code Exceptions.isOverflow}) when the buffer
+         * is full. Can be subscribed once; cancelling it closes the subscription.
+         */
+        public Flux<PoiEventFrame> frames() {
+            return frames(properties.getOverflowPolicy());
+        }
+
+        /**
+         * Same as {@link #frames()} with the given overflow policy, for streams that cannot lose a frame silently.
+         */
+        public Flux<PoiEventFrame> frames(WebSocketFanoutProperties.OverflowPolicy overflowPolicy) {
+            boolean dropOldest = overflowPolicy == WebSocketFanoutProperties.OverflowPolicy.DROP_OLDEST;
+            return sink.asFlux()
+                    .onBackpressureBuffer(properties.getSessionBufferSize(),
+                            dropped -> {
+                                if (dropOldest) {
+                                    framesDropped.increment();
+                                } else {
+                                    sessionsDisconnected.increment();
+                                }
+                            },
+                            dropOldest ? BufferOverflowStrategy.DROP_OLDEST : BufferOverflowStrategy.ERROR)
+                    .doFinally(signal -> close());
+        }
+
+        /**
+         * Replaces the filter; applies from the next dispatched event.
+         *
+         * @throws IllegalArgumentException if the filter has too many entries
+         */
+        public void setFilter(PoiEventFilter filter) {
+            checkFilter(filter);
+            this.filter = filter;
+        }
+
+        public void close() {
+            closed = true;
+            shard.sessions.remove(id);
+        }
+
+        private void offer(PoiEventFrame frame) {
+            if (frame.seq() > lastSeq && !closed && filter.matches(frame)) {
+                lastSeq = frame.seq();
+                sink.tryEmitNext(frame);
+            }
+        }
+
+        private void emit(PoiEventFrame frame) {
+            sink.tryEmitNext(frame);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.application.services.geo.GeoUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * What a WebSocket session subscribed to. Every criterion that is set must match (an empty set or a null box
+ * means "any"); within a criterion one entry is enough. Events that do not carry the attribute a criterion
+ * needs (e.g. no location for a box) do not match it.
+ *
+ * @param boundingBox {@code [minLatitude, minLongitude, maxLatitude, maxLongitude]}, or null
+ * @param geohashes   geohash cell prefixes the POI must be located in
+ */
+public record PoiEventFilter(double[] boundingBox, List<String> geohashes, Set<PoiType> types, Set<UUID> poiIds) {
+
+    public static final PoiEventFilter ALL = new PoiEventFilter(null, List.of(), Set.of(), Set.of());
+
+    /**
+     * @throws IllegalArgumentException if the box is not a valid WGS84 rectangle or a list holds a null entry
+     */
+    public PoiEventFilter {
+        if (boundingBox != null && (boundingBox.length != 4
+                || !GeoUtils.isValidBoundingBox(boundingBox[0], boundingBox[1], boundingBox[2], boundingBox[3]))) {
+            throw new IllegalArgumentException("Bounding box must be minLat,minLon,maxLat,maxLon with min <= max");
+        }
+        checkNoNull(geohashes, "geohash");
+        checkNoNull(types, "type");
+        checkNoNull(poiIds, "POI id");
+        boundingBox = boundingBox == null ? null : boundingBox.clone();
+        geohashes = geohashes == null ? List.of()
+                : geohashes.stream().map(String::toLowerCase).distinct().toList();
+        types = types == null ? Set.of() : Set.copyOf(types);
+        poiIds = poiIds == null ? Set.of() : Set.copyOf(poiIds);
+    }
+
+    /**
+     * Box of a decoded list such as {@code [3.8, 11.4, 3.9, 11.6]}; null when the list is null.
+     *
+     * @throws IllegalArgumentException if an element is null
+     */
+    public static double[] boundingBox(List<Double> values) {
+        if (values == null) {
+            return null;
+        }
+        checkNoNull(values, "bounding box value");
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static void checkNoNull(Collection<?> values, String name) {
+        // List.of(...).contains(null) throws instead of answering false
+        if (values != null && values.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Null " + name + " in the filter");
+        }
+    }
+
+    public int size() {
+        return geohashes.size() + types.size() + poiIds.size();
+    }
+
+    boolean matches(PoiEventFrame frame) {
+        if (!poiIds.isEmpty() && (frame.poiId() == null || !poiIds.contains(frame.poiId()))) {
+            return false;
+        }
+        if (!types.isEmpty() && (frame.poiType() == null || !types.contains(frame.poiType()))) {
+            return false;
+        }
+        if (boundingBox != null && (!frame.isLocated()
+                || frame.latitude() < boundingBox[0] || frame.latitude() > boundingBox[2]
+                || frame.longitude() < boundingBox[1] || frame.longitude() > boundingBox[3])) {
+            return false;
+        }
+        if (!geohashes.isEmpty()) {
+            if (frame.geohash() == null) {
+                return false;
+            }
+            for (String prefix : geohashes) {
+                if (frame.geohash().startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.application.services.geo.GeoHash;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+
+import java.util.UUID;
+
+/**
+ * A {@link PoiEvent} serialized once for every session, with the attributes subscription filters match on.
+ * Location, type and id are null when the event carries no POI.
+ *
+ * @param seq       position of the event in this node's sequence
+ * @param json      UTF-8 JSON of the {@code PoiEventMessage} (WebSocket), shared by every session and never modified
+ * @param delta     JSON of the event as a field-level delta (SSE, see {@link PoiDeltaEncoder}), null when the
+ *                  previous state of the POI is unknown
+ * @param full      JSON of the event in full form (SSE)
+ * @param deltaBase sequence number of the previous event of the POI, which {@code delta} is relative to
+ */
+public record PoiEventFrame(long seq, PoiEvent.EventType eventType, UUID poiId, PoiType poiType,
+        Double latitude, Double longitude, String geohash, byte[] json, String delta, String full, long deltaBase) {
+
+    static PoiEventFrame of(long seq, PoiEvent event, byte[] json, PoiDeltaEncoder.Encoded encoded) {
+        PointOfInterestDTO poi = event.getPayload();
+        if (poi == null) {
+            return new PoiEventFrame(seq, event.getType(), null, null, null, null, null, json,
+                    encoded.delta(), encoded.full(), encoded.baseSeq());
+        }
+        boolean located = poi.getLatitude() != null && poi.getLongitude() != null;
+        return new PoiEventFrame(seq, event.getType(), poi.getPoiId(), poi.getPoiType(),
+                poi.getLatitude(), poi.getLongitude(),
+                located ? GeoHash.encode(poi.getLatitude(), poi.getLongitude(), GeoHash.MAX_PRECISION) : null,
+                json, encoded.delta(), encoded.full(), encoded.baseSeq());
+    }
+
+    boolean isLocated() {
+        return latitude != null && longitude != null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.poi.yow_point.application.services.websocket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recent frames of one node, bounded in count and age, for resuming WebSocket sessions.
+ */
+class PoiEventLog {
+
+    private record Entry(long appendedAtMillis, PoiEventFrame frame) {
+    }
+
+    private final int maxSize;
+    private final long windowMillis;
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private long lastSeq;
+
+    PoiEventLog(int maxSize, long windowMillis) {
+        this.maxSize = maxSize;
+        this.windowMillis = windowMillis;
+    }
+
+    synchronized void append(PoiEventFrame frame, long nowMillis) {
+        entries.addLast(new Entry(nowMillis, frame));
+        lastSeq = frame.seq();
+        while (entries.size() > maxSize) {
+            entries.removeFirst();
+        }
+        evictExpired(nowMillis);
+    }
+
+    /**
+     * Frames with a sequence number above {@code seq}, oldest first, or null if some of them have left the log
+     * (or {@code seq} was never issued).
+     */
+    synchronized List<PoiEventFrame> since(long seq, long nowMillis) {
+        evictExpired(nowMillis);
+        if (seq > lastSeq || seq < 0) {
+            return null;
+        }
+        if (seq == lastSeq) {
+            return List.of();
+        }
+        if (entries.isEmpty() || entries.getFirst().frame().seq() > seq + 1) {
+            return null;
+        }
+        List<PoiEventFrame> frames = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.frame().seq() > seq) {
+                frames.add(entry.frame());
+            }
+        }
+        return frames;
+    }
+
+    private void evictExpired(long nowMillis) {
+        while (!entries.isEmpty() && entries.getFirst().appendedAtMillis() < nowMillis - windowMillis) {
+            entries.removeFirst();
+        }
+    }
+}
@@ -7,10 +7,14 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
+
 @Component
 public class PoiEventPublisher {
 
     // Le "Sink" est la source de notre Flux d'événements.
+    private static final Duration EMIT_RETRY = Duration.ofMillis(100);
+
     private final Sinks.Many<PoiEvent> sink;
 
     public PoiEventPublisher() {
@@ -28,9 +32,10 @@ public class PoiEventPublisher {
      * @param event L'événement à diffuser.
      */
     public void publishEvent(PoiEvent event) {
-        // tryEmitNext envoie l'événement dans le "tuyau".
-        // Les abonnés seront notifiés.
-        sink.tryEmitNext(event);
+        // emitNext envoie l'événement dans le "tuyau" ; les abonnés seront notifiés.
+        // Les services publient depuis plusieurs threads : en cas d'émission concurrente
+        // (FAIL_NON_SERIALIZED), on réessaie brièvement au lieu de perdre l'événement.
+        sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY));
     }
 
     /**
@@ -0,0 +1,49 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * What one SSE stream already sent, to pick the form of each frame: the delta of a POI is only sent when the
+ * stream sent the event that delta is relative to, otherwise the full form is. This covers a new stream, a
+ * filter that skipped earlier events of the POI and frames replayed on resumption. Not thread-safe: one per
+ * stream, whose frames arrive one at a time.
+ */
+public final class PoiSseDeltaState {
+
+    // Sequence number of the last frame sent per POI, least recently sent evicted (its next frame is sent in full)
+    private final Map<UUID, Long> lastSent;
+
+    public PoiSseDeltaState(int maxPois) {
+        this.lastSent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                return size() > maxPois;
+            }
+        };
+    }
+
+    /**
+     * The SSE data to send for {@code frame}, recording that it was sent.
+     */
+    public String data(PoiEventFrame frame) {
+        if (frame.eventType() == PoiEvent.EventType.RESYNC) {
+            // The client reloads: whatever it had is gone
+            lastSent.clear();
+            return frame.full();
+        }
+        if (frame.poiId() == null) {
+            return frame.full();
+        }
+        if (frame.eventType() == PoiEvent.EventType.POI_DELETED) {
+            lastSent.remove(frame.poiId());
+            return frame.full();
+        }
+        Long previous = lastSent.put(frame.poiId(), frame.seq());
+        boolean hasBase = frame.delta() != null && previous != null && previous == frame.deltaBase();
+        return hasBase ? frame.delta() : frame.full();
+    }
+}
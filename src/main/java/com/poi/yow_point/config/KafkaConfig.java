@@ -1,6 +1,7 @@
 package com.poi.yow_point.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poi.yow_point.infrastructure.configuration.PoiKafkaProperties;
 import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -13,6 +14,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -27,9 +29,11 @@ public class KafkaConfig {
     private String bootstrapServers;
 
     private final ObjectMapper objectMapper;
+    private final PoiKafkaProperties properties;
 
-    public KafkaConfig(ObjectMapper objectMapper) {
+    public KafkaConfig(ObjectMapper objectMapper, PoiKafkaProperties properties) {
         this.objectMapper = objectMapper;
+        this.properties = properties;
     }
 
     @Bean
@@ -39,6 +43,15 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, true);
+        // The outbox relay sends whole batches without waiting on each record: let them fill, compressed
+        PoiKafkaProperties.Producer producer = properties.getProducer();
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producer.isIdempotent());
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.getCompressionType());
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, producer.getLingerMs());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, producer.getBatchSizeBytes());
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, producer.getDeliveryTimeoutMs());
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, producer.getMaxBlockMs());
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -65,18 +78,48 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Batch listeners of the POI topics: one consumer thread per partition, in a consumer group of this node
+     * only, named after its node id (every node receives every event; a restarted node resumes from the offsets
+     * of its group, a new one from the latest). A record that cannot be deserialized
+     * reaches the listener with a null value instead of failing its whole batch forever.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> poiBatchListenerContainerFactory() {
+        PoiKafkaProperties.Consumer consumer = properties.getConsumer();
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, consumer.getIndexGroupPrefix() + "-" + consumer.getNodeId());
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, consumer.getMaxPollRecords());
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PointOfInterestDTO.class);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(objectMapper))));
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getTopics().getPartitions());
+        return factory;
+    }
+
     @Bean
     public NewTopic poiCreatedTopic() {
-        return new NewTopic("poi-created", 1, (short) 1);
+        return poiTopic("poi-created");
     }
 
     @Bean
     public NewTopic poiUpdatedTopic() {
-        return new NewTopic("poi-updated", 1, (short) 1);
+        return poiTopic("poi-updated");
     }
 
     @Bean
     public NewTopic poiDeletedTopic() {
-        return new NewTopic("poi-deleted", 1, (short) 1);
+        return poiTopic("poi-deleted");
+    }
+
+    private NewTopic poiTopic(String name) {
+        PoiKafkaProperties.Topics topics = properties.getTopics();
+        return new NewTopic(name, topics.getPartitions(), topics.getReplicationFactor());
     }
 }
@@ -0,0 +1,60 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the buffered access-log ingestion pipeline.
+ * Maps properties from application.properties with prefix "poi.access-log.ingestion".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.access-log.ingestion")
+public class AccessLogIngestionProperties {
+
+    /**
+     * Whether POST /poi-access-logs buffers the log and answers 202 instead of
+     * inserting it synchronously
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of logs waiting in memory for the next flush
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Number of queued logs that triggers an immediate flush, also the maximum rows per INSERT
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time in milliseconds a log waits in the queue before being flushed
+     */
+    private long flushIntervalMs = 1000;
+
+    /**
+     * Number of retries of a failed batch before its logs are dropped
+     */
+    private int maxRetries = 2;
+
+    /**
+     * Time in milliseconds allowed to drain the queue on shutdown
+     */
+    private long shutdownTimeoutMs = 10000;
+
+    /**
+     * What to do with a new log when the queue is full
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    public enum OverflowPolicy {
+        /** Keep the queue as is and silently discard the incoming log */
+        DROP_NEWEST,
+        /** Evict the oldest queued log to make room for the incoming one */
+        DROP_OLDEST,
+        /** Refuse the incoming log, the endpoint answers 503 */
+        REJECT
+    }
+}
@@ -0,0 +1,35 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the monthly partitions of poi_access_log (PostgreSQL only).
+ * Maps properties from application.properties with prefix "poi.access-log.partitioning".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.access-log.partitioning")
+public class AccessLogPartitionProperties {
+
+    /**
+     * Whether the table is partitioned; must be false on databases without the partitioning changeset (H2)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of future monthly partitions kept created ahead of the current month
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Age in days after which access logs are dropped by the scheduler (0 disables automatic retention)
+     */
+    private int retentionDays = 0;
+
+    /**
+     * Cron expression of the partition maintenance job
+     */
+    private String cron = "0 15 3 * * *";
+}
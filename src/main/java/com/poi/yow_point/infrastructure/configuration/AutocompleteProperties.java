@@ -0,0 +1,25 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-memory POI autocomplete index.
+ * Maps properties from application.properties with prefix "poi.autocomplete".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.autocomplete")
+public class AutocompleteProperties {
+
+    /**
+     * Whether the index is built and served; when false /autocomplete falls back to a name search in the database
+     */
+    private boolean enabled = true;
+
+    /**
+     * Minimum number of characters of a word for it to be indexed as the start of a suggestion
+     */
+    private int minTermLength = 2;
+}
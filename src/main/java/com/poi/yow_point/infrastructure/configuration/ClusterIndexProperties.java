@@ -0,0 +1,35 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-memory per-zoom POI cluster grid (/clusters).
+ * Maps properties from application.properties with prefix "poi.clusters".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.clusters")
+public class ClusterIndexProperties {
+
+    /**
+     * Whether clusters are served from the in-memory grid once it is warm; when false they are aggregated by PostGIS
+     */
+    private boolean enabled = true;
+
+    /**
+     * Highest zoom level with its own grid; higher zoom levels reuse it
+     */
+    private int maxZoom = 16;
+
+    /**
+     * Number of grid cells along each side of a map tile at the requested zoom (rounded down to a power of two)
+     */
+    private int cellsPerTile = 8;
+
+    /**
+     * Maximum number of grid cells a request may cover, which bounds the size of a response
+     */
+    private int maxCells = 4096;
+}
@@ -0,0 +1,20 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the "open now / open at" filters.
+ * Maps properties from application.properties with prefix "poi.opening-hours".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.opening-hours")
+public class OpeningHoursProperties {
+
+    /**
+     * Time zone in which the opening hours of the POIs are expressed
+     */
+    private String zone = "Africa/Douala";
+}
@@ -0,0 +1,35 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the incremental rollup of access logs and review events into poi_platform_stat.
+ * Maps properties from application.properties with prefix "poi.platform-stat.rollup".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.platform-stat.rollup")
+public class PlatformStatRollupProperties {
+
+    /**
+     * Whether views, reviews, likes and dislikes are aggregated in memory and upserted into poi_platform_stat
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval in milliseconds between two upserts of the pending counters
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * Maximum number of (poi, platform, day) rows per upsert statement
+     */
+    private int batchSize = 500;
+
+    /**
+     * Time zone defining the day boundaries of stat_date
+     */
+    private String zone = "UTC";
+}
@@ -0,0 +1,77 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the POI caches (local L1 in front of Redis).
+ * Maps properties from application.properties with prefix "poi.cache".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.cache")
+public class PoiCacheProperties {
+
+    private Local local = new Local();
+    private Remote remote = new Remote();
+    private Invalidation invalidation = new Invalidation();
+    private QueryResults query = new QueryResults();
+
+    @Data
+    public static class Local {
+        /**
+         * Maximum number of POIs kept in the in-process cache (W-TinyLFU eviction)
+         */
+        private long maxSize = 10000;
+
+        /**
+         * Safety expiry in seconds, bounds staleness if an invalidation message is lost
+         */
+        private long expireAfterWriteSeconds = 600;
+    }
+
+    @Data
+    public static class Remote {
+        /**
+         * Time to live in seconds of the Redis entries "poi:&lt;id&gt;"
+         */
+        private long ttlSeconds = 3600;
+    }
+
+    @Data
+    public static class Invalidation {
+        /**
+         * Whether evictions are broadcast to the other nodes over Redis pub/sub
+         */
+        private boolean enabled = true;
+
+        /**
+         * Redis pub/sub channel carrying the invalidation messages
+         */
+        private String channel = "poi:cache:invalidation";
+    }
+
+    @Data
+    public static class QueryResults {
+        /**
+         * Whether list lookups (nearby/type/category/city/popular/recent) are cached
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached result sets
+         */
+        private long maxSize = 2000;
+
+        /**
+         * Time to live in seconds of a cached result set
+         */
+        private long ttlSeconds = 60;
+
+        /**
+         * Size in degrees of the grid cells /nearby centers are snapped to (0.01 ~ 1.1 km)
+         */
+        private double nearbyGridDegrees = 0.01;
+    }
+}
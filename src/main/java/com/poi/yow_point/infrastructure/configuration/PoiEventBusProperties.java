@@ -0,0 +1,60 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the distribution of POI events between nodes (Redis Streams) and the per-node
+ * log used to resume WebSocket sessions.
+ * Maps properties from application.properties with prefix "poi.events".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.events")
+public class PoiEventBusProperties {
+
+    private Bus bus = new Bus();
+    private Log log = new Log();
+
+    @Data
+    public static class Bus {
+        /**
+         * Whether events are exchanged through Redis; when false each node only sees its own events
+         */
+        private boolean enabled = true;
+
+        /**
+         * Redis stream carrying the events
+         */
+        private String streamKey = "poi:events";
+
+        /**
+         * Approximate maximum length of the stream (older entries are trimmed on write)
+         */
+        private long maxLength = 10000;
+
+        /**
+         * Interval in milliseconds between two reads of the stream when it had nothing new
+         */
+        private long pollIntervalMs = 50;
+
+        /**
+         * Maximum number of entries read at once
+         */
+        private int batchSize = 500;
+    }
+
+    @Data
+    public static class Log {
+        /**
+         * Maximum number of recent events kept by a node for resuming sessions
+         */
+        private int maxSize = 10000;
+
+        /**
+         * How long in seconds an event stays available for resuming sessions
+         */
+        private long windowSeconds = 300;
+    }
+}
@@ -0,0 +1,21 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties shared by the in-memory POI indexes (spatial, autocomplete, clusters).
+ * Maps properties from application.properties with prefix "poi.indexes".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.indexes")
+public class PoiIndexProperties {
+
+    /**
+     * Interval in milliseconds between full rebuilds from the database, all indexes from one load
+     * (safety net for writes missed by this instance and for popularity changes)
+     */
+    private long refreshIntervalMs = 600000;
+}
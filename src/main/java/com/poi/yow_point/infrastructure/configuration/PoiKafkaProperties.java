@@ -0,0 +1,87 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the Kafka clients of the POI events.
+ * Maps properties from application.properties with prefix "poi.kafka".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.kafka")
+public class PoiKafkaProperties {
+
+    private Topics topics = new Topics();
+    private Producer producer = new Producer();
+    private Consumer consumer = new Consumer();
+
+    @Data
+    public static class Topics {
+        /**
+         * Partitions of each POI topic; records are keyed by POI id, so the events of a POI stay in order.
+         * Raising it on existing topics adds partitions, which moves some keys for the events sent afterwards
+         */
+        private int partitions = 6;
+
+        /**
+         * Replicas of each partition
+         */
+        private short replicationFactor = 1;
+    }
+
+    @Data
+    public static class Producer {
+        /**
+         * Whether the broker deduplicates the producer's retries (requires acks=all)
+         */
+        private boolean idempotent = true;
+
+        /**
+         * Compression codec of the record batches: none, gzip, snappy, lz4 or zstd
+         */
+        private String compressionType = "lz4";
+
+        /**
+         * How long in milliseconds a batch waits for more records before being sent
+         */
+        private int lingerMs = 20;
+
+        /**
+         * Maximum size in bytes of a batch of records for one partition
+         */
+        private int batchSizeBytes = 131072;
+
+        /**
+         * Upper bound in milliseconds for a send to be acknowledged, retries included; at least linger-ms plus
+         * the 30 s request timeout
+         */
+        private int deliveryTimeoutMs = 60000;
+
+        /**
+         * How long in milliseconds a send may block waiting for topic metadata or buffer space
+         */
+        private int maxBlockMs = 10000;
+    }
+
+    @Data
+    public static class Consumer {
+        /**
+         * Prefix of the consumer group keeping this node's search indexes current; each node gets its own group
+         * so that it receives every event
+         */
+        private String indexGroupPrefix = "yow_point_indexes";
+
+        /**
+         * Identifier of this node, appended to the group prefix; unique per node and stable across its restarts,
+         * so that a restarted node resumes its own group instead of leaving an orphaned one on the broker
+         */
+        private String nodeId = "local";
+
+        /**
+         * Maximum number of records handed to the batch listener at once
+         */
+        private int maxPollRecords = 500;
+    }
+}
@@ -0,0 +1,30 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the relay publishing the poi_outbox table to Kafka.
+ * Maps properties from application.properties with prefix "poi.outbox".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.outbox")
+public class PoiOutboxProperties {
+
+    /**
+     * Whether this node relays the outbox to Kafka; events are written to the outbox either way
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Interval in milliseconds between two reads of the outbox when it was drained
+     */
+    private long pollIntervalMs = 200;
+
+    /**
+     * Maximum number of messages locked, sent and deleted per transaction
+     */
+    private int batchSize = 500;
+}
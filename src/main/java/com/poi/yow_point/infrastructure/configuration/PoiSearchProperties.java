@@ -0,0 +1,35 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the ranking of the POI full-text search.
+ * Maps properties from application.properties with prefix "poi.search".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.search")
+public class PoiSearchProperties {
+
+    /**
+     * Weight of the text relevance (full-text rank plus trigram similarity of the name)
+     */
+    private double textWeight = 1.0;
+
+    /**
+     * Weight of the popularity score, normalised to [0, 1]
+     */
+    private double popularityWeight = 0.3;
+
+    /**
+     * Weight of the proximity to the query point, only used when a point is given
+     */
+    private double distanceWeight = 0.5;
+
+    /**
+     * Distance in kilometers at which the proximity bonus is halved
+     */
+    private double distanceScaleKm = 5.0;
+}
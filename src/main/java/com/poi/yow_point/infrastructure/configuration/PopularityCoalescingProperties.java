@@ -0,0 +1,25 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the coalescing of popularity updates triggered by review writes.
+ * Maps properties from application.properties with prefix "poi.popularity.coalescing".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.popularity.coalescing")
+public class PopularityCoalescingProperties {
+
+    /**
+     * Whether review writes only enqueue their change and return; when false the score is updated inline
+     */
+    private boolean enabled = true;
+
+    /**
+     * Window in milliseconds during which the changes of a POI are merged into a single update
+     */
+    private long windowMs = 2000;
+}
@@ -0,0 +1,30 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the nightly set-based recomputation of POI popularity scores.
+ * Maps properties from application.properties with prefix "poi.popularity.recompute".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.popularity.recompute")
+public class PopularityRecomputeProperties {
+
+    /**
+     * Whether the scheduled recomputation runs
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cron expression of the recomputation
+     */
+    private String cron = "0 0 2 * * ?";
+
+    /**
+     * Number of POIs written per UPDATE ... FROM (VALUES ...) statement
+     */
+    private int chunkSize = 500;
+}
@@ -0,0 +1,20 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-memory POI spatial index.
+ * Maps properties from application.properties with prefix "poi.spatial-index".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.spatial-index")
+public class SpatialIndexProperties {
+
+    /**
+     * Whether radius queries are served from the in-memory index once it is warm
+     */
+    private boolean enabled = true;
+}
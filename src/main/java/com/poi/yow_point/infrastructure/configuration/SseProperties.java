@@ -0,0 +1,30 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the Server-Sent Events stream of POI deltas (/events).
+ * Maps properties from application.properties with prefix "poi.sse".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.sse")
+public class SseProperties {
+
+    /**
+     * Interval in seconds between heartbeat comments, which keep idle connections open through proxies
+     */
+    private long heartbeatSeconds = 15;
+
+    /**
+     * Maximum number of POIs whose last sent state is kept to compute deltas; others are sent in full
+     */
+    private long deltaSnapshots = 20000;
+
+    /**
+     * Maximum number of POIs a stream remembers having sent; the next event of a forgotten POI is sent in full
+     */
+    private int streamPois = 2000;
+}
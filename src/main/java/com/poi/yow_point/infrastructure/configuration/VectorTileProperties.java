@@ -0,0 +1,55 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the POI vector tiles (/tiles/{z}/{x}/{y}.mvt).
+ * Maps properties from application.properties with prefix "poi.tiles".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.tiles")
+public class VectorTileProperties {
+
+    /**
+     * Highest zoom level served
+     */
+    private int maxZoom = 22;
+
+    /**
+     * Zoom level from which POIs are sent one by one; below it they are grouped into clusters
+     */
+    private int clusterMaxZoom = 14;
+
+    /**
+     * Number of clustering cells along each side of a tile (8 = clusters of at most 1/8 of the tile width)
+     */
+    private int clusterCellsPerTile = 8;
+
+    /**
+     * Tile extent in MVT coordinate units
+     */
+    private int extent = 4096;
+
+    /**
+     * Buffer around the tile, in MVT coordinate units, so that pins on the edge are not cut
+     */
+    private int buffer = 64;
+
+    /**
+     * Whether generated tiles are cached in memory
+     */
+    private boolean cacheEnabled = true;
+
+    /**
+     * Maximum number of cached tiles
+     */
+    private long cacheMaxSize = 5000;
+
+    /**
+     * Time to live in seconds of a cached tile (bounds the staleness of popularity scores)
+     */
+    private long cacheTtlSeconds = 300;
+}
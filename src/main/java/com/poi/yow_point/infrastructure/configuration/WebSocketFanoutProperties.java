@@ -0,0 +1,43 @@
+package com.poi.yow_point.infrastructure.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the POI event fan-out to /ws/pois sessions.
+ * Maps properties from application.properties with prefix "poi.websocket".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "poi.websocket")
+public class WebSocketFanoutProperties {
+
+    /**
+     * Number of shards the sessions are spread over, each dispatched by its own thread
+     * (0 = number of available processors)
+     */
+    private int shards = 0;
+
+    /**
+     * Maximum number of events waiting to be written to one session
+     */
+    private int sessionBufferSize = 256;
+
+    /**
+     * What to do when a session's buffer is full
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * Maximum number of entries (geohashes, types, POI ids) in one subscription filter
+     */
+    private int maxFilterEntries = 1000;
+
+    public enum OverflowPolicy {
+        /** Evict the oldest buffered event to make room for the incoming one */
+        DROP_OLDEST,
+        /** Close the session (1008 policy violation); the client reconnects and reloads */
+        DISCONNECT
+    }
+}
@@ -0,0 +1,45 @@
+package com.poi.yow_point.infrastructure.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A Kafka event not yet published: written in the transaction of the POI change, deleted once relayed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("poi_outbox")
+public class PoiOutboxMessage {
+
+    @Id
+    @Column("outbox_id")
+    private Long outboxId;
+
+    // POI the event is about, used as record key
+    @Column("aggregate_id")
+    private UUID aggregateId;
+
+    @Column("topic")
+    private String topic;
+
+    // Class the JSON payload is read back into before sending
+    @Column("payload_type")
+    private String payloadType;
+
+    @Column("payload")
+    private String payload;
+
+    @Column("created_at")
+    @Builder.Default
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+}
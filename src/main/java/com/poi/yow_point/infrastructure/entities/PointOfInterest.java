@@ -14,8 +14,6 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -96,16 +94,16 @@ public class PointOfInterest {
     private Json poiContacts;
 
     @Column("poi_images_urls")
-    private String poiImagesUrls;
+    private List<String> poiImagesUrls;
 
     @Column("poi_amenities")
-    private String poiAmenities;
+    private List<String> poiAmenities;
 
     @Column("poi_keywords")
-    private String poiKeywords;
+    private List<String> poiKeywords;
 
     @Column("poi_type_tags")
-    private String poiTypeTags;
+    private List<String> poiTypeTags;
 
     @Column("popularity_score")
     private Float popularityScore;
@@ -134,52 +132,4 @@ public class PointOfInterest {
 
     @Column("updated_at")
     private Instant updatedAt;
-
-
-
-    // --- Helper methods for comma-separated string fields ---
-
-    public List<String> getPoiImagesUrlsList() {
-        if (poiImagesUrls == null || poiImagesUrls.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        return Arrays.asList(poiImagesUrls.split("\\s*,\\s*"));
-    }
-
-    public void setPoiImagesUrlsList(List<String> urls) {
-        this.poiImagesUrls = (urls != null && !urls.isEmpty()) ? String.join(",", urls) : null;
-    }
-
-    public List<String> getPoiAmenitiesList() {
-        if (poiAmenities == null || poiAmenities.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        return Arrays.asList(poiAmenities.split("\\s*,\\s*"));
-    }
-
-    public void setPoiAmenitiesList(List<String> amenities) {
-        this.poiAmenities = (amenities != null && !amenities.isEmpty()) ? String.join(",", amenities) : null;
-    }
-
-    public List<String> getPoiKeywordsList() {
-        if (poiKeywords == null || poiKeywords.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        return Arrays.asList(poiKeywords.split("\\s*,\\s*"));
-    }
-
-    public void setPoiKeywordsList(List<String> keywords) {
-        this.poiKeywords = (keywords != null && !keywords.isEmpty()) ? String.join(",", keywords) : null;
-    }
-
-    public List<String> getPoiTypeTagsList() {
-        if (poiTypeTags == null || poiTypeTags.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        return Arrays.asList(poiTypeTags.split("\\s*,\\s*"));
-    }
-
-    public void setPoiTypeTagsList(List<String> tags) {
-        this.poiTypeTags = (tags != null && !tags.isEmpty()) ? String.join(",", tags) : null;
-    }
 }
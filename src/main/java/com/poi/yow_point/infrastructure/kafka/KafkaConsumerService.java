@@ -1,29 +1,131 @@
 package com.poi.yow_point.infrastructure.kafka;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poi.yow_point.application.services.point_of_interest.PoiAutocompleteIndex;
+import com.poi.yow_point.application.services.point_of_interest.PoiClusterIndex;
+import com.poi.yow_point.application.services.point_of_interest.PoiQueryCache;
+import com.poi.yow_point.application.services.point_of_interest.PoiSpatialIndex;
 import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Applies the POI events of every node to this node's in-memory search indexes (spatial, autocomplete,
+ * clusters), which otherwise only see local writes until their periodic rebuild.
+ * <p>
+ * Records arrive in batches, keyed by POI id, so the events of a POI are in order within a topic. A batch is
+ * collapsed to the last event of each POI before being applied, and the query cache is dropped once per batch,
+ * after the indexes changed, so that no list built from the old index stays cached. This node's own events come
+ * back too and are applied again, which is harmless: the final state is always the latest event.
+ * <p>
+ * Creations, updates and deletions travel on different topics, so the events of a POI may be read out of order
+ * across topics: a creation after an update, or an update after the deletion. The {@code updatedAt} of the last
+ * applied version of each POI is remembered for a while and older versions are ignored; deleted ids are
+ * remembered too and their later events ignored (POI ids are never reused).
+ */
 @Service
 @Slf4j
 public class KafkaConsumerService {
 
-    public KafkaConsumerService() {
-    }
+    private static final String DELETED_TOPIC = "poi-deleted";
 
-    @KafkaListener(topics = "poi-created", groupId = "yow_point_group")
-    public void listenPoiCreated(PointOfInterestDTO poiDTO) {
-        log.info("Received POI created event: {}", poiDTO);
+    private final PoiSpatialIndex spatialIndex;
+    private final PoiAutocompleteIndex autocompleteIndex;
+    private final PoiClusterIndex clusterIndex;
+    private final PoiQueryCache queryCache;
+    private final Cache<UUID, Boolean> deletedIds = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(100_000)
+            .build();
+    private final Cache<UUID, Instant> appliedVersions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(100_000)
+            .build();
+    private final Counter receivedRecords;
+    private final Counter appliedEvents;
+    private final Counter skippedRecords;
+
+    public KafkaConsumerService(PoiSpatialIndex spatialIndex,
+            PoiAutocompleteIndex autocompleteIndex,
+            PoiClusterIndex clusterIndex,
+            PoiQueryCache queryCache,
+            MeterRegistry meterRegistry) {
+        this.spatialIndex = spatialIndex;
+        this.autocompleteIndex = autocompleteIndex;
+        this.clusterIndex = clusterIndex;
+        this.queryCache = queryCache;
+        this.receivedRecords = Counter.builder("poi.kafka.consumer.records").register(meterRegistry);
+        this.appliedEvents = Counter.builder("poi.kafka.consumer.applied").register(meterRegistry);
+        this.skippedRecords = Counter.builder("poi.kafka.consumer.skipped").register(meterRegistry);
     }
 
-    @KafkaListener(topics = "poi-updated", groupId = "yow_point_group")
-    public void listenPoiUpdated(PointOfInterestDTO poiDTO) {
-        log.info("Received POI updated event: {}", poiDTO);
+    @KafkaListener(topics = { "poi-created", "poi-updated", "poi-deleted" },
+            containerFactory = "poiBatchListenerContainerFactory")
+    public void listenPoiEvents(List<ConsumerRecord<String, PointOfInterestDTO>> records) {
+        receivedRecords.increment(records.size());
+        // Latest version of each POI in this batch; a deletion wins over any other event of the same POI
+        Map<UUID, ConsumerRecord<String, PointOfInterestDTO>> latest = new LinkedHashMap<>();
+        for (ConsumerRecord<String, PointOfInterestDTO> record : records) {
+            PointOfInterestDTO poi = record.value();
+            if (poi == null || poi.getPoiId() == null) {
+                // Undeserializable value (see poiBatchListenerContainerFactory)
+                skippedRecords.increment();
+                log.warn("Skipping unreadable POI event at {}-{}@{}", record.topic(), record.partition(),
+                        record.offset());
+                continue;
+            }
+            ConsumerRecord<String, PointOfInterestDTO> previous = latest.get(poi.getPoiId());
+            if (previous == null || DELETED_TOPIC.equals(record.topic())
+                    || (!DELETED_TOPIC.equals(previous.topic()) && !isOlder(poi, previous.value().getUpdatedAt()))) {
+                latest.put(poi.getPoiId(), record);
+            }
+        }
+
+        int applied = 0;
+        for (Map.Entry<UUID, ConsumerRecord<String, PointOfInterestDTO>> entry : latest.entrySet()) {
+            UUID poiId = entry.getKey();
+            ConsumerRecord<String, PointOfInterestDTO> record = entry.getValue();
+            if (DELETED_TOPIC.equals(record.topic())) {
+                deletedIds.put(poiId, Boolean.TRUE);
+                spatialIndex.remove(poiId);
+                autocompleteIndex.remove(poiId);
+                clusterIndex.remove(poiId);
+            } else if (deletedIds.getIfPresent(poiId) == null
+                    && !isOlder(record.value(), appliedVersions.getIfPresent(poiId))) {
+                PointOfInterestDTO poi = record.value();
+                if (poi.getUpdatedAt() != null) {
+                    appliedVersions.put(poiId, poi.getUpdatedAt());
+                }
+                spatialIndex.upsert(poi);
+                autocompleteIndex.upsert(poi);
+                clusterIndex.upsert(poi);
+            } else {
+                continue;
+            }
+            applied++;
+        }
+        if (applied > 0) {
+            queryCache.invalidateAll();
+        }
+        appliedEvents.increment(applied);
+        log.debug("Applied {} POI events from a batch of {} records", applied, records.size());
     }
 
-    @KafkaListener(topics = "poi-deleted", groupId = "yow_point_group")
-    public void listenPoiDeleted(PointOfInterestDTO poiDTO) {
-        log.info("Received POI deleted event: {}", poiDTO);
+    // Versions without a timestamp are never considered older: they are applied in the order they are read
+    private static boolean isOlder(PointOfInterestDTO poi, Instant version) {
+        return version != null && poi.getUpdatedAt() != null && poi.getUpdatedAt().isBefore(version);
     }
 }
@@ -1,8 +1,11 @@
 package com.poi.yow_point.infrastructure.kafka;
 
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class KafkaProducerService {
 
@@ -12,7 +15,11 @@ public class KafkaProducerService {
         this.kafkaTemplate = kafkaTemplate;
     }
 
-    public void sendMessage(String topic, Object payload) {
-        kafkaTemplate.send(topic, payload);
+    /**
+     * Sends a record keyed by {@code key} (the POI id for POI events): records with the same key go to the same
+     * partition and are consumed in order. The future completes once the broker acknowledged the record.
+     */
+    public CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object payload) {
+        return kafkaTemplate.send(topic, key, payload);
     }
 }
@@ -0,0 +1,18 @@
+package com.poi.yow_point.infrastructure.repositories.PointOfInterest;
+
+import com.poi.yow_point.infrastructure.entities.PointOfInterest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A POI row together with its distance (meters) to the query point, as computed by PostGIS.
+ */
+@Data
+@AllArgsConstructor
+public class PoiDistance {
+
+    private PointOfInterest poi;
+
+    private Double distanceMeters;
+}
@@ -0,0 +1,25 @@
+package com.poi.yow_point.infrastructure.repositories.PointOfInterest;
+
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Aggregate of the active POIs of one Web Mercator grid cell, as computed by PostGIS.
+ */
+@Data
+@AllArgsConstructor
+public class PoiGridCell {
+
+    private Long count;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private PoiType dominantType;
+
+    private PoiCategory dominantCategory;
+}
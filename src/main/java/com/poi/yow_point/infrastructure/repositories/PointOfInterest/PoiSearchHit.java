@@ -0,0 +1,21 @@
+package com.poi.yow_point.infrastructure.repositories.PointOfInterest;
+
+import com.poi.yow_point.infrastructure.entities.PointOfInterest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A POI row matched by the full-text search, with its blended ranking score and, when the search
+ * was given a point, its distance (meters) to that point.
+ */
+@Data
+@AllArgsConstructor
+public class PoiSearchHit {
+
+    private PointOfInterest poi;
+
+    private Double score;
+
+    private Double distanceMeters;
+}
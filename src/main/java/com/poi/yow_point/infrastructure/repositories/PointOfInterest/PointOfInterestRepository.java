@@ -29,4 +29,6 @@ public interface PointOfInterestRepository
 
         Flux<PointOfInterest> findByStatus(com.poi.yow_point.application.model.PoiStatus status);
 
+        Flux<PointOfInterest> findByIsActiveTrue();
+
 }
\ No newline at end of file
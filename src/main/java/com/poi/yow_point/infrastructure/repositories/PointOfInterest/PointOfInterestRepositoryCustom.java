@@ -1,8 +1,15 @@
 package com.poi.yow_point.infrastructure.repositories.PointOfInterest;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiListFilter;
+import com.poi.yow_point.application.model.PoiStatus;
+import com.poi.yow_point.application.model.PoiType;
 import com.poi.yow_point.infrastructure.entities.PointOfInterest;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 
 import reactor.core.publisher.Flux;
 //import reactor.core.publisher.Mono;
@@ -12,6 +19,66 @@ public interface PointOfInterestRepositoryCustom {
 
     Flux<PointOfInterest> findByLocationWithinRadius(Double latitude, Double longitude, Double radiusKm);
 
+    /**
+     * The {@code limit} active POIs closest to the given point, nearest first.
+     * {@code poiType} and {@code poiCategory} are optional filters.
+     */
+    Flux<PoiDistance> findNearest(Double latitude, Double longitude, Integer limit,
+            PoiType poiType, PoiCategory poiCategory);
+
+    /**
+     * Full-text and fuzzy search over the names, keywords, type tags and description of the active POIs,
+     * ordered by {@code (score, poi_id) DESC}. The score blends text relevance, popularity and, when
+     * {@code latitude}/{@code longitude} are given, proximity. Null filters are ignored.
+     */
+    Flux<PoiSearchHit> search(String query, PoiType poiType, PoiCategory poiCategory, String city,
+            Double latitude, Double longitude, KeysetCursor after, int limit);
+
+    /**
+     * Active POIs having all the given amenities and type tags (array containment, GIN indexed).
+     * When a point and radius are given, only POIs within {@code radiusKm} are returned, nearest first;
+     * otherwise the most popular come first. Null or empty lists are ignored.
+     */
+    Flux<PoiDistance> findByAmenitiesAndTypeTags(List<String> amenities, List<String> typeTags,
+            Double latitude, Double longitude, Double radiusKm, Integer limit);
+
+    /**
+     * Active POIs open at the given minute of the week (0 = Monday 00:00, local time), evaluated on the
+     * indexed {@code opening_week_minutes} column. Type, category, point and radius are optional filters;
+     * with a point the nearest come first, otherwise the most popular. A null {@code limit} means no limit.
+     */
+    Flux<PoiDistance> findOpenAt(int minuteOfWeek, PoiType poiType, PoiCategory poiCategory,
+            Double latitude, Double longitude, Double radiusKm, Integer limit);
+
+    /**
+     * Mapbox Vector Tile (layer {@code pois}) of the active POIs in tile {@code zoom/x/y}, with attributes
+     * {@code id}, {@code type}, {@code category} and {@code score}. Below {@code poi.tiles.cluster-max-zoom}
+     * each feature is a cluster carrying {@code count}, the most frequent type and category and the best score;
+     * {@code id} is then only set for single-POI clusters. An empty array means an empty tile.
+     */
+    Mono<byte[]> findVectorTile(int zoom, int x, int y);
+
+    /**
+     * Active POIs inside the box ({@code &&} against {@code ST_MakeEnvelope}, GiST indexed), read as slim
+     * summaries, most popular first. Type and category are optional filters; a null {@code limit} means no limit.
+     */
+    Flux<PointOfInterestSummary> findSummariesWithinBoundingBox(double minLatitude, double minLongitude,
+            double maxLatitude, double maxLongitude, PoiType poiType, PoiCategory poiCategory, Integer limit);
+
+    /**
+     * POIs matching the filter read as slim summaries, with an explicit column list: the descriptions, logo,
+     * JSON and array columns of the full entity are neither transferred nor converted.
+     */
+    Flux<PointOfInterestSummary> findSummaries(PoiListFilter filter);
+
+    /**
+     * Active POIs of the cells of a Web Mercator grid of {@code 2^gridZoom} cells per side intersecting the box,
+     * grouped by cell, with count, centroid and most frequent type and category. A cell is aggregated whole, POIs
+     * outside the box included, like in the in-memory cluster grid it stands in for.
+     */
+    Flux<PoiGridCell> findGridCells(int gridZoom, double minLatitude, double minLongitude,
+            double maxLatitude, double maxLongitude);
+
     Flux<PointOfInterest> findTopByPopularityScore(Integer limit);
 
     Mono<Boolean> existsByNameAndOrganizationIdExcludingId(String name, 
@@ -24,8 +91,19 @@ public interface PointOfInterestRepositoryCustom {
 
     Mono<Long> updatePopularityScore(UUID poiId, Float score);
 
+    /**
+     * Sets the popularity score of several POIs with a single {@code UPDATE ... FROM (VALUES ...)}.
+     */
+    Mono<Long> updatePopularityScores(Map<UUID, Float> scores);
+
     //Mono<Long> countActiveByOrganizationId(UUID organizationId);
 
     Flux<PointOfInterest> findRecent(Integer limit);
 
+    /**
+     * Keyset page ordered by {@code (created_at, poi_id) DESC}. Null filters are ignored.
+     */
+    Flux<PointOfInterest> findPageAfter(String city, PoiType poiType, PoiStatus status,
+            KeysetCursor after, int limit);
+
 }
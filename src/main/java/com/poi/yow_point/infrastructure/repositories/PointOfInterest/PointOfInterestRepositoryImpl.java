@@ -5,16 +5,33 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiListFilter;
+import com.poi.yow_point.application.model.PoiStatus;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.application.services.geo.WebMercatorTiles;
+import com.poi.yow_point.infrastructure.configuration.PoiSearchProperties;
+import com.poi.yow_point.infrastructure.configuration.VectorTileProperties;
 import com.poi.yow_point.infrastructure.entities.PointOfInterest;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
 
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Repository
@@ -22,8 +39,15 @@ import java.util.UUID;
 public class PointOfInterestRepositoryImpl implements PointOfInterestRepositoryCustom {
 
         private final R2dbcEntityTemplate entityTemplate;
+        private final PoiSearchProperties searchProperties;
+        private final VectorTileProperties tileProperties;
         private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
 
+        // Colonnes de PointOfInterestSummary
+        private static final String SUMMARY_COLUMNS = "poi_id, poi_name, poi_type, poi_category, address_city,"
+                        + " ST_Y(location_geog::geometry) AS latitude, ST_X(location_geog::geometry) AS longitude,"
+                        + " popularity_score";
+
         @Override
         public Flux<PointOfInterest> findTopByPopularityScore(Integer limit) {
                 return entityTemplate.select(PointOfInterest.class)
@@ -42,7 +66,7 @@ public class PointOfInterestRepositoryImpl implements PointOfInterestRepositoryC
                 // String wkt = String.format("SRID=4326;POINT(%f %f)", longitude, latitude);
 
                 return entityTemplate.getDatabaseClient()
-                                .sql("SELECT * FROM point_of_interest WHERE ST_DWithin(location_geog::geography, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, :distance)")
+                                .sql("SELECT * FROM point_of_interest WHERE is_active = true AND ST_DWithin(location_geog::geography, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, :distance)")
                                 .bind("lon", longitude)
                                 .bind("lat", latitude)
                                 .bind("distance", radiusKm * 1000) // Conversion km → mètres (PostGIS geography works in meters)
@@ -51,6 +75,399 @@ public class PointOfInterestRepositoryImpl implements PointOfInterestRepositoryC
                                 .all();
         }
 
+        // KNN : le tri "<->" s'appuie sur l'index GiST, PostgreSQL s'arrête après LIMIT lignes
+        @Override
+        public Flux<PoiDistance> findNearest(Double latitude, Double longitude, Integer limit,
+                        PoiType poiType, PoiCategory poiCategory) {
+                String point = "ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography";
+                StringBuilder sql = new StringBuilder(
+                                "SELECT *, ST_Distance(location_geog, " + point + ") AS distance_meters "
+                                                + "FROM point_of_interest WHERE is_active = true");
+                if (poiType != null) {
+                        sql.append(" AND poi_type = :poiType");
+                }
+                if (poiCategory != null) {
+                        sql.append(" AND poi_category = :poiCategory");
+                }
+                sql.append(" ORDER BY location_geog <-> ").append(point).append(" LIMIT :limit");
+
+                DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient()
+                                .sql(sql.toString())
+                                .bind("lon", longitude)
+                                .bind("lat", latitude)
+                                .bind("limit", limit);
+                if (poiType != null) {
+                        spec = spec.bind("poiType", poiType.name());
+                }
+                if (poiCategory != null) {
+                        spec = spec.bind("poiCategory", poiCategory.name());
+                }
+                return spec.map((row, metadata) -> new PoiDistance(
+                                entityTemplate.getConverter().read(PointOfInterest.class, row, metadata),
+                                row.get("distance_meters", Double.class)))
+                                .all();
+        }
+
+        // Horaires : opening_week_minutes @> minute (index GiST idx_poi_opening_week_minutes)
+        @Override
+        public Flux<PoiDistance> findOpenAt(int minuteOfWeek, PoiType poiType, PoiCategory poiCategory,
+                        Double latitude, Double longitude, Double radiusKm, Integer limit) {
+                boolean withPoint = latitude != null && longitude != null;
+                String point = "ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography";
+                StringBuilder sql = new StringBuilder("SELECT *, ")
+                                .append(withPoint ? "ST_Distance(location_geog, " + point + ")" : "CAST(NULL AS DOUBLE PRECISION)")
+                                .append(" AS distance_meters FROM point_of_interest")
+                                .append(" WHERE is_active = true AND opening_week_minutes @> CAST(:minute AS INTEGER)");
+                if (poiType != null) {
+                        sql.append(" AND poi_type = :poiType");
+                }
+                if (poiCategory != null) {
+                        sql.append(" AND poi_category = :poiCategory");
+                }
+                if (withPoint && radiusKm != null) {
+                        sql.append(" AND ST_DWithin(location_geog, ").append(point).append(", :distance)");
+                }
+                sql.append(withPoint
+                                ? " ORDER BY location_geog <-> " + point
+                                : " ORDER BY popularity_score DESC NULLS LAST");
+                if (limit != null) {
+                        sql.append(" LIMIT :limit");
+                }
+
+                DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient()
+                                .sql(sql.toString())
+                                .bind("minute", minuteOfWeek);
+                if (poiType != null) {
+                        spec = spec.bind("poiType", poiType.name());
+                }
+                if (poiCategory != null) {
+                        spec = spec.bind("poiCategory", poiCategory.name());
+                }
+                if (withPoint) {
+                        spec = spec.bind("lon", longitude).bind("lat", latitude);
+                        if (radiusKm != null) {
+                                spec = spec.bind("distance", radiusKm * 1000);
+                        }
+                }
+                if (limit != null) {
+                        spec = spec.bind("limit", limit);
+                }
+                return spec.map((row, metadata) -> new PoiDistance(
+                                entityTemplate.getConverter().read(PointOfInterest.class, row, metadata),
+                                row.get("distance_meters", Double.class)))
+                                .all();
+        }
+
+        // Contenance de tableaux (@>) : index GIN idx_poi_amenities / idx_poi_type_tags, combinable avec le GiST
+        @Override
+        public Flux<PoiDistance> findByAmenitiesAndTypeTags(List<String> amenities, List<String> typeTags,
+                        Double latitude, Double longitude, Double radiusKm, Integer limit) {
+                boolean withAmenities = amenities != null && !amenities.isEmpty();
+                boolean withTypeTags = typeTags != null && !typeTags.isEmpty();
+                boolean withPoint = latitude != null && longitude != null;
+                String point = "ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography";
+                StringBuilder sql = new StringBuilder("SELECT *, ")
+                                .append(withPoint ? "ST_Distance(location_geog, " + point + ")" : "CAST(NULL AS DOUBLE PRECISION)")
+                                .append(" AS distance_meters FROM point_of_interest WHERE is_active = true");
+                if (withAmenities) {
+                        sql.append(" AND poi_amenities @> CAST(:amenities AS TEXT[])");
+                }
+                if (withTypeTags) {
+                        sql.append(" AND poi_type_tags @> CAST(:typeTags AS TEXT[])");
+                }
+                if (withPoint && radiusKm != null) {
+                        sql.append(" AND ST_DWithin(location_geog, ").append(point).append(", :distance)");
+                }
+                sql.append(withPoint
+                                ? " ORDER BY location_geog <-> " + point
+                                : " ORDER BY popularity_score DESC NULLS LAST");
+                sql.append(" LIMIT :limit");
+
+                DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient()
+                                .sql(sql.toString())
+                                .bind("limit", limit);
+                if (withAmenities) {
+                        spec = spec.bind("amenities", amenities.toArray(String[]::new));
+                }
+                if (withTypeTags) {
+                        spec = spec.bind("typeTags", typeTags.toArray(String[]::new));
+                }
+                if (withPoint) {
+                        spec = spec.bind("lon", longitude).bind("lat", latitude);
+                        if (radiusKm != null) {
+                                spec = spec.bind("distance", radiusKm * 1000);
+                        }
+                }
+                return spec.map((row, metadata) -> new PoiDistance(
+                                entityTemplate.getConverter().read(PointOfInterest.class, row, metadata),
+                                row.get("distance_meters", Double.class)))
+                                .all();
+        }
+
+        // Correspondance : search_vector @@ tsquery (index GIN) OU similarité trigramme du nom (idx_poi_name_upper_trgm).
+        // Le score étant calculé, la pagination par curseur filtre la sous-requête sur (search_score, poi_id).
+        @Override
+        public Flux<PoiSearchHit> search(String query, PoiType poiType, PoiCategory poiCategory, String city,
+                        Double latitude, Double longitude, KeysetCursor after, int limit) {
+                boolean withPoint = latitude != null && longitude != null;
+                String distance = withPoint
+                                ? "ST_Distance(p.location_geog, ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography)"
+                                : "CAST(NULL AS DOUBLE PRECISION)";
+                StringBuilder sql = new StringBuilder("SELECT * FROM (SELECT p.*, ")
+                                .append(distance).append(" AS distance_meters, ")
+                                .append(":textWeight * (ts_rank_cd(p.search_vector, q.tsq, 32) + similarity(UPPER(p.poi_name), UPPER(:q)))")
+                                .append(" + :popularityWeight * LEAST(COALESCE(p.popularity_score, 0) / 5.0, 1.0)");
+                if (withPoint) {
+                        sql.append(" + :distanceWeight / (1.0 + ").append(distance).append(" / (1000.0 * :distanceScaleKm))");
+                }
+                sql.append(" AS search_score FROM point_of_interest p, (SELECT websearch_to_tsquery('simple', :q) AS tsq) q")
+                                .append(" WHERE p.is_active = true AND (p.search_vector @@ q.tsq OR UPPER(p.poi_name) % UPPER(:q))");
+                if (poiType != null) {
+                        sql.append(" AND p.poi_type = :poiType");
+                }
+                if (poiCategory != null) {
+                        sql.append(" AND p.poi_category = :poiCategory");
+                }
+                if (city != null) {
+                        sql.append(" AND p.address_city = :city");
+                }
+                sql.append(") hits");
+                if (after != null) {
+                        sql.append(" WHERE search_score < :afterScore OR (search_score = :afterScore AND poi_id < :afterId)");
+                }
+                sql.append(" ORDER BY search_score DESC, poi_id DESC LIMIT :limit");
+
+                DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient()
+                                .sql(sql.toString())
+                                .bind("q", query)
+                                .bind("textWeight", searchProperties.getTextWeight())
+                                .bind("popularityWeight", searchProperties.getPopularityWeight())
+                                .bind("limit", limit);
+                if (withPoint) {
+                        spec = spec.bind("lon", longitude)
+                                        .bind("lat", latitude)
+                                        .bind("distanceWeight", searchProperties.getDistanceWeight())
+                                        .bind("distanceScaleKm", searchProperties.getDistanceScaleKm());
+                }
+                if (poiType != null) {
+                        spec = spec.bind("poiType", poiType.name());
+                }
+                if (poiCategory != null) {
+                        spec = spec.bind("poiCategory", poiCategory.name());
+                }
+                if (city != null) {
+                        spec = spec.bind("city", city);
+                }
+                if (after != null) {
+                        spec = spec.bind("afterScore", after.sortKey(Double::valueOf))
+                                        .bind("afterId", after.id());
+                }
+                return spec.map((row, metadata) -> new PoiSearchHit(
+                                entityTemplate.getConverter().read(PointOfInterest.class, row, metadata),
+                                row.get("search_score", Double.class),
+                                row.get("distance_meters", Double.class)))
+                                .all();
+        }
+
+        // Tuile en Web Mercator (3857) ; le filtre "&&" en 4326 s'appuie sur idx_poi_location_geom_active.
+        // Sous clusterMaxZoom, les POI sont regroupés par cellule d'une grille alignée sur la tuile.
+        @Override
+        public Mono<byte[]> findVectorTile(int zoom, int x, int y) {
+                boolean clustered = zoom < tileProperties.getClusterMaxZoom();
+                StringBuilder sql = new StringBuilder("WITH bounds AS (SELECT ST_TileEnvelope(:z, :x, :y) AS geom),")
+                                .append(" points AS (SELECT poi.poi_id, poi.poi_type, poi.poi_category, poi.popularity_score,")
+                                .append(" ST_Transform(poi.location_geog::geometry, 3857) AS geom FROM point_of_interest poi, bounds")
+                                .append(" WHERE poi.is_active = true AND poi.location_geog::geometry && ST_Transform(")
+                                .append(clustered
+                                                ? "bounds.geom"
+                                                : "ST_Expand(bounds.geom, (ST_XMax(bounds.geom) - ST_XMin(bounds.geom)) * :buffer / CAST(:extent AS DOUBLE PRECISION))")
+                                .append(", 4326)),");
+                if (clustered) {
+                        String cellWidth = "((ST_XMax(bounds.geom) - ST_XMin(bounds.geom)) / :cells)";
+                        sql.append(" clusters AS (SELECT CASE WHEN count(*) = 1 THEN min(points.poi_id::text) END AS id,")
+                                        .append(" mode() WITHIN GROUP (ORDER BY points.poi_type) AS type,")
+                                        .append(" mode() WITHIN GROUP (ORDER BY points.poi_category) AS category,")
+                                        .append(" max(points.popularity_score) AS score, count(*) AS count,")
+                                        .append(" ST_Centroid(ST_Collect(points.geom)) AS geom FROM points, bounds")
+                                        .append(" GROUP BY floor((ST_X(points.geom) - ST_XMin(bounds.geom)) / ").append(cellWidth)
+                                        .append("), floor((ST_Y(points.geom) - ST_YMin(bounds.geom)) / ").append(cellWidth).append(")),")
+                                        .append(" features AS (SELECT clusters.id, clusters.type, clusters.category, clusters.score,")
+                                        .append(" clusters.count, ST_AsMVTGeom(clusters.geom, bounds.geom, :extent, :buffer, true) AS geom")
+                                        .append(" FROM clusters, bounds)");
+                } else {
+                        sql.append(" features AS (SELECT points.poi_id::text AS id, points.poi_type AS type,")
+                                        .append(" points.poi_category AS category, points.popularity_score AS score,")
+                                        .append(" ST_AsMVTGeom(points.geom, bounds.geom, :extent, :buffer, true) AS geom")
+                                        .append(" FROM points, bounds)");
+                }
+                sql.append(" SELECT COALESCE(ST_AsMVT(features.*, 'pois', :extent, 'geom'), ''::bytea) AS tile FROM features");
+
+                DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient()
+                                .sql(sql.toString())
+                                .bind("z", zoom)
+                                .bind("x", x)
+                                .bind("y", y)
+                                .bind("extent", tileProperties.getExtent())
+                                .bind("buffer", tileProperties.getBuffer());
+                if (clustered) {
+                        spec = spec.bind("cells", tileProperties.getClusterCellsPerTile());
+                }
+                return spec.map((row, metadata) -> row.get("tile", byte[].class))
+                                .one()
+                                .defaultIfEmpty(new byte[0]);
+        }
+
+        // Emprise : "&&" sur idx_poi_location_geom_active ; seules les colonnes utiles à la carte sont lues
+        @Override
+        public Flux<PointOfInterestSummary> findSummariesWithinBoundingBox(double minLatitude, double minLongitude,
+                        double maxLatitude, double maxLongitude, PoiType poiType, PoiCategory poiCategory,
+                        Integer limit) {
+                StringBuilder sql = new StringBuilder("SELECT ").append(SUMMARY_COLUMNS)
+                                .append(" FROM point_of_interest WHERE is_active = true")
+                                .append(" AND location_geog::geometry && ST_MakeEnvelope(:minLon, :minLat, :maxLon, :maxLat, 4326)");
+                if (poiType != null) {
+                        sql.append(" AND poi_type = :poiType");
+                }
+                if (poiCategory != null) {
+                        sql.append(" AND poi_category = :poiCategory");
+                }
+                sql.append(" ORDER BY popularity_score DESC NULLS LAST");
+                if (limit != null) {
+                        sql.append(" LIMIT :limit");
+                }
+
+                DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient()
+                                .sql(sql.toString())
+                                .bind("minLon", minLongitude)
+                                .bind("minLat", minLatitude)
+                                .bind("maxLon", maxLongitude)
+                                .bind("maxLat", maxLatitude);
+                if (poiType != null) {
+                        spec = spec.bind("poiType", poiType.name());
+                }
+                if (poiCategory != null) {
+                        spec = spec.bind("poiCategory", poiCategory.name());
+                }
+                if (limit != null) {
+                        spec = spec.bind("limit", limit);
+                }
+                return spec.map(this::readSummary).all();
+        }
+
+        // Mêmes filtres et tris que les requêtes dérivées de PointOfInterestRepository, colonnes réduites
+        @Override
+        public Flux<PointOfInterestSummary> findSummaries(PoiListFilter filter) {
+                List<String> conditions = new ArrayList<>();
+                if (filter.getPoiType() != null) {
+                        conditions.add("poi_type = :poiType");
+                }
+                if (filter.getPoiCategory() != null) {
+                        conditions.add("poi_category = :poiCategory");
+                }
+                if (filter.getCity() != null) {
+                        conditions.add("address_city = :city");
+                }
+                if (filter.getNameContains() != null) {
+                        conditions.add("UPPER(poi_name) LIKE UPPER(:name)");
+                }
+                if (filter.getCreatedByUserId() != null) {
+                        conditions.add("created_by_user_id = :createdBy");
+                }
+                if (filter.getStatus() != null) {
+                        conditions.add("status = :status");
+                }
+                StringBuilder sql = new StringBuilder("SELECT ").append(SUMMARY_COLUMNS).append(" FROM point_of_interest");
+                if (!conditions.isEmpty()) {
+                        sql.append(" WHERE ").append(String.join(" AND ", conditions));
+                }
+                switch (filter.getOrder()) {
+                        case POPULARITY -> sql.append(" ORDER BY popularity_score DESC");
+                        case RECENT -> sql.append(" ORDER BY created_at DESC");
+                        default -> {
+                        }
+                }
+                if (filter.getLimit() != null) {
+                        sql.append(" LIMIT :limit");
+                }
+
+                DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql.toString());
+                if (filter.getPoiType() != null) {
+                        spec = spec.bind("poiType", filter.getPoiType().name());
+                }
+                if (filter.getPoiCategory() != null) {
+                        spec = spec.bind("poiCategory", filter.getPoiCategory().name());
+                }
+                if (filter.getCity() != null) {
+                        spec = spec.bind("city", filter.getCity());
+                }
+                if (filter.getNameContains() != null) {
+                        spec = spec.bind("name", "%" + escapeLike(filter.getNameContains()) + "%");
+                }
+                if (filter.getCreatedByUserId() != null) {
+                        spec = spec.bind("createdBy", filter.getCreatedByUserId());
+                }
+                if (filter.getStatus() != null) {
+                        spec = spec.bind("status", filter.getStatus().name());
+                }
+                if (filter.getLimit() != null) {
+                        spec = spec.bind("limit", filter.getLimit());
+                }
+                return spec.map(this::readSummary).all();
+        }
+
+        // Même grille que PoiClusterGrid : cellules Web Mercator numérotées depuis le coin nord-ouest, indices
+        // bornés à la grille ; chaque cellule touchée par la boîte est comptée en entier, comme dans la grille
+        @Override
+        public Flux<PoiGridCell> findGridCells(int gridZoom, double minLatitude, double minLongitude,
+                        double maxLatitude, double maxLongitude) {
+                int minX = cellIndex(WebMercatorTiles.tileX(minLongitude, gridZoom), gridZoom);
+                int maxX = cellIndex(WebMercatorTiles.tileX(maxLongitude, gridZoom), gridZoom);
+                int minY = cellIndex(WebMercatorTiles.tileY(maxLatitude, gridZoom), gridZoom);
+                int maxY = cellIndex(WebMercatorTiles.tileY(minLatitude, gridZoom), gridZoom);
+                int lastCell = (1 << gridZoom) - 1;
+                String sql = "SELECT count(*) AS poi_count, avg(ST_Y(c.geom)) AS latitude, avg(ST_X(c.geom)) AS longitude,"
+                                + " mode() WITHIN GROUP (ORDER BY c.poi_type) AS dominant_type,"
+                                + " mode() WITHIN GROUP (ORDER BY c.poi_category) AS dominant_category"
+                                + " FROM (SELECT p.geom, p.poi_type, p.poi_category,"
+                                + " LEAST(:lastCell, GREATEST(0, floor((ST_X(ST_Transform(p.geom, 3857)) + :halfWorld) / :cellSize))) AS cell_x,"
+                                + " LEAST(:lastCell, GREATEST(0, floor((:halfWorld - ST_Y(ST_Transform(p.geom, 3857))) / :cellSize))) AS cell_y"
+                                + " FROM (SELECT location_geog::geometry AS geom, poi_type, poi_category FROM point_of_interest"
+                                + " WHERE is_active = true AND location_geog::geometry"
+                                + " && ST_MakeEnvelope(:minLon, :minLat, :maxLon, :maxLat, 4326)) p) c"
+                                + " WHERE c.cell_x BETWEEN :minX AND :maxX AND c.cell_y BETWEEN :minY AND :maxY"
+                                + " GROUP BY c.cell_x, c.cell_y";
+                double halfWorld = 20037508.342789244;
+                return entityTemplate.getDatabaseClient()
+                                .sql(sql)
+                                // Enveloppe des cellules couvertes ; les rangées du bord s'étendent jusqu'aux pôles
+                                .bind("minLon", WebMercatorTiles.longitude(minX, gridZoom))
+                                .bind("minLat", maxY == lastCell ? -90.0 : WebMercatorTiles.latitude(maxY + 1, gridZoom))
+                                .bind("maxLon", WebMercatorTiles.longitude(maxX + 1, gridZoom))
+                                .bind("maxLat", minY == 0 ? 90.0 : WebMercatorTiles.latitude(minY, gridZoom))
+                                .bind("minX", minX)
+                                .bind("maxX", maxX)
+                                .bind("minY", minY)
+                                .bind("maxY", maxY)
+                                .bind("lastCell", lastCell)
+                                .bind("halfWorld", halfWorld)
+                                .bind("cellSize", 2 * halfWorld / (1L << gridZoom))
+                                .map((row, metadata) -> {
+                                        String type = row.get("dominant_type", String.class);
+                                        String category = row.get("dominant_category", String.class);
+                                        return new PoiGridCell(row.get("poi_count", Long.class),
+                                                        row.get("latitude", Double.class),
+                                                        row.get("longitude", Double.class),
+                                                        type == null ? null : PoiType.valueOf(type),
+                                                        category == null ? null : PoiCategory.valueOf(category));
+                                })
+                                .all();
+        }
+
+        private static int cellIndex(double fractional, int gridZoom) {
+                int max = (1 << gridZoom) - 1;
+                return (int) Math.max(0, Math.min(max, Math.floor(fractional)));
+        }
+
         /* 
         @Override
         public Mono<Long> countActiveByOrganizationId(UUID organizationId) {
@@ -82,6 +499,29 @@ public class PointOfInterestRepositoryImpl implements PointOfInterestRepositoryC
                                 .apply(Update.update("popularity_score", score));
         }
 
+        @Override
+        public Mono<Long> updatePopularityScores(Map<UUID, Float> scores) {
+                if (scores.isEmpty()) {
+                        return Mono.just(0L);
+                }
+                List<Map.Entry<UUID, Float>> entries = new ArrayList<>(scores.entrySet());
+                StringBuilder sql = new StringBuilder(
+                                "UPDATE point_of_interest p SET popularity_score = v.score FROM (VALUES ");
+                for (int i = 0; i < entries.size(); i++) {
+                        sql.append(i > 0 ? ", " : "")
+                                        .append("(CAST(:poi").append(i).append(" AS UUID), CAST(:score").append(i)
+                                        .append(" AS REAL))");
+                }
+                sql.append(") AS v(poi_id, score) WHERE p.poi_id = v.poi_id");
+
+                DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql.toString());
+                for (int i = 0; i < entries.size(); i++) {
+                        spec = spec.bind("poi" + i, entries.get(i).getKey())
+                                        .bind("score" + i, entries.get(i).getValue());
+                }
+                return spec.fetch().rowsUpdated();
+        }
+
         @Override
         public Mono<Boolean> existsByNameAndOrganizationIdExcludingId(String name, 
                 //UUID organizationId,
@@ -105,4 +545,40 @@ public class PointOfInterestRepositoryImpl implements PointOfInterestRepositoryC
                                                 .limit(limit))
                                 .all();
         }
-}
\ No newline at end of file
+
+        @Override
+        public Flux<PointOfInterest> findPageAfter(String city, PoiType poiType, PoiStatus status,
+                        KeysetCursor after, int limit) {
+                Criteria filter = Criteria.empty();
+                if (city != null) {
+                        filter = filter.and("address_city").is(city);
+                }
+                if (poiType != null) {
+                        filter = filter.and("poi_type").is(poiType);
+                }
+                if (status != null) {
+                        filter = filter.and("status").is(status);
+                }
+                return entityTemplate.select(PointOfInterest.class)
+                                .matching(KeysetPagination.after(filter, "created_at", "poi_id", after, Instant::parse, limit))
+                                .all();
+        }
+
+        private PointOfInterestSummary readSummary(Row row, RowMetadata metadata) {
+                String type = row.get("poi_type", String.class);
+                String category = row.get("poi_category", String.class);
+                return new PointOfInterestSummary(row.get("poi_id", UUID.class),
+                                row.get("poi_name", String.class),
+                                type == null ? null : PoiType.valueOf(type),
+                                category == null ? null : PoiCategory.valueOf(category),
+                                row.get("address_city", String.class),
+                                row.get("latitude", Double.class),
+                                row.get("longitude", Double.class),
+                                row.get("popularity_score", Float.class));
+        }
+
+        // Les jokers LIKE saisis par l'utilisateur sont pris littéralement (antislash : caractère d'échappement par défaut)
+        private static String escapeLike(String text) {
+                return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        }
+}
@@ -0,0 +1,34 @@
+package com.poi.yow_point.infrastructure.repositories.PointOfInterest;
+
+import java.util.UUID;
+
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * The few columns of a POI needed to place and label it on a map, read without the JSON, array and text
+ * columns of the full entity.
+ */
+@Data
+@AllArgsConstructor
+public class PointOfInterestSummary {
+
+    private UUID poiId;
+
+    private String poiName;
+
+    private PoiType poiType;
+
+    private PoiCategory poiCategory;
+
+    private String addressCity;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Float popularityScore;
+}
@@ -3,6 +3,7 @@ package com.poi.yow_point.infrastructure.repositories.blog;
 import java.util.UUID;
 
 import com.poi.yow_point.infrastructure.entities.Blog;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -22,4 +23,9 @@ public interface BlogRepositoryCustom {
     Mono<Long> countByUserIdAndIsActiveTrue(UUID userId);
 
     Mono<Long> countByPoiIdAndIsActiveTrue(UUID poiId);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of active blogs ordered by {@code (created_at, blog_id) DESC}.
+     */
+    Flux<Blog> findActivePageAfter(KeysetCursor after, int limit);
+}
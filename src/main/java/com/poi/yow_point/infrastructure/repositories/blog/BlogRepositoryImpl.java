@@ -1,5 +1,6 @@
 package com.poi.yow_point.infrastructure.repositories.blog;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.data.domain.Sort;
@@ -9,6 +10,8 @@ import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 import com.poi.yow_point.infrastructure.entities.Blog;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -100,4 +103,12 @@ public class BlogRepositoryImpl implements BlogRepositoryCustom {
                 .matching(query)
                 .count();
     }
-}
\ No newline at end of file
+
+    @Override
+    public Flux<Blog> findActivePageAfter(KeysetCursor after, int limit) {
+        return template.select(Blog.class)
+                .matching(KeysetPagination.after(Criteria.where("is_active").is(true), "created_at", "blog_id",
+                        after, LocalDateTime::parse, limit))
+                .all();
+    }
+}
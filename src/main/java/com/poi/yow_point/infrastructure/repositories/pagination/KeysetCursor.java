@@ -0,0 +1,62 @@
+package com.poi.yow_point.infrastructure.repositories.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursor: the sort key and id of the last row of a page.
+ * Clients only see the URL-safe Base64 form and pass it back unchanged to get the next page.
+ * <p>
+ * A row whose sort column is NULL gives a cursor with a null sort key, encoded as an empty key
+ * (real keys are never empty).
+ */
+public record KeysetCursor(String sortKey, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(Object sortKey, UUID id) {
+        return new KeysetCursor(sortKey == null ? null : sortKey.toString(), id);
+    }
+
+    public String encode() {
+        String raw = (sortKey == null ? "" : sortKey) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a client cursor; a null or blank cursor means "first page" and yields null.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String sortKey = raw.substring(0, separator);
+            return new KeysetCursor(sortKey.isEmpty() ? null : sortKey, UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * The sort key converted back to the column type (e.g. {@code Instant::parse}); null for a NULL sort key.
+     *
+     * @throws IllegalArgumentException if the sort key does not parse
+     */
+    public <K> K sortKey(Function<String, K> parser) {
+        if (sortKey == null) {
+            return null;
+        }
+        try {
+            return parser.apply(sortKey);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor sort key: " + sortKey, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.poi.yow_point.infrastructure.repositories.pagination;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+
+import java.util.function.Function;
+
+/**
+ * Builds keyset ("seek") queries ordered by {@code (sortColumn DESC NULLS LAST, idColumn DESC)}.
+ * <p>
+ * The next page is selected with {@code sortColumn < :key OR (sortColumn = :key AND idColumn < :id)
+ * OR sortColumn IS NULL}, which an index in the same order ({@code (sortColumn DESC NULLS LAST, idColumn DESC)},
+ * after the filter columns) resolves without reading the skipped rows, so deep pages cost the same as the
+ * first one, unlike {@code OFFSET}.
+ * Rows with a NULL sort key come last, ordered by id: once the cursor reaches them
+ * ({@link KeysetCursor#sortKey()} null) the next page is {@code sortColumn IS NULL AND idColumn < :id}.
+ */
+public final class KeysetPagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetPagination() {
+    }
+
+    public static int clampSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Query for the rows following {@code after} (first page when null), limited to {@code limit} rows.
+     * Callers ask for one row more than the page size to know whether a next page exists.
+     */
+    public static <K> Query after(Criteria filter, String sortColumn, String idColumn,
+            KeysetCursor after, Function<String, K> keyParser, int limit) {
+        Criteria criteria = filter;
+        if (after != null) {
+            K key = after.sortKey(keyParser);
+            Criteria seek = key == null
+                    ? Criteria.where(sortColumn).isNull().and(idColumn).lessThan(after.id())
+                    : Criteria.where(sortColumn).lessThan(key)
+                            .or(Criteria.where(sortColumn).is(key).and(idColumn).lessThan(after.id()))
+                            .or(sortColumn).isNull();
+            criteria = filter.isEmpty() ? seek : filter.and(seek);
+        }
+        return Query.query(criteria)
+                .sort(Sort.by(Sort.Order.desc(sortColumn).nullsLast(), Sort.Order.desc(idColumn)))
+                .limit(limit);
+    }
+}
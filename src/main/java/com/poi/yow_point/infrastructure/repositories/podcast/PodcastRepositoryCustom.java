@@ -3,6 +3,7 @@ package com.poi.yow_point.infrastructure.repositories.podcast;
 import java.util.UUID;
 
 import com.poi.yow_point.infrastructure.entities.Podcast;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -24,4 +25,9 @@ public interface PodcastRepositoryCustom {
     Mono<Long> countByPoiIdAndIsActiveTrue(UUID poiId);
 
     Flux<Podcast> findByDurationRange(Integer minDuration, Integer maxDuration);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of active podcasts ordered by {@code (created_at, podcast_id) DESC}.
+     */
+    Flux<Podcast> findActivePageAfter(KeysetCursor after, int limit);
+}
@@ -1,5 +1,6 @@
 package com.poi.yow_point.infrastructure.repositories.podcast;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.data.domain.Sort;
@@ -9,6 +10,8 @@ import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 import com.poi.yow_point.infrastructure.entities.Podcast;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -112,4 +115,12 @@ public class PodcastRepositoryImpl implements PodcastRepositoryCustom {
                 .matching(query)
                 .all();
     }
-}
\ No newline at end of file
+
+    @Override
+    public Flux<Podcast> findActivePageAfter(KeysetCursor after, int limit) {
+        return template.select(Podcast.class)
+                .matching(KeysetPagination.after(Criteria.where("is_active").is(true), "created_at", "podcast_id",
+                        after, LocalDateTime::parse, limit))
+                .all();
+    }
+}
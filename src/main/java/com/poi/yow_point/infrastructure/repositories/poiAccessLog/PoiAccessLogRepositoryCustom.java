@@ -1,10 +1,13 @@
 package com.poi.yow_point.infrastructure.repositories.poiAccessLog;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.List;
 //import java.util.Map;
 import java.util.UUID;
 
 import com.poi.yow_point.infrastructure.entities.PoiAccessLog;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -33,7 +36,31 @@ public interface PoiAccessLogRepositoryCustom {
 
     Mono<Long> deleteOldLogs(OffsetDateTime beforeDate);
 
+    /**
+     * Creates, if missing, the monthly partition containing {@code month} (PostgreSQL only).
+     *
+     * @return the partition name
+     */
+    Mono<String> ensurePartition(LocalDate month);
+
+    /**
+     * Detaches and drops every monthly partition entirely older than {@code beforeDate} (PostgreSQL only).
+     *
+     * @return the number of dropped partitions
+     */
+    Mono<Integer> dropPartitionsBefore(OffsetDateTime beforeDate);
+
     Flux<PoiAccessLog> findByPoiIdWithPagination(UUID poiId, int limit, int offset);
 
     //Flux<Map<String, Object>> getPlatformStatsForOrganization(UUID organizationId);
+
+    /**
+     * Keyset page ordered by {@code (access_datetime, access_id) DESC}; {@code poiId} is optional.
+     */
+    Flux<PoiAccessLog> findPageAfter(UUID poiId, KeysetCursor after, int limit);
+
+    /**
+     * Inserts all the logs with a single multi-row statement; ids and timestamps must be set.
+     */
+    Mono<Long> insertBatch(List<PoiAccessLog> logs);
 }
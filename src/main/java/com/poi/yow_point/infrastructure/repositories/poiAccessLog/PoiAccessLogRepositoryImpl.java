@@ -1,6 +1,9 @@
 package com.poi.yow_point.infrastructure.repositories.poiAccessLog;
 
 import com.poi.yow_point.infrastructure.entities.PoiAccessLog;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
+import io.r2dbc.postgresql.codec.Json;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -12,8 +15,10 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -23,6 +28,9 @@ import java.util.UUID;
 
 public class PoiAccessLogRepositoryImpl implements PoiAccessLogRepositoryCustom {
 
+    private static final String INSERT_PREFIX = "INSERT INTO poi_access_log "
+            + "(access_id, poi_id, platform_type, user_id, access_type, access_datetime, metadata) VALUES ";
+
     private final R2dbcEntityTemplate template;
     private final DatabaseClient databaseClient;
 
@@ -170,6 +178,30 @@ public class PoiAccessLogRepositoryImpl implements PoiAccessLogRepositoryCustom
                 .rowsUpdated();
     }
 
+    @Override
+    public Mono<String> ensurePartition(LocalDate month) {
+        log.debug("Création si besoin de la partition des logs d'accès pour le mois: {}", month);
+
+        return databaseClient.sql("SELECT poi_access_log_ensure_partition(:month)")
+                .bind("month", month)
+                .map(row -> row.get(0, String.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Integer> dropPartitionsBefore(OffsetDateTime beforeDate) {
+        log.debug("Suppression des partitions de logs d'accès antérieures à: {}", beforeDate);
+
+        return databaseClient.sql("SELECT poi_access_log_drop_partitions_before(:beforeDate)")
+                .bind("beforeDate", beforeDate)
+                .map(row -> row.get(0, Integer.class))
+                .one();
+    }
+
+    /**
+     * @deprecated OFFSET pagination reads and discards every skipped row; use {@link #findPageAfter}.
+     */
+    @Deprecated
     @Override
     public Flux<PoiAccessLog> findByPoiIdWithPagination(UUID poiId, int limit, int offset) {
         log.debug("Recherche paginée des logs d'accès pour POI: {} (limit: {}, offset: {})", poiId, limit, offset);
@@ -257,4 +289,56 @@ public class PoiAccessLogRepositoryImpl implements PoiAccessLogRepositoryCustom
                 })
                 .all();
     }
+
+    @Override
+    public Flux<PoiAccessLog> findPageAfter(UUID poiId, KeysetCursor after, int limit) {
+        log.debug("Recherche paginée (keyset) des logs d'accès pour POI: {} (limit: {})", poiId, limit);
+
+        Criteria filter = poiId != null ? Criteria.where("poi_id").is(poiId) : Criteria.empty();
+        return template.select(PoiAccessLog.class)
+                .matching(KeysetPagination.after(filter, "access_datetime", "access_id", after,
+                        OffsetDateTime::parse, limit))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> insertBatch(List<PoiAccessLog> logs) {
+        if (logs.isEmpty()) {
+            return Mono.just(0L);
+        }
+        log.debug("Insertion groupée de {} logs d'accès", logs.size());
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < logs.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i)
+                    .append(", :poi").append(i)
+                    .append(", :platform").append(i)
+                    .append(", :user").append(i)
+                    .append(", :type").append(i)
+                    .append(", :at").append(i)
+                    .append(", :meta").append(i).append(')');
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < logs.size(); i++) {
+            PoiAccessLog accessLog = logs.get(i);
+            spec = bindNullable(spec, "id" + i, accessLog.getAccessId(), UUID.class);
+            spec = bindNullable(spec, "poi" + i, accessLog.getPoiId(), UUID.class);
+            spec = bindNullable(spec, "platform" + i, accessLog.getPlatformType(), String.class);
+            spec = bindNullable(spec, "user" + i, accessLog.getUserId(), UUID.class);
+            spec = bindNullable(spec, "type" + i, accessLog.getAccessType(), String.class);
+            spec = bindNullable(spec, "at" + i, accessLog.getAccessDatetime(), OffsetDateTime.class);
+            spec = bindNullable(spec, "meta" + i,
+                    accessLog.hasMetadata() ? Json.of(accessLog.getMetadata().toString()) : null, Json.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+            String name, Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
 }
@@ -0,0 +1,8 @@
+package com.poi.yow_point.infrastructure.repositories.poiOutbox;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import com.poi.yow_point.infrastructure.entities.PoiOutboxMessage;
+
+public interface PoiOutboxRepository extends R2dbcRepository<PoiOutboxMessage, Long>, PoiOutboxRepositoryCustom {
+}
@@ -0,0 +1,21 @@
+package com.poi.yow_point.infrastructure.repositories.poiOutbox;
+
+import com.poi.yow_point.infrastructure.entities.PoiOutboxMessage;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface PoiOutboxRepositoryCustom {
+
+    /**
+     * Takes the relay lock (a PostgreSQL transaction-level advisory lock) without waiting; false when another
+     * relay holds it. Must run in a transaction: the lock is released when it ends.
+     */
+    Mono<Boolean> tryLockRelay();
+
+    /**
+     * Locks and returns the {@code limit} oldest messages, in outbox_id order. Must run in a transaction: the
+     * locks are held until it ends.
+     */
+    Flux<PoiOutboxMessage> lockNextBatch(int limit);
+}
@@ -0,0 +1,51 @@
+package com.poi.yow_point.infrastructure.repositories.poiOutbox;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.poi.yow_point.infrastructure.entities.PoiOutboxMessage;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PoiOutboxRepositoryImpl implements PoiOutboxRepositoryCustom {
+
+    // Arbitrary key of the relay's advisory lock ("poiout" in ASCII)
+    private static final long RELAY_LOCK_KEY = 0x706f696f7574L;
+
+    private static final String TRY_LOCK_RELAY = "SELECT pg_try_advisory_xact_lock(:key) AS locked";
+
+    private static final String LOCK_NEXT_BATCH = "SELECT outbox_id, aggregate_id, topic, payload_type, payload, created_at "
+            + "FROM poi_outbox ORDER BY outbox_id LIMIT :limit FOR UPDATE";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Boolean> tryLockRelay() {
+        return databaseClient.sql(TRY_LOCK_RELAY)
+                .bind("key", RELAY_LOCK_KEY)
+                .map(row -> Boolean.TRUE.equals(row.get("locked", Boolean.class)))
+                .one();
+    }
+
+    @Override
+    public Flux<PoiOutboxMessage> lockNextBatch(int limit) {
+        return databaseClient.sql(LOCK_NEXT_BATCH)
+                .bind("limit", limit)
+                .map(row -> PoiOutboxMessage.builder()
+                        .outboxId(row.get("outbox_id", Long.class))
+                        .aggregateId(row.get("aggregate_id", UUID.class))
+                        .topic(row.get("topic", String.class))
+                        .payloadType(row.get("payload_type", String.class))
+                        .payload(row.get("payload", String.class))
+                        .createdAt(row.get("created_at", OffsetDateTime.class))
+                        .build())
+                .all();
+    }
+}
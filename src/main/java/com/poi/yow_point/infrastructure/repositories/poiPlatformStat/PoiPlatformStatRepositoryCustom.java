@@ -1,9 +1,12 @@
 package com.poi.yow_point.infrastructure.repositories.poiPlatformStat;
 
 import com.poi.yow_point.infrastructure.entities.PoiPlatformStat;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 public interface PoiPlatformStatRepositoryCustom {
@@ -12,4 +15,22 @@ public interface PoiPlatformStatRepositoryCustom {
 
     Flux<PoiPlatformStat> findByPoiIdAndPlatformTypeAndDateRange(UUID poiId, String platformType, LocalDate startDate,
             LocalDate endDate);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page ordered by {@code (stat_date, stat_id) DESC}; {@code poiId} is optional.
+     */
+    Flux<PoiPlatformStat> findPageAfter(UUID poiId, KeysetCursor after, int limit);
+
+    /**
+     * Adds the counters of each increment to the row of its (poi, platform, day), creating it if missing.
+     * Increments must have distinct (poi, platform, day) keys. Increments of POIs that no longer exist are
+     * dropped.
+     */
+    Mono<Long> upsertIncrements(List<PoiPlatformStat> increments);
+
+    /**
+     * Per-day totals of a POI read from the pre-aggregated rows, oldest day first;
+     * {@code platformType} is optional, when null all platforms are summed.
+     */
+    Flux<PoiPlatformStat> findDailyTotals(UUID poiId, String platformType, LocalDate startDate, LocalDate endDate);
+}
@@ -3,21 +3,40 @@ package com.poi.yow_point.infrastructure.repositories.poiPlatformStat;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 
 import com.poi.yow_point.infrastructure.entities.PoiPlatformStat;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class PoiPlatformStatRepositoryImpl implements PoiPlatformStatRepositoryCustom {
 
+    // Rows of POIs deleted since their events were counted are filtered out instead of failing the FK
+    private static final String UPSERT_PREFIX = "INSERT INTO poi_platform_stat "
+            + "(stat_id, poi_id, platform_type, stat_date, views, reviews, likes, dislikes) "
+            + "SELECT v.stat_id, v.poi_id, v.platform_type, v.stat_date, v.views, v.reviews, v.likes, v.dislikes "
+            + "FROM (VALUES ";
+    private static final String UPSERT_SUFFIX = ") AS v (stat_id, poi_id, platform_type, stat_date, views, reviews, likes, dislikes) "
+            + "WHERE EXISTS (SELECT 1 FROM point_of_interest p WHERE p.poi_id = v.poi_id)"
+            + " ON CONFLICT (poi_id, platform_type, stat_date) DO UPDATE SET "
+            + "views = COALESCE(poi_platform_stat.views, 0) + EXCLUDED.views, "
+            + "reviews = COALESCE(poi_platform_stat.reviews, 0) + EXCLUDED.reviews, "
+            + "likes = COALESCE(poi_platform_stat.likes, 0) + EXCLUDED.likes, "
+            + "dislikes = COALESCE(poi_platform_stat.dislikes, 0) + EXCLUDED.dislikes";
+
     private final R2dbcEntityTemplate entityTemplate;
+    private final DatabaseClient databaseClient;
 
     @Override
     public Flux<PoiPlatformStat> findByOrgIdAndDateRange(UUID orgId, LocalDate startDate, LocalDate endDate) {
@@ -36,4 +55,71 @@ public class PoiPlatformStatRepositoryImpl implements PoiPlatformStatRepositoryC
                         .and("stat_date").between(startDate, endDate)))
                 .all();
     }
-}
\ No newline at end of file
+
+    @Override
+    public Flux<PoiPlatformStat> findPageAfter(UUID poiId, KeysetCursor after, int limit) {
+        Criteria filter = poiId != null ? Criteria.where("poi_id").is(poiId) : Criteria.empty();
+        return entityTemplate.select(PoiPlatformStat.class)
+                .matching(KeysetPagination.after(filter, "stat_date", "stat_id", after, LocalDate::parse, limit))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> upsertIncrements(List<PoiPlatformStat> increments) {
+        if (increments.isEmpty()) {
+            return Mono.just(0L);
+        }
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        for (int i = 0; i < increments.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i).append(", :poi").append(i).append(", :platform").append(i)
+                    .append(", :day").append(i).append(", :views").append(i).append(", :reviews").append(i)
+                    .append(", :likes").append(i).append(", :dislikes").append(i).append(')');
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < increments.size(); i++) {
+            PoiPlatformStat increment = increments.get(i);
+            spec = spec.bind("id" + i, UUID.randomUUID())
+                    .bind("poi" + i, increment.getPoiId())
+                    .bind("platform" + i, increment.getPlatformType())
+                    .bind("day" + i, increment.getStatDate())
+                    .bind("views" + i, increment.getViews())
+                    .bind("reviews" + i, increment.getReviews())
+                    .bind("likes" + i, increment.getLikes())
+                    .bind("dislikes" + i, increment.getDislikes());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    @Override
+    public Flux<PoiPlatformStat> findDailyTotals(UUID poiId, String platformType, LocalDate startDate,
+            LocalDate endDate) {
+        String sql = "SELECT stat_date, SUM(COALESCE(views, 0)) AS views, SUM(COALESCE(reviews, 0)) AS reviews, "
+                + "SUM(COALESCE(likes, 0)) AS likes, SUM(COALESCE(dislikes, 0)) AS dislikes "
+                + "FROM poi_platform_stat WHERE poi_id = :poiId AND stat_date BETWEEN :startDate AND :endDate "
+                + (platformType != null ? "AND platform_type = :platformType " : "")
+                + "GROUP BY stat_date ORDER BY stat_date";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("poiId", poiId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate);
+        if (platformType != null) {
+            spec = spec.bind("platformType", platformType);
+        }
+        return spec.map(row -> PoiPlatformStat.builder()
+                        .poiId(poiId)
+                        .platformType(platformType)
+                        .statDate(row.get("stat_date", LocalDate.class))
+                        .views(row.get("views", Long.class).intValue())
+                        .reviews(row.get("reviews", Long.class).intValue())
+                        .likes(row.get("likes", Long.class).intValue())
+                        .dislikes(row.get("dislikes", Long.class).intValue())
+                        .build())
+                .all();
+    }
+}
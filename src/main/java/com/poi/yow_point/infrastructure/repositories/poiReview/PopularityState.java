@@ -0,0 +1,30 @@
+package com.poi.yow_point.infrastructure.repositories.poiReview;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Freshness-weighted rating sum and total weight of a POI, already decayed to the time of the read.
+ */
+@Data
+@AllArgsConstructor
+public class PopularityState {
+
+    private UUID poiId;
+
+    private double weightedSum;
+
+    private double totalWeight;
+
+    /**
+     * Database time the state was decayed to, when read by a full recomputation; null otherwise.
+     */
+    private OffsetDateTime readAt;
+
+    public PopularityState(UUID poiId, double weightedSum, double totalWeight) {
+        this(poiId, weightedSum, totalWeight, null);
+    }
+}
@@ -1,9 +1,11 @@
 package com.poi.yow_point.infrastructure.repositories.poiReview;
 
 import com.poi.yow_point.infrastructure.entities.Review;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface ReviewRepositoryCustom {
@@ -26,4 +28,46 @@ public interface ReviewRepositoryCustom {
     Mono<Double> findGlobalAverageRating();
 
     Mono<Long> countTotalReviews();
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of a POI's reviews ordered by {@code (created_at, review_id) DESC}.
+     */
+    Flux<Review> findPageByPoiIdAfter(UUID poiId, KeysetCursor after, int limit);
+
+    /**
+     * Decays the stored state of the POI to now with {@code lambda} (per day), adds the deltas and
+     * moves its reference time to now, creating the state if missing. Empty when the POI no longer exists
+     * (deleted since the review was written): nothing is written.
+     */
+    Mono<PopularityState> applyPopularityDelta(UUID poiId, double weightedSumDelta, double totalWeightDelta,
+            double lambda);
+
+    /**
+     * Overwrites the state of the POI, valid as of now (used by full recomputations); does nothing when the
+     * POI no longer exists.
+     */
+    Mono<Void> replacePopularityState(UUID poiId, double weightedSum, double totalWeight);
+
+    /**
+     * Adds the deltas to the maintained rating totals of the review table and returns the new global average.
+     */
+    Mono<Double> applyRatingTotalsDelta(double ratingSumDelta, long ratingCountDelta);
+
+    /**
+     * Streams the state of every POI recomputed from its reviews in one grouped pass, decayed to the time of
+     * the read (carried by {@link PopularityState#getReadAt()}); POIs without rated reviews come with zero sums.
+     */
+    Flux<PopularityState> streamPopularityStates(double lambda);
+
+    /**
+     * Overwrites the stored state of each POI with a single multi-row upsert, valid as of its read time, and
+     * emits the ids actually written. POIs deleted since the read are skipped, and so are states written
+     * after the read (an incremental delta that landed meanwhile is newer and is kept).
+     */
+    Flux<UUID> replacePopularityStates(List<PopularityState> states);
+
+    /**
+     * Recomputes the maintained rating totals from the review table and returns the global average.
+     */
+    Mono<Double> resyncRatingTotals();
+}
@@ -1,6 +1,8 @@
 package com.poi.yow_point.infrastructure.repositories.poiReview;
 
 import com.poi.yow_point.infrastructure.entities.Review;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.relational.core.query.Criteria;
@@ -9,6 +11,8 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.springframework.data.relational.core.query.Query.query;
@@ -92,4 +96,151 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .one()
                 .defaultIfEmpty(0L);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Flux<Review> findPageByPoiIdAfter(UUID poiId, KeysetCursor after, int limit) {
+        return template.select(Review.class)
+                .matching(KeysetPagination.after(Criteria.where("poi_id").is(poiId), "created_at", "review_id",
+                        after, OffsetDateTime::parse, limit))
+                .all();
+    }
+
+    @Override
+    public Mono<PopularityState> applyPopularityDelta(UUID poiId, double weightedSumDelta, double totalWeightDelta,
+            double lambda) {
+        return databaseClient.sql("""
+                INSERT INTO poi_popularity_state (poi_id, weighted_sum, total_weight, reference_at)
+                SELECT :poiId, :sumDelta, :weightDelta, NOW()
+                WHERE EXISTS (SELECT 1 FROM point_of_interest WHERE poi_id = :poiId)
+                ON CONFLICT (poi_id) DO UPDATE SET
+                    weighted_sum = poi_popularity_state.weighted_sum
+                        * EXP(-:lambda * EXTRACT(EPOCH FROM (NOW() - poi_popularity_state.reference_at)) / 86400.0)
+                        + EXCLUDED.weighted_sum,
+                    total_weight = poi_popularity_state.total_weight
+                        * EXP(-:lambda * EXTRACT(EPOCH FROM (NOW() - poi_popularity_state.reference_at)) / 86400.0)
+                        + EXCLUDED.total_weight,
+                    reference_at = NOW()
+                RETURNING weighted_sum, total_weight
+                """)
+                .bind("poiId", poiId)
+                .bind("sumDelta", weightedSumDelta)
+                .bind("weightDelta", totalWeightDelta)
+                .bind("lambda", lambda)
+                .map(row -> new PopularityState(
+                        poiId,
+                        row.get("weighted_sum", Double.class),
+                        row.get("total_weight", Double.class)))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> replacePopularityState(UUID poiId, double weightedSum, double totalWeight) {
+        return databaseClient.sql("""
+                INSERT INTO poi_popularity_state (poi_id, weighted_sum, total_weight, reference_at)
+                SELECT :poiId, :weightedSum, :totalWeight, NOW()
+                WHERE EXISTS (SELECT 1 FROM point_of_interest WHERE poi_id = :poiId)
+                ON CONFLICT (poi_id) DO UPDATE SET
+                    weighted_sum = EXCLUDED.weighted_sum,
+                    total_weight = EXCLUDED.total_weight,
+                    reference_at = EXCLUDED.reference_at
+                """)
+                .bind("poiId", poiId)
+                .bind("weightedSum", weightedSum)
+                .bind("totalWeight", totalWeight)
+                .then();
+    }
+
+    @Override
+    public Mono<Double> applyRatingTotalsDelta(double ratingSumDelta, long ratingCountDelta) {
+        return databaseClient.sql("""
+                UPDATE review_rating_totals
+                SET rating_sum = rating_sum + :sumDelta, rating_count = rating_count + :countDelta
+                WHERE id = 1
+                RETURNING rating_sum, rating_count
+                """)
+                .bind("sumDelta", ratingSumDelta)
+                .bind("countDelta", ratingCountDelta)
+                .map(row -> {
+                    Long count = row.get("rating_count", Long.class);
+                    return count != null && count > 0 ? row.get("rating_sum", Double.class) / count : 3.0;
+                })
+                .one()
+                .defaultIfEmpty(3.0); // Neutral default
+    }
+
+    @Override
+    public Flux<PopularityState> streamPopularityStates(double lambda) {
+        return databaseClient.sql("""
+                SELECT p.poi_id,
+                       COALESCE(SUM(r.rating * EXP(-:lambda * EXTRACT(EPOCH FROM (NOW() - COALESCE(r.created_at, NOW()))) / 86400.0)), 0) AS weighted_sum,
+                       COALESCE(SUM(EXP(-:lambda * EXTRACT(EPOCH FROM (NOW() - COALESCE(r.created_at, NOW()))) / 86400.0)), 0) AS total_weight,
+                       NOW() AS read_at
+                FROM point_of_interest p
+                LEFT JOIN review r ON r.poi_id = p.poi_id AND r.rating IS NOT NULL
+                GROUP BY p.poi_id
+                """)
+                .bind("lambda", lambda)
+                .map(row -> new PopularityState(
+                        row.get("poi_id", UUID.class),
+                        row.get("weighted_sum", Double.class),
+                        row.get("total_weight", Double.class),
+                        row.get("read_at", OffsetDateTime.class)))
+                .all();
+    }
+
+    @Override
+    public Flux<UUID> replacePopularityStates(List<PopularityState> states) {
+        if (states.isEmpty()) {
+            return Flux.empty();
+        }
+        // Même garde que replacePopularityState : un POI supprimé depuis la lecture ne fait pas échouer le lot
+        // sur fk_popularity_state_poi. Un état écrit après la lecture (delta incrémental) est plus récent : conservé.
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO poi_popularity_state (poi_id, weighted_sum, total_weight, reference_at)
+                SELECT v.poi_id, v.weighted_sum, v.total_weight, v.read_at
+                FROM (VALUES\s""");
+        for (int i = 0; i < states.size(); i++) {
+            sql.append(i > 0 ? ", " : "")
+                    .append("(CAST(:poi").append(i).append(" AS UUID), CAST(:sum").append(i)
+                    .append(" AS DOUBLE PRECISION), CAST(:weight").append(i)
+                    .append(" AS DOUBLE PRECISION), CAST(:readAt").append(i).append(" AS TIMESTAMPTZ))");
+        }
+        sql.append("""
+                ) AS v(poi_id, weighted_sum, total_weight, read_at)
+                WHERE EXISTS (SELECT 1 FROM point_of_interest p WHERE p.poi_id = v.poi_id)
+                ON CONFLICT (poi_id) DO UPDATE SET
+                    weighted_sum = EXCLUDED.weighted_sum,
+                    total_weight = EXCLUDED.total_weight,
+                    reference_at = EXCLUDED.reference_at
+                WHERE poi_popularity_state.reference_at < EXCLUDED.reference_at
+                RETURNING poi_id
+                """);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < states.size(); i++) {
+            PopularityState state = states.get(i);
+            spec = spec.bind("poi" + i, state.getPoiId())
+                    .bind("sum" + i, state.getWeightedSum())
+                    .bind("weight" + i, state.getTotalWeight())
+                    .bind("readAt" + i, state.getReadAt());
+        }
+        return spec.map(row -> row.get("poi_id", UUID.class)).all();
+    }
+
+    @Override
+    public Mono<Double> resyncRatingTotals() {
+        return databaseClient.sql("""
+                UPDATE review_rating_totals
+                SET rating_sum = t.rating_sum, rating_count = t.rating_count
+                FROM (SELECT COALESCE(SUM(rating), 0) AS rating_sum, COUNT(rating) AS rating_count FROM review) t
+                WHERE id = 1
+                RETURNING review_rating_totals.rating_sum, review_rating_totals.rating_count
+                """)
+                .map(row -> {
+                    Long count = row.get("rating_count", Long.class);
+                    return count != null && count > 0 ? row.get("rating_sum", Double.class) / count : 3.0;
+                })
+                .one()
+                .defaultIfEmpty(3.0); // Neutral default
+    }
+}
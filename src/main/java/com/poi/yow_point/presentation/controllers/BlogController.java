@@ -1,6 +1,8 @@
 package com.poi.yow_point.presentation.controllers;
 
 import com.poi.yow_point.application.services.blog.BlogService;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.blogDto.BlogDTO;
 import com.poi.yow_point.presentation.dto.blogDto.CreateBlogRequest;
 import com.poi.yow_point.presentation.dto.blogDto.UpdateBlogRequest;
@@ -15,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -78,6 +81,18 @@ public class BlogController {
         return blogService.getAllBlogs();
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of blog posts", description = "Keyset-paginated active blog posts, newest first. Pass next_cursor back as cursor to get the following page.")
+    @ApiResponse(responseCode = "200", description = "One page of blog posts")
+    public Mono<ResponseEntity<CursorPage<BlogDTO>>> getBlogsPage(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") Integer size) {
+        log.debug("REST request to get a page of blog posts");
+        return blogService.getActiveBlogsPage(cursor, KeysetPagination.clampSize(size))
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, ex -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @GetMapping("/user/{user_id}")
     @Operation(summary = "Get blog posts by user ID", description = "Retrieves all blog posts written by a specific user.")
     @ApiResponse(responseCode = "200", description = "List of blog posts for the user", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = BlogDTO.class)))
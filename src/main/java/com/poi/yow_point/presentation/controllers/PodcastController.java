@@ -2,6 +2,8 @@ package com.poi.yow_point.presentation.controllers;
 
 import com.poi.yow_point.application.services.podcast.PodcastService;
 import com.poi.yow_point.presentation.dto.podcastDto.PodcastCreateRequest;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.podcastDto.PodcastDTO;
 import com.poi.yow_point.presentation.dto.podcastDto.UpdatePodcastRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -78,6 +81,18 @@ public class PodcastController {
         return podcastService.getAllPodcasts();
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of podcasts", description = "Keyset-paginated active podcasts, newest first. Pass next_cursor back as cursor to get the following page.")
+    @ApiResponse(responseCode = "200", description = "One page of podcasts")
+    public Mono<ResponseEntity<CursorPage<PodcastDTO>>> getPodcastsPage(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") Integer size) {
+        log.debug("REST request to get a page of podcasts");
+        return podcastService.getActivePodcastsPage(cursor, KeysetPagination.clampSize(size))
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, ex -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @GetMapping("/user/{user_id}")
     @Operation(summary = "Get podcasts by user ID", description = "Retrieves all podcasts created by a specific user.")
     @ApiResponse(responseCode = "200", description = "List of podcasts for the user", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PodcastDTO.class)))
@@ -1,6 +1,9 @@
 package com.poi.yow_point.presentation.controllers;
 
+import com.poi.yow_point.application.services.poiAccessLog.PoiAccessLogIngestionService;
 import com.poi.yow_point.application.services.poiAccessLog.PoiAccessLogService;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.PoiAccessLogDTO;
 
 import lombok.RequiredArgsConstructor;
@@ -34,18 +37,30 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class PoiAccessLogController {
 
         private final PoiAccessLogService service;
+        private final PoiAccessLogIngestionService ingestionService;
 
-        @Operation(summary = "Create access log", description = "Creates a new access log entry")
+        @Operation(summary = "Create access log", description = "Records a new access log entry. When buffered ingestion is enabled the log is queued and written asynchronously (202), otherwise it is inserted before responding (201)")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Access log created successfully", content = @Content(schema = @Schema(implementation = PoiAccessLogDTO.class))),
+                        @ApiResponse(responseCode = "202", description = "Access log accepted for asynchronous write; no body when the queue was full and the log dropped", content = @Content(schema = @Schema(implementation = PoiAccessLogDTO.class))),
                         @ApiResponse(responseCode = "400", description = "Invalid input data"),
+                        @ApiResponse(responseCode = "503", description = "Ingestion queue full"),
                         @ApiResponse(responseCode = "500", description = "Internal server error")
         })
         @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-        @ResponseStatus(HttpStatus.CREATED)
-        public Mono<PoiAccessLogDTO> createAccessLog(@RequestBody PoiAccessLogDTO dto) {
+        public Mono<ResponseEntity<PoiAccessLogDTO>> createAccessLog(@RequestBody PoiAccessLogDTO dto) {
                 log.info("Création d'un nouveau log d'accès pour POI: {}", dto.getPoiId());
-                return service.createAccessLog(dto);
+                if (!ingestionService.isEnabled()) {
+                        return service.createAccessLog(dto)
+                                        .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+                }
+                return ingestionService.submit(dto)
+                                .map(accepted -> ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted))
+                                .defaultIfEmpty(ResponseEntity.status(HttpStatus.ACCEPTED).build())
+                                .onErrorResume(IllegalArgumentException.class,
+                                                e -> Mono.just(ResponseEntity.badRequest().build()))
+                                .onErrorResume(IllegalStateException.class,
+                                                e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build()));
         }
 
         @Operation(summary = "Get access log by ID", description = "Retrieves a specific access log by its ID")
@@ -68,6 +83,23 @@ public class PoiAccessLogController {
                 return service.getAllAccessLogs();
         }
 
+        @Operation(summary = "Get a page of access logs", description = "Keyset-paginated access logs, most recent first, optionally for one POI")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Page retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+        })
+        @GetMapping(value = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+        public Mono<ResponseEntity<CursorPage<PoiAccessLogDTO>>> getAccessLogsPage(
+                        @Parameter(description = "Optional POI ID filter") @RequestParam(value = "poi_id", required = false) UUID poiId,
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (1-100)", example = "20") @RequestParam(defaultValue = "20") Integer size) {
+                log.info("Récupération paginée (keyset) des logs d'accès (POI: {}, taille: {})", poiId, size);
+                return service.getAccessLogsPage(poiId, cursor, KeysetPagination.clampSize(size))
+                                .map(ResponseEntity::ok)
+                                .onErrorResume(IllegalArgumentException.class,
+                                                ex -> Mono.just(ResponseEntity.badRequest().build()));
+        }
+
         @Operation(summary = "Get access logs by POI", description = "Retrieves all access logs for a specific POI")
         @ApiResponse(responseCode = "200", description = "Successfully retrieved access logs", content = @Content(schema = @Schema(implementation = PoiAccessLogDTO.class)))
         @GetMapping("/poi/{poi_id}")
@@ -147,7 +179,8 @@ public class PoiAccessLogController {
                 return service.getRecentAccessLogsByPoiId(poiId, since);
         }
 
-        @Operation(summary = "Get paginated access logs by POI", description = "Retrieves access logs for a specific POI with pagination")
+        @Deprecated
+        @Operation(summary = "Get paginated access logs by POI", description = "OFFSET pagination, slower on every page. Use /page?poi_id= instead", deprecated = true)
         @ApiResponse(responseCode = "200", description = "Successfully retrieved access logs", content = @Content(schema = @Schema(implementation = PoiAccessLogDTO.class)))
         @GetMapping("/poi/{poi_id}/paginated")
         public Flux<PoiAccessLogDTO> getAccessLogsByPoiIdWithPagination(
@@ -0,0 +1,109 @@
+package com.poi.yow_point.presentation.controllers;
+
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.application.services.websocket.PoiEventFanout;
+import com.poi.yow_point.application.services.websocket.PoiEventFilter;
+import com.poi.yow_point.application.services.websocket.PoiSseDeltaState;
+import com.poi.yow_point.infrastructure.configuration.SseProperties;
+import com.poi.yow_point.infrastructure.configuration.WebSocketFanoutProperties;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/poi-navigoo/api/pois")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+@Tag(name = "POI Events", description = "Server-Sent Events stream of POI changes")
+public class PoiEventStreamController {
+
+        private static final String ID_SEPARATOR = ":";
+
+        private final PoiEventFanout fanout;
+        private final SseProperties properties;
+
+        /**
+         * Each SSE event is named after the event type and has id {@code <node>:<seq>}. Its data is a delta (changed
+         * fields only) when this stream sent the previous event of the POI, the whole POI flagged
+         * {@code "full":true} otherwise (first event of a POI on the stream, earlier events skipped by the filter),
+         * and a tombstone for deletions. Clients load the POIs they show over REST first, then apply the events.
+         * A client reconnecting with {@code Last-Event-ID} gets the events it missed, or a {@code RESYNC} event if
+         * they are gone (or if it reconnects to another node). A client too slow to keep up sees its stream end,
+         * whatever the WebSocket overflow policy, since a dropped event would leave it with a stale state, and
+         * reconnects the same way.
+         */
+        @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        @Operation(summary = "Stream POI changes", description = "Server-Sent Events with field-level deltas (changed fields only, or the whole POI flagged full:true for its first event on the stream) and tombstones for deleted POIs. Load the POIs over REST first. Supports Last-Event-ID resumption on the same node, otherwise a RESYNC event asks to reload; a comment is sent every few seconds as heartbeat")
+        public Mono<ResponseEntity<Flux<ServerSentEvent<String>>>> streamEvents(
+                        @Parameter(description = "Id of the last event received, to resume after a disconnection") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                        @Parameter(description = "minLatitude,minLongitude,maxLatitude,maxLongitude") @RequestParam(required = false) List<Double> bbox,
+                        @Parameter(description = "Geohash cell prefixes") @RequestParam(required = false) List<String> geohash,
+                        @RequestParam(required = false) Set<PoiType> type,
+                        @RequestParam(required = false) Set<UUID> poiId) {
+                PoiEventFilter filter;
+                try {
+                        filter = new PoiEventFilter(
+                                        PoiEventFilter.boundingBox(bbox),
+                                        geohash, type, poiId);
+                        fanout.checkFilter(filter);
+                } catch (IllegalArgumentException e) {
+                        return Mono.just(ResponseEntity.badRequest().build());
+                }
+
+                // Subscribed only when the response is written, so an abandoned request registers nothing
+                Flux<ServerSentEvent<String>> events = Flux.defer(() -> events(filter, lastEventId))
+                                .onErrorResume(Exceptions::isOverflow, e -> Flux.empty());
+                Flux<ServerSentEvent<String>> heartbeats = Flux
+                                .interval(Duration.ofSeconds(properties.getHeartbeatSeconds()))
+                                .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build());
+                // Heartbeats stop when the events end, which ends the response
+                return Mono.just(ResponseEntity.ok(events.publish(shared -> Flux.merge(shared,
+                                heartbeats.takeUntilOther(shared.then().thenReturn(true))))));
+        }
+
+        // Overflow disconnects whatever the configured policy: a silently dropped event would corrupt later deltas
+        private Flux<ServerSentEvent<String>> events(PoiEventFilter filter, String lastEventId) {
+                PoiSseDeltaState sent = new PoiSseDeltaState(properties.getStreamPois());
+                return subscribe(filter, lastEventId)
+                                .frames(WebSocketFanoutProperties.OverflowPolicy.DISCONNECT)
+                                .map(frame -> ServerSentEvent.<String>builder()
+                                                .id(fanout.getNodeId() + ID_SEPARATOR + frame.seq())
+                                                .event(frame.eventType().name())
+                                                .data(sent.data(frame))
+                                                .build());
+        }
+
+        private PoiEventFanout.ClientSubscription subscribe(PoiEventFilter filter, String lastEventId) {
+                if (lastEventId == null || lastEventId.isBlank()) {
+                        // Start from now: only events published from here on
+                        return fanout.subscribe(filter, fanout.currentSeq(), fanout.getNodeId());
+                }
+                int separator = lastEventId.lastIndexOf(ID_SEPARATOR);
+                try {
+                        return fanout.subscribe(filter, Long.parseLong(lastEventId.substring(separator + 1)),
+                                        separator < 0 ? null : lastEventId.substring(0, separator));
+                } catch (NumberFormatException e) {
+                        // Unknown id: the client gets a RESYNC
+                        return fanout.subscribe(filter, 0L, null);
+                }
+        }
+}
@@ -9,6 +9,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import com.poi.yow_point.application.services.poiPlatformStat.PoiPlatformStatService;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
+import com.poi.yow_point.presentation.dto.CursorPage;
 import com.poi.yow_point.presentation.dto.PoiPlatformStatDTO;
 
 //import jakarta.validation.Valid;
@@ -85,6 +87,22 @@ public class PoiPlatformStatController {
                                 .doOnComplete(() -> log.info("Récupération de toutes les statistiques terminée"));
         }
 
+        @Operation(summary = "Get a page of statistics", description = "Keyset-paginated statistics, most recent day first, optionally for one POI")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Page retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+        })
+        @GetMapping("/page")
+        public Mono<ResponseEntity<CursorPage<PoiPlatformStatDTO>>> getStatsPage(
+                        @Parameter(description = "Optional POI ID filter") @RequestParam(value = "poi_id", required = false) UUID poiId,
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") Integer size) {
+                return service.getStatsPage(poiId, cursor, KeysetPagination.clampSize(size))
+                                .map(ResponseEntity::ok)
+                                .onErrorResume(IllegalArgumentException.class,
+                                                ex -> Mono.just(ResponseEntity.badRequest().build()));
+        }
+
         @Operation(summary = "Get statistic by ID", description = "Retrieves a specific statistic by its ID")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Statistic found", content = @Content(schema = @Schema(implementation = PoiPlatformStatDTO.class))),
@@ -121,6 +139,18 @@ public class PoiPlatformStatController {
                                 .doOnComplete(() -> log.info("Récupération des statistiques pour le POI: {}", poiId));
         }
 
+        @Operation(summary = "Get daily totals by POI", description = "Per-day views, reviews, likes and dislikes of a POI, read from the rolled-up statistics; all platforms are summed unless platform_type is given")
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved daily totals", content = @Content(schema = @Schema(implementation = PoiPlatformStatDTO.class)))
+        @GetMapping("/poi/{poi_id}/daily")
+        public Flux<PoiPlatformStatDTO> getDailyTotalsByPoiId(
+                        @Parameter(description = "POI ID", required = true) @PathVariable("poi_id") UUID poiId,
+                        @Parameter(description = "Start date of the range (format: yyyy-MM-dd)", required = true) @RequestParam LocalDate startDate,
+                        @Parameter(description = "End date of the range (format: yyyy-MM-dd)", required = true) @RequestParam LocalDate endDate,
+                        @Parameter(description = "Optional platform type filter") @RequestParam(value = "platform_type", required = false) String platformType) {
+                return service.getDailyTotalsByPoiId(poiId, platformType, startDate, endDate)
+                                .doOnComplete(() -> log.info("Récupération des totaux journaliers pour le POI: {}", poiId));
+        }
+
         @Operation(summary = "Get statistics by platform type", description = "Retrieves all statistics for a specific platform type")
         @ApiResponse(responseCode = "200", description = "Successfully retrieved statistics", content = @Content(schema = @Schema(implementation = PoiPlatformStatDTO.class)))
         @GetMapping("/platform/{platform_type}/stats")
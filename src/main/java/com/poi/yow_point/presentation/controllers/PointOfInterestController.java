@@ -1,22 +1,43 @@
 package com.poi.yow_point.presentation.controllers;
 
+import com.poi.yow_point.application.model.PoiListFilter;
+import com.poi.yow_point.application.model.PoiStatus;
+import com.poi.yow_point.application.services.geo.GeoUtils;
 import com.poi.yow_point.application.services.point_of_interest.PointOfInterestService;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
+import com.poi.yow_point.presentation.dto.CursorPage;
+import com.poi.yow_point.presentation.dto.NearestPoiDTO;
+import com.poi.yow_point.presentation.dto.PoiClusterDTO;
+import com.poi.yow_point.presentation.dto.PoiSearchResultDTO;
+import com.poi.yow_point.presentation.dto.PoiSuggestionDTO;
+import com.poi.yow_point.presentation.dto.PoiSummaryDTO;
 import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
 import com.poi.yow_point.presentation.dto.CreatePoiDTO;
 import com.poi.yow_point.presentation.dto.UpdatePoiDTO;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/poi-navigoo/api/pois")
@@ -26,13 +47,25 @@ import java.util.UUID;
 @Tag(name = "Points of Interest", description = "API for managing Points of Interest (POI)")
 public class PointOfInterestController {
 
+        private static final int MAX_NEAREST_LIMIT = 100;
+        private static final int MAX_AUTOCOMPLETE_LIMIT = 20;
+        private static final int MAX_BBOX_LIMIT = 5000;
+        private static final MediaType MVT = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+        private static final String SUMMARY_VIEW = "summary";
+        private static final String FULL_VIEW = "full";
+        private static final String VIEW_DESCRIPTION = "summary (default): id, name, type, category, coordinates, city and score; full: the complete POI";
+
         private final PointOfInterestService poiService;
 
         @GetMapping
         @Operation(summary = "Get all POIs", description = "Retrieves all Points of Interest")
-        public Flux<PointOfInterestDTO> getAllPois() {
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getAllPois(@Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
                 log.info("REST request to get all POIs");
-                return poiService.findAll()
+                return view(view, poiService::findAll,
+                                () -> poiService.findSummaries(PoiListFilter.builder().build()))
                                 .onErrorResume(Exception.class,
                                                 ex -> {
                                                         log.error("Error retrieving all POIs", ex);
@@ -40,6 +73,14 @@ public class PointOfInterestController {
                                                 });
         }
 
+        @GetMapping("/page")
+        @Operation(summary = "Get a page of POIs", description = "Keyset-paginated POIs, newest first. Pass next_cursor back as cursor to get the following page")
+        public Mono<ResponseEntity<CursorPage<PointOfInterestDTO>>> getPoisPage(
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") Integer size) {
+                return pageOf(null, null, null, cursor, size);
+        }
+
         @PostMapping
         @Operation(summary = "Create a new POI", description = "Creates a new Point of Interest with the provided information")
         public Mono<ResponseEntity<PointOfInterestDTO>> createPoi(
@@ -158,9 +199,13 @@ public class PointOfInterestController {
 
         @GetMapping("/submitted")
         @Operation(summary = "Get Submitted POIs", description = "Retrieves all Points of Interest with status SUBMITTED")
-        public Flux<PointOfInterestDTO> getSubmittedPois() {
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getSubmittedPois(@Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
                 log.debug("REST request to get submitted POIs");
-                return poiService.findSubmittedPois()
+                return view(view, poiService::findSubmittedPois,
+                                () -> poiService.findSummaries(PoiListFilter.builder().status(PoiStatus.SUBMITTED).build()))
                         .onErrorResume(Exception.class,
                                 ex -> {
                                         log.error("Error retrieving submitted POIs", ex);
@@ -168,11 +213,23 @@ public class PointOfInterestController {
                                 });
         }
 
+        @GetMapping("/submitted/page")
+        @Operation(summary = "Get a page of submitted POIs", description = "Keyset-paginated POIs with status SUBMITTED, newest first")
+        public Mono<ResponseEntity<CursorPage<PointOfInterestDTO>>> getSubmittedPoisPage(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") Integer size) {
+                return pageOf(null, null, com.poi.yow_point.application.model.PoiStatus.SUBMITTED, cursor, size);
+        }
+
         @GetMapping("/approved")
         @Operation(summary = "Get Approved POIs", description = "Retrieves all Points of Interest with status APPROUVED")
-        public Flux<PointOfInterestDTO> getApprovedPois() {
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getApprovedPois(@Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
                 log.debug("REST request to get approved POIs");
-                return poiService.findApprovedPois()
+                return view(view, poiService::findApprovedPois,
+                                () -> poiService.findSummaries(PoiListFilter.builder().status(PoiStatus.APPROUVED).build()))
                         .onErrorResume(Exception.class,
                                 ex -> {
                                         log.error("Error retrieving approved POIs", ex);
@@ -225,41 +282,243 @@ public class PointOfInterestController {
         */
 
         @GetMapping("/nearby")
-        public Flux<PointOfInterestDTO> getPoisByLocation(
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getPoisByLocation(
                         @RequestParam Double latitude,
                         @RequestParam Double longitude,
-                        @RequestParam(defaultValue = "10.0") Double radiusKm) {
-                return poiService.findByLocationWithinRadius(latitude, longitude, radiusKm);
+                        @RequestParam(defaultValue = "10.0") Double radiusKm,
+                        @Parameter(description = "Only POIs open now (opening hours time zone)") @RequestParam(required = false) Boolean openNow,
+                        @Parameter(description = "Only POIs open at this instant (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime openAt,
+                        @Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
+                Instant openInstant = openInstant(openNow, openAt);
+                Flux<PointOfInterestDTO> pois = openInstant != null
+                                ? poiService.findOpenAt(openInstant, null, null, latitude, longitude, radiusKm, null)
+                                                .map(NearestPoiDTO::getPoi)
+                                : poiService.findByLocationWithinRadius(latitude, longitude, radiusKm);
+                // Served from the spatial index: the full POIs are already in memory, only the payload shrinks
+                return view(view, () -> pois, () -> pois.map(PoiSummaryDTO::from));
+        }
+
+        @GetMapping("/nearest")
+        @Operation(summary = "Get nearest POIs", description = "Retrieves the N active POIs closest to a point, sorted by distance (meters)")
+        public Flux<NearestPoiDTO> getNearestPois(
+                        @RequestParam Double latitude,
+                        @RequestParam Double longitude,
+                        @Parameter(description = "Number of results (1-100)") @RequestParam(defaultValue = "10") Integer limit,
+                        @RequestParam(required = false) com.poi.yow_point.application.model.PoiType type,
+                        @RequestParam(required = false) com.poi.yow_point.application.model.PoiCategory category,
+                        @Parameter(description = "Only POIs open now (opening hours time zone)") @RequestParam(required = false) Boolean openNow,
+                        @Parameter(description = "Only POIs open at this instant (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime openAt) {
+                int boundedLimit = Math.max(1, Math.min(limit, MAX_NEAREST_LIMIT));
+                Instant openInstant = openInstant(openNow, openAt);
+                Flux<NearestPoiDTO> nearest = openInstant != null
+                                ? poiService.findOpenAt(openInstant, type, category, latitude, longitude, null, boundedLimit)
+                                : poiService.findNearest(latitude, longitude, boundedLimit, type, category);
+                return nearest
+                                .onErrorResume(Exception.class,
+                                                ex -> {
+                                                        log.error("Error retrieving nearest POIs", ex);
+                                                        return Flux.empty();
+                                                });
+        }
+
+        @GetMapping("/amenity/{amenity}")
+        @Operation(summary = "Get POIs by amenity", description = "Active POIs offering the amenity, optionally within radiusKm of a point (nearest first, else most popular first)")
+        public Flux<NearestPoiDTO> getPoisByAmenity(
+                        @PathVariable String amenity,
+                        @RequestParam(required = false) java.util.List<String> tag,
+                        @RequestParam(required = false) Double latitude,
+                        @RequestParam(required = false) Double longitude,
+                        @RequestParam(required = false) Double radiusKm,
+                        @Parameter(description = "Number of results (1-100)") @RequestParam(defaultValue = "20") Integer limit) {
+                int boundedLimit = Math.max(1, Math.min(limit, MAX_NEAREST_LIMIT));
+                return poiService.findByAmenitiesAndTypeTags(java.util.List.of(amenity), tag,
+                                latitude, longitude, radiusKm, boundedLimit);
+        }
+
+        @GetMapping("/tag/{tag}")
+        @Operation(summary = "Get POIs by type tag", description = "Active POIs carrying the type tag, optionally within radiusKm of a point (nearest first, else most popular first)")
+        public Flux<NearestPoiDTO> getPoisByTypeTag(
+                        @PathVariable String tag,
+                        @RequestParam(required = false) java.util.List<String> amenity,
+                        @RequestParam(required = false) Double latitude,
+                        @RequestParam(required = false) Double longitude,
+                        @RequestParam(required = false) Double radiusKm,
+                        @Parameter(description = "Number of results (1-100)") @RequestParam(defaultValue = "20") Integer limit) {
+                int boundedLimit = Math.max(1, Math.min(limit, MAX_NEAREST_LIMIT));
+                return poiService.findByAmenitiesAndTypeTags(amenity, java.util.List.of(tag),
+                                latitude, longitude, radiusKm, boundedLimit);
         }
 
         @GetMapping("/type/{type}")
-        public Flux<PointOfInterestDTO> getPoisByType(@PathVariable com.poi.yow_point.application.model.PoiType type) {
-                return poiService.findByType(type);
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getPoisByType(@PathVariable com.poi.yow_point.application.model.PoiType type,
+                        @Parameter(description = "Only POIs open now (opening hours time zone)") @RequestParam(required = false) Boolean openNow,
+                        @Parameter(description = "Only POIs open at this instant (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime openAt,
+                        @Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
+                Instant openInstant = openInstant(openNow, openAt);
+                if (openInstant != null) {
+                        Flux<PointOfInterestDTO> open = poiService.findOpenAt(openInstant, type, null, null, null, null, null)
+                                        .map(NearestPoiDTO::getPoi);
+                        return view(view, () -> open, () -> open.map(PoiSummaryDTO::from));
+                }
+                return view(view, () -> poiService.findByType(type),
+                                () -> poiService.findSummaries(PoiListFilter.builder().poiType(type).build()));
+        }
+
+        @GetMapping("/type/{type}/page")
+        public Mono<ResponseEntity<CursorPage<PointOfInterestDTO>>> getPoisByTypePage(
+                        @PathVariable com.poi.yow_point.application.model.PoiType type,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") Integer size) {
+                return pageOf(null, type, null, cursor, size);
         }
 
         @GetMapping("/category/{category}")
-        public Flux<PointOfInterestDTO> getPoisByCategory(@PathVariable com.poi.yow_point.application.model.PoiCategory category) {
-                return poiService.findByCategory(category);
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getPoisByCategory(@PathVariable com.poi.yow_point.application.model.PoiCategory category,
+                        @Parameter(description = "Only POIs open now (opening hours time zone)") @RequestParam(required = false) Boolean openNow,
+                        @Parameter(description = "Only POIs open at this instant (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime openAt,
+                        @Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
+                Instant openInstant = openInstant(openNow, openAt);
+                if (openInstant != null) {
+                        Flux<PointOfInterestDTO> open = poiService.findOpenAt(openInstant, null, category, null, null, null, null)
+                                        .map(NearestPoiDTO::getPoi);
+                        return view(view, () -> open, () -> open.map(PoiSummaryDTO::from));
+                }
+                return view(view, () -> poiService.findByCategory(category),
+                                () -> poiService.findSummaries(PoiListFilter.builder().poiCategory(category).build()));
+        }
+
+        @GetMapping("/search")
+        @Operation(summary = "Search POIs", description = "Full-text and typo-tolerant search over names, keywords, type tags and description, ranked by relevance, popularity and optional distance. Pass next_cursor back as cursor to get the following page")
+        public Mono<ResponseEntity<CursorPage<PoiSearchResultDTO>>> searchPois(
+                        @Parameter(description = "Search text") @RequestParam String q,
+                        @RequestParam(required = false) com.poi.yow_point.application.model.PoiType type,
+                        @RequestParam(required = false) com.poi.yow_point.application.model.PoiCategory category,
+                        @RequestParam(required = false) String city,
+                        @Parameter(description = "Optional point used to favour nearby POIs") @RequestParam(required = false) Double latitude,
+                        @RequestParam(required = false) Double longitude,
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") Integer size) {
+                return poiService.search(q, type, category, city, latitude, longitude, cursor,
+                                KeysetPagination.clampSize(size))
+                                .map(ResponseEntity::ok)
+                                .onErrorResume(IllegalArgumentException.class,
+                                                ex -> Mono.just(ResponseEntity.badRequest().build()));
+        }
+
+        @GetMapping("/autocomplete")
+        @Operation(summary = "Autocomplete POI names", description = "Most popular active POIs whose name, alias or keyword starts with the typed prefix, served from memory")
+        public Flux<PoiSuggestionDTO> autocompletePois(
+                        @Parameter(description = "Typed prefix") @RequestParam String q,
+                        @RequestParam(required = false) String city,
+                        @Parameter(description = "Geohash cell prefix the POIs must be located in") @RequestParam(required = false) String geohash,
+                        @Parameter(description = "Number of suggestions (1-" + MAX_AUTOCOMPLETE_LIMIT + ")") @RequestParam(defaultValue = "10") Integer limit) {
+                int boundedLimit = Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_LIMIT));
+                return poiService.autocomplete(q, city, geohash, boundedLimit);
+        }
+
+        @GetMapping(value = "/bbox", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+        @Operation(summary = "POIs in a bounding box", description = "Active POIs inside the map viewport as slim summaries, most popular first. Ask for application/x-ndjson to receive one POI per line as rows are read")
+        public Mono<ResponseEntity<Flux<PoiSummaryDTO>>> getPoisInBoundingBox(
+                        @RequestParam Double minLatitude,
+                        @RequestParam Double minLongitude,
+                        @RequestParam Double maxLatitude,
+                        @RequestParam Double maxLongitude,
+                        @RequestParam(required = false) com.poi.yow_point.application.model.PoiType type,
+                        @RequestParam(required = false) com.poi.yow_point.application.model.PoiCategory category,
+                        @Parameter(description = "Maximum number of POIs (1-" + MAX_BBOX_LIMIT + ")") @RequestParam(defaultValue = "1000") Integer limit) {
+                if (!GeoUtils.isValidBoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+                        return Mono.just(ResponseEntity.badRequest().build());
+                }
+                int boundedLimit = Math.max(1, Math.min(limit, MAX_BBOX_LIMIT));
+                return Mono.just(ResponseEntity.ok(poiService.findWithinBoundingBox(minLatitude, minLongitude,
+                                maxLatitude, maxLongitude, type, category, boundedLimit)));
+        }
+
+        @GetMapping("/clusters")
+        @Operation(summary = "Cluster POIs in a bounding box", description = "Active POIs inside the box grouped by grid cell at the given map zoom, with count, centroid and most frequent type and category. The response size depends on the box and zoom, not on the number of POIs")
+        public Mono<ResponseEntity<List<PoiClusterDTO>>> getPoiClusters(
+                        @RequestParam Double minLatitude,
+                        @RequestParam Double minLongitude,
+                        @RequestParam Double maxLatitude,
+                        @RequestParam Double maxLongitude,
+                        @Parameter(description = "Map zoom level (0 = whole world)") @RequestParam Integer zoom) {
+                return poiService.findClusters(minLatitude, minLongitude, maxLatitude, maxLongitude, zoom)
+                                .collectList()
+                                .map(ResponseEntity::ok)
+                                .onErrorResume(IllegalArgumentException.class,
+                                                ex -> Mono.just(ResponseEntity.badRequest().build()));
+        }
+
+        @GetMapping(value = "/tiles/{z}/{x}/{y}.mvt", produces = "application/vnd.mapbox-vector-tile")
+        @Operation(summary = "POI vector tile", description = "Mapbox Vector Tile (layer 'pois') of the active POIs in tile z/x/y with attributes id, type, category and score. At low zoom levels POIs are grouped into clusters carrying a count. 204 when the tile is empty")
+        public Mono<ResponseEntity<byte[]>> getPoiTile(
+                        @PathVariable int z,
+                        @PathVariable int x,
+                        @PathVariable int y) {
+                return poiService.getVectorTile(z, x, y)
+                                .map(tile -> tile.length == 0
+                                                ? ResponseEntity.noContent().<byte[]>build()
+                                                : ResponseEntity.ok().contentType(MVT).body(tile))
+                                .onErrorResume(IllegalArgumentException.class,
+                                                ex -> Mono.just(ResponseEntity.badRequest().build()));
         }
 
         @GetMapping("/name/{name}")
-        public Flux<PointOfInterestDTO> searchPoisByName(@PathVariable String name) {
-                return poiService.searchByName(name);
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> searchPoisByName(@PathVariable String name,
+                        @Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
+                return view(view, () -> poiService.searchByName(name),
+                                () -> poiService.findSummaries(PoiListFilter.builder().nameContains(name).build()));
         }
 
         @GetMapping("/city/{city}")
-        public Flux<PointOfInterestDTO> getPoisByCity(@PathVariable String city) {
-                return poiService.findByCity(city);
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getPoisByCity(@PathVariable String city,
+                        @Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
+                return view(view, () -> poiService.findByCity(city),
+                                () -> poiService.findSummaries(PoiListFilter.builder().city(city).build()));
+        }
+
+        @GetMapping("/city/{city}/page")
+        public Mono<ResponseEntity<CursorPage<PointOfInterestDTO>>> getPoisByCityPage(
+                        @PathVariable String city,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") Integer size) {
+                return pageOf(city, null, null, cursor, size);
         }
 
         @GetMapping("/popular")
-        public Flux<PointOfInterestDTO> getTopPopularPois(@RequestParam(defaultValue = "10") Integer limit) {
-                return poiService.findTopPopular(limit);
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getTopPopularPois(@RequestParam(defaultValue = "10") Integer limit,
+                        @Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
+                return view(view, () -> poiService.findTopPopular(limit),
+                                () -> poiService.findSummaries(PoiListFilter.builder()
+                                                .order(PoiListFilter.Order.POPULARITY).limit(limit).build()));
         }
 
         @GetMapping("/user/{user_id}")
-        public Flux<PointOfInterestDTO> getPoisByUser(@PathVariable("user_id") UUID userId) {
-                return poiService.findByCreatedByUserId(userId);
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getPoisByUser(@PathVariable("user_id") UUID userId,
+                        @Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
+                return view(view, () -> poiService.findByCreatedByUserId(userId),
+                                () -> poiService.findSummaries(PoiListFilter.builder().createdByUserId(userId).build()));
         }
 
         /* 
@@ -287,7 +546,44 @@ public class PointOfInterestController {
         }
 
         @GetMapping("/recent")
-        public Flux<PointOfInterestDTO> getRecentPois(@RequestParam(defaultValue = "10") Integer limit) {
-                return poiService.findRecent(limit);
+        @ApiResponse(responseCode = "200", description = "POI summaries, or complete POIs with view=full", content = @Content(array = @ArraySchema(schema = @Schema(oneOf = {
+                        PoiSummaryDTO.class, PointOfInterestDTO.class }))))
+        @ApiResponse(responseCode = "400", description = "Unknown view", content = @Content)
+        public Flux<?> getRecentPois(@RequestParam(defaultValue = "10") Integer limit,
+                        @Parameter(description = VIEW_DESCRIPTION) @RequestParam(defaultValue = SUMMARY_VIEW) String view) {
+                return view(view, () -> poiService.findRecent(limit),
+                                () -> poiService.findSummaries(PoiListFilter.builder()
+                                                .order(PoiListFilter.Order.RECENT).limit(limit).build()));
+        }
+
+        // view=full keeps the complete POI, view=summary gives the summary; thrown before any query, so answered 400
+        private static Flux<?> view(String view, Supplier<Flux<PointOfInterestDTO>> full,
+                        Supplier<Flux<PoiSummaryDTO>> summary) {
+                if (FULL_VIEW.equalsIgnoreCase(view)) {
+                        return full.get();
+                }
+                if (SUMMARY_VIEW.equalsIgnoreCase(view)) {
+                        return summary.get();
+                }
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown view '" + view + "', expected "
+                                + SUMMARY_VIEW + " or " + FULL_VIEW);
+        }
+
+        // openAt wins over openNow; null when neither asks for an opening-hours filter
+        private static Instant openInstant(Boolean openNow, OffsetDateTime openAt) {
+                if (openAt != null) {
+                        return openAt.toInstant();
+                }
+                return Boolean.TRUE.equals(openNow) ? Instant.now() : null;
+        }
+
+        private Mono<ResponseEntity<CursorPage<PointOfInterestDTO>>> pageOf(String city,
+                        com.poi.yow_point.application.model.PoiType type,
+                        com.poi.yow_point.application.model.PoiStatus status,
+                        String cursor, Integer size) {
+                return poiService.findPage(city, type, status, cursor, KeysetPagination.clampSize(size))
+                                .map(ResponseEntity::ok)
+                                .onErrorResume(IllegalArgumentException.class,
+                                                ex -> Mono.just(ResponseEntity.badRequest().build()));
         }
-}
\ No newline at end of file
+}
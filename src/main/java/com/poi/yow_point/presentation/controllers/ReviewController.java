@@ -1,6 +1,7 @@
 package com.poi.yow_point.presentation.controllers;
 
 import com.poi.yow_point.application.services.poiReview.ReviewService;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetPagination;
 import com.poi.yow_point.presentation.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -103,6 +104,18 @@ public class ReviewController {
         return reviewService.getReviewsByPoiId(poiId);
     }
 
+    @GetMapping("/poi/{poi_id}/page")
+    @Operation(summary = "Get a page of reviews for POI", description = "Keyset-paginated reviews for a POI, newest first")
+    public Mono<ResponseEntity<CursorPage<PoiReviewResponseDTO>>> getReviewsPageByPoiId(
+            @PathVariable("poi_id") UUID poiId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size) {
+        log.info("GET /api-review/poi/{}/page - Fetching reviews page", poiId);
+        return reviewService.getReviewsPageByPoiId(poiId, cursor, KeysetPagination.clampSize(size))
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, ex -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @GetMapping("/blog/{blog_id}")
     @Operation(summary = "Get reviews for Blog", description = "Retrieves all reviews for a specific Blog")
     public Flux<BlogReviewResponseDTO> getReviewsByBlogId(@PathVariable("blog_id") UUID blogId) {
@@ -0,0 +1,24 @@
+package com.poi.yow_point.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A POI returned by the nearest-neighbour search, with its distance to the query point.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearestPoiDTO {
+
+    @JsonUnwrapped
+    private PointOfInterestDTO poi;
+
+    @JsonProperty("distance_meters")
+    private Double distanceMeters;
+}
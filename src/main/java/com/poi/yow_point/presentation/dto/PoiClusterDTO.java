@@ -0,0 +1,34 @@
+package com.poi.yow_point.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A group of active POIs falling in the same grid cell at the requested zoom, placed at their centroid.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoiClusterDTO {
+
+    @JsonProperty("count")
+    private Long count;
+
+    @JsonProperty("latitude")
+    private Double latitude;
+
+    @JsonProperty("longitude")
+    private Double longitude;
+
+    @JsonProperty("dominant_type")
+    private PoiType dominantType;
+
+    @JsonProperty("dominant_category")
+    private PoiCategory dominantCategory;
+}
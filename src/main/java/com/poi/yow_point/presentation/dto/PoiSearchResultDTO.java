@@ -0,0 +1,30 @@
+package com.poi.yow_point.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A POI returned by the full-text search, with its ranking score and, when the search was given a point,
+ * its distance to that point.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoiSearchResultDTO {
+
+    @JsonUnwrapped
+    private PointOfInterestDTO poi;
+
+    @JsonProperty("score")
+    private Double score;
+
+    @JsonProperty("distance_meters")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceMeters;
+}
@@ -0,0 +1,31 @@
+package com.poi.yow_point.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One autocomplete suggestion: enough to display the POI in a drop-down and fetch it by id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoiSuggestionDTO {
+
+    @JsonProperty("poi_id")
+    private UUID poiId;
+
+    @JsonProperty("poi_name")
+    private String poiName;
+
+    @JsonProperty("address_city")
+    private String addressCity;
+
+    @JsonProperty("popularity_score")
+    private Float popularityScore;
+}
@@ -0,0 +1,53 @@
+package com.poi.yow_point.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Map pin view of a POI: enough to place, label and style it, and to fetch the full POI by id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoiSummaryDTO {
+
+    @JsonProperty("poi_id")
+    private UUID poiId;
+
+    @JsonProperty("poi_name")
+    private String poiName;
+
+    @JsonProperty("poi_type")
+    private PoiType poiType;
+
+    @JsonProperty("poi_category")
+    private PoiCategory poiCategory;
+
+    @JsonProperty("address_city")
+    private String addressCity;
+
+    @JsonProperty("latitude")
+    private Double latitude;
+
+    @JsonProperty("longitude")
+    private Double longitude;
+
+    @JsonProperty("popularity_score")
+    private Float popularityScore;
+
+    /**
+     * Summary of a POI already loaded in full (in-memory index, cached list).
+     */
+    public static PoiSummaryDTO from(PointOfInterestDTO poi) {
+        return new PoiSummaryDTO(poi.getPoiId(), poi.getPoiName(), poi.getPoiType(), poi.getPoiCategory(),
+                poi.getAddressCity(), poi.getLatitude(), poi.getLongitude(), poi.getPopularityScore());
+    }
+}
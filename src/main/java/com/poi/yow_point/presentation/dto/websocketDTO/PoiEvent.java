@@ -22,6 +22,8 @@ public class PoiEvent {
         POI_REVIEWED,
         POI_LIKED,
         POI_UNLIKED,
-        POI_VIEWED
+        POI_VIEWED,
+        /** Sent to a resuming WebSocket client whose missed events are no longer available: reload, then go on */
+        RESYNC
     }
 }
\ No newline at end of file
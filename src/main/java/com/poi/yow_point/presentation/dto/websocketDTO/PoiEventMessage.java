@@ -0,0 +1,23 @@
+package com.poi.yow_point.presentation.dto.websocketDTO;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A {@link PoiEvent} as written to /ws/pois clients: its fields plus its position in the sending node's
+ * sequence. Unfiltered clients see consecutive numbers, so a gap means lost events; any client can reconnect
+ * with {@code resumeFrom=<seq>&node=<node>} to get what it missed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoiEventMessage {
+    private long seq;
+    /** Identifies the sequence; changes when the node restarts */
+    private String node;
+    @JsonUnwrapped
+    private PoiEvent event;
+}
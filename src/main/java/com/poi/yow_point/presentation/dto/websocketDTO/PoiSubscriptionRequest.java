@@ -0,0 +1,27 @@
+package com.poi.yow_point.presentation.dto.websocketDTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.poi.yow_point.application.model.PoiType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Message a /ws/pois client sends to replace its subscription filter. Omitted fields mean "any".
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoiSubscriptionRequest {
+    /** [minLatitude, minLongitude, maxLatitude, maxLongitude] */
+    private List<Double> bbox;
+    /** Geohash cell prefixes */
+    private List<String> geohashes;
+    private List<PoiType> types;
+    @JsonProperty("poi_ids")
+    private List<UUID> poiIds;
+}
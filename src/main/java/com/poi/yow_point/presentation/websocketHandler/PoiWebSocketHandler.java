@@ -2,38 +2,117 @@ package com.poi.yow_point.presentation.websocketHandler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.poi.yow_point.application.services.websocket.PoiEventPublisher;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.application.services.websocket.PoiEventFanout;
+import com.poi.yow_point.application.services.websocket.PoiEventFilter;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiSubscriptionRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.socket.CloseStatus;
 import org.springframework.web.reactive.socket.WebSocketHandler;
-//import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * /ws/pois: pushes POI events to the client.
+ * <p>
+ * The subscription filter is set by the query string ({@code bbox=minLat,minLon,maxLat,maxLon},
+ * {@code geohash}, {@code type}, {@code poiId}; lists comma-separated or repeated) and can be replaced at any
+ * time by sending a {@link PoiSubscriptionRequest} as JSON. An invalid filter closes the session with 1003.
+ * A client too slow for the DISCONNECT overflow policy is closed with 1008.
+ * <p>
+ * Each message carries {@code seq} and {@code node} (see {@code PoiEventMessage}); a client reconnecting with
+ * {@code resumeFrom=<last seq>&node=<node>} gets the events it missed, or a {@code RESYNC} message. Sequence
+ * numbers are per node: resuming only works when the client reconnects to the same node (sticky sessions),
+ * elsewhere it always gets {@code RESYNC}.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class PoiWebSocketHandler implements WebSocketHandler {
 
-    private final PoiEventPublisher eventPublisher;
+    private final PoiEventFanout fanout;
     private final ObjectMapper objectMapper;
 
     @Override
     public Mono<Void> handle(WebSocketSession session) {
         log.info("WebSocket session started: {}", session.getId());
 
-        return session.send(eventPublisher.getPublisher()
-                .flatMap(poiEvent -> {
-                    try {
-                        String json = objectMapper.writeValueAsString(poiEvent);
-                        return Mono.just(session.textMessage(json));
-                    } catch (JsonProcessingException e) {
-                        log.error("Error serializing POI event", e);
-                        return Mono.empty();
-                    }
-                }))
-                .doOnTerminate(() -> log.info("WebSocket session terminated: {}", session.getId()));
+        PoiEventFanout.ClientSubscription subscription;
+        try {
+            MultiValueMap<String, String> params = UriComponentsBuilder
+                    .fromUri(session.getHandshakeInfo().getUri()).build().getQueryParams();
+            List<Long> resumeFrom = values(params, "resumeFrom", Long::valueOf);
+            subscription = fanout.subscribe(filterFromQuery(params),
+                    resumeFrom.isEmpty() ? null : resumeFrom.get(0), params.getFirst("node"));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected WebSocket subscription {}: {}", session.getId(), e.getMessage());
+            return session.close(CloseStatus.BAD_DATA.withReason(e.getMessage()));
+        }
+
+        Mono<Void> input = session.receive()
+                .filter(message -> message.getType() == WebSocketMessage.Type.TEXT)
+                .doOnNext(message -> subscription.setFilter(filterFromMessage(message.getPayloadAsText())))
+                .then()
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> session.close(CloseStatus.BAD_DATA.withReason(e.getMessage())));
+
+        // The frame bytes are shared by every session: wrapped, not copied
+        Mono<Void> output = session.send(subscription.frames()
+                        .map(frame -> new WebSocketMessage(WebSocketMessage.Type.TEXT,
+                                session.bufferFactory().wrap(frame.json()))))
+                .onErrorResume(Exceptions::isOverflow,
+                        e -> session.close(CloseStatus.POLICY_VIOLATION.withReason("Client too slow")));
+
+        // Whichever side ends first (client gone, invalid filter, overflow) ends the session
+        return Mono.firstWithSignal(input, output)
+                .doFinally(signal -> {
+                    subscription.close();
+                    log.info("WebSocket session terminated: {}", session.getId());
+                });
+    }
+
+    private PoiEventFilter filterFromMessage(String text) {
+        PoiSubscriptionRequest request;
+        try {
+            request = objectMapper.readValue(text, PoiSubscriptionRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid subscription message");
+        }
+        // JSON nulls ("bbox": [3.8, null, ...], "types": [null]) are rejected by PoiEventFilter
+        return new PoiEventFilter(PoiEventFilter.boundingBox(request.getBbox()), request.getGeohashes(),
+                request.getTypes() == null ? null : new HashSet<>(request.getTypes()),
+                request.getPoiIds() == null ? null : new HashSet<>(request.getPoiIds()));
+    }
+
+    private static PoiEventFilter filterFromQuery(MultiValueMap<String, String> params) {
+        List<String> bbox = values(params, "bbox", Function.identity());
+        return new PoiEventFilter(
+                bbox.isEmpty() ? null : bbox.stream().mapToDouble(Double::parseDouble).toArray(),
+                values(params, "geohash", Function.identity()),
+                Set.copyOf(values(params, "type", PoiType::valueOf)),
+                Set.copyOf(values(params, "poiId", UUID::fromString)));
+    }
+
+    private static <T> List<T> values(MultiValueMap<String, String> params, String name, Function<String, T> parser) {
+        return params.getOrDefault(name, List.of()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(parser)
+                .toList();
     }
-}
\ No newline at end of file
+}
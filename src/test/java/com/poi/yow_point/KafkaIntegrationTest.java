@@ -1,8 +1,10 @@
 package com.poi.yow_point;
 
 import com.poi.yow_point.application.services.point_of_interest.PointOfInterestService;
+import com.poi.yow_point.infrastructure.entities.PoiOutboxMessage;
 import com.poi.yow_point.infrastructure.entities.PointOfInterest;
 import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepository;
+import com.poi.yow_point.infrastructure.repositories.poiOutbox.PoiOutboxRepository;
 import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
 import com.poi.yow_point.presentation.dto.CreatePoiDTO;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +40,9 @@ class KafkaIntegrationTest {
     @MockBean
     private PointOfInterestRepository pointOfInterestRepository;
 
+    @Autowired
+    private PoiOutboxRepository outboxRepository;
+
     @MockBean
     private org.springframework.data.redis.core.ReactiveRedisTemplate<String, PointOfInterestDTO> redisTemplate;
 
@@ -71,7 +76,7 @@ class KafkaIntegrationTest {
     private com.poi.yow_point.application.services.notification.NotificationService notificationService;
 
     @Test
-    void whenCreatePoi_thenMessageSentToKafka() throws Exception {
+    void whenCreatePoi_thenMessageQueuedForKafka() throws Exception {
         // Given
         CreatePoiDTO createDto = new CreatePoiDTO();
         createDto.setPoiName("Test POI From Test");
@@ -98,8 +103,50 @@ class KafkaIntegrationTest {
         // When
         pointOfInterestService.createPoi(createDto).block();
 
-        // Then
-        org.mockito.Mockito.verify(kafkaProducerService).sendMessage(org.mockito.ArgumentMatchers.eq("poi-created"), org.mockito.ArgumentMatchers.any(PointOfInterestDTO.class));
+        // Then: queued in the outbox by the POI's transaction, the relay (disabled here) publishes it
+        PoiOutboxMessage queued = outboxRepository.findAll()
+                .filter(message -> savedEntity.getPoiId().equals(message.getAggregateId()))
+                .blockFirst();
+        assertThat(queued).isNotNull();
+        assertThat(queued.getTopic()).isEqualTo("poi-created");
+        assertThat(queued.getPayloadType()).isEqualTo(PointOfInterestDTO.class.getName());
+        org.mockito.Mockito.verifyNoInteractions(kafkaProducerService);
+        // Evicted once committed, which broadcasts the creation to the other nodes' caches
+        org.mockito.Mockito.verify(redisTemplate.opsForValue()).delete("poi:" + savedEntity.getPoiId());
+    }
+
+    @Test
+    void whenApprovePoi_thenUpdateQueuedForKafka() {
+        PointOfInterest poi = new PointOfInterest();
+        poi.setPoiId(UUID.randomUUID());
+        poi.setPoiName("Approved POI");
+        when(pointOfInterestRepository.findById(poi.getPoiId())).thenReturn(Mono.just(poi));
+        when(pointOfInterestRepository.save(any(PointOfInterest.class))).thenReturn(Mono.just(poi));
+
+        pointOfInterestService.approvePoi(poi.getPoiId(), UUID.randomUUID()).block();
+
+        assertThat(queuedTopic(poi.getPoiId())).isEqualTo("poi-updated");
+    }
+
+    @Test
+    void whenRejectPoi_thenDeletionQueuedForKafka() {
+        PointOfInterest poi = new PointOfInterest();
+        poi.setPoiId(UUID.randomUUID());
+        poi.setPoiName("Rejected POI");
+        when(pointOfInterestRepository.findById(poi.getPoiId())).thenReturn(Mono.just(poi));
+        when(pointOfInterestRepository.delete(any(PointOfInterest.class))).thenReturn(Mono.empty());
+
+        pointOfInterestService.rejectPoi(poi.getPoiId(), UUID.randomUUID()).block();
+
+        assertThat(queuedTopic(poi.getPoiId())).isEqualTo("poi-deleted");
+    }
+
+    private String queuedTopic(UUID poiId) {
+        PoiOutboxMessage queued = outboxRepository.findAll()
+                .filter(message -> poiId.equals(message.getAggregateId()))
+                .blockFirst();
+        assertThat(queued).isNotNull();
+        return queued.getTopic();
     }
 
     public static class TestConsumer {
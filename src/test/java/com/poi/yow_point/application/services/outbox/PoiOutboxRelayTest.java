@@ -0,0 +1,150 @@
+package com.poi.yow_point.application.services.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poi.yow_point.infrastructure.configuration.PoiOutboxProperties;
+import com.poi.yow_point.infrastructure.entities.PoiOutboxMessage;
+import com.poi.yow_point.infrastructure.kafka.KafkaProducerService;
+import com.poi.yow_point.infrastructure.repositories.poiOutbox.PoiOutboxRepository;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the relay deletes a batch only once Kafka acknowledged it, rolls it back when a send fails and
+ * drops messages whose payload cannot be read.
+ */
+class PoiOutboxRelayTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final PoiOutboxRepository repository = mock(PoiOutboxRepository.class);
+    private final KafkaProducerService producer = mock(KafkaProducerService.class);
+    private final ReactiveTransactionManager transactionManager = mock(ReactiveTransactionManager.class);
+    private final ReactiveTransaction transaction = mock(ReactiveTransaction.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicBoolean deleted = new AtomicBoolean();
+    private PoiOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getReactiveTransaction(any())).thenReturn(Mono.just(transaction));
+        when(transactionManager.commit(any())).thenReturn(Mono.empty());
+        when(transactionManager.rollback(any())).thenReturn(Mono.empty());
+        when(repository.tryLockRelay()).thenReturn(Mono.just(true));
+        when(repository.deleteAllById(any())).thenReturn(Mono.fromRunnable(() -> deleted.set(true)));
+        relay = new PoiOutboxRelay(repository, producer, objectMapper, new PoiOutboxProperties(),
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    void deletesTheBatchOnceEverySendIsAcknowledged() throws Exception {
+        PoiOutboxMessage first = message(1L, poiPayload());
+        PoiOutboxMessage second = message(2L, poiPayload());
+        when(repository.lockNextBatch(anyInt())).thenReturn(Flux.just(first, second));
+        when(producer.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.relayBatch().block()).isEqualTo(2);
+
+        verify(producer).send(eq("poi-updated"), eq(first.getAggregateId().toString()), any(PointOfInterestDTO.class));
+        verify(repository).deleteAllById(List.of(1L, 2L));
+        assertThat(deleted).isTrue();
+        verify(transactionManager).commit(transaction);
+        assertThat(meterRegistry.counter("poi.outbox.relay.published").count()).isEqualTo(2);
+    }
+
+    @Test
+    void rollsBackTheBatchWhenASendFails() throws Exception {
+        when(repository.lockNextBatch(anyInt())).thenReturn(Flux.just(message(1L, poiPayload())));
+        when(producer.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThat(relay.relayBatch().block()).isZero();
+
+        assertThat(deleted).isFalse();
+        verify(transactionManager).rollback(transaction);
+        assertThat(meterRegistry.counter("poi.outbox.relay.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    void deletesUnreadableMessagesWithoutSendingThem() throws Exception {
+        PoiOutboxMessage unreadable = message(1L, "{not json");
+        PoiOutboxMessage readable = message(2L, poiPayload());
+        when(repository.lockNextBatch(anyInt())).thenReturn(Flux.just(unreadable, readable));
+        when(producer.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.relayBatch().block()).isEqualTo(2);
+
+        verify(producer, never()).send(anyString(), eq(unreadable.getAggregateId().toString()), any());
+        verify(repository).deleteAllById(List.of(1L, 2L));
+        assertThat(meterRegistry.counter("poi.outbox.relay.discarded").count()).isEqualTo(1);
+    }
+
+    @Test
+    void deletesMessagesOfUnknownPayloadTypeWithoutSendingThem() throws Exception {
+        PoiOutboxMessage unknown = message(1L, "\"calc\"", ProcessBuilder.class.getName());
+        PoiOutboxMessage readable = message(2L, poiPayload());
+        when(repository.lockNextBatch(anyInt())).thenReturn(Flux.just(unknown, readable));
+        when(producer.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.relayBatch().block()).isEqualTo(2);
+
+        verify(producer, never()).send(anyString(), eq(unknown.getAggregateId().toString()), any());
+        verify(producer).send(eq("poi-updated"), eq(readable.getAggregateId().toString()), any(PointOfInterestDTO.class));
+        verify(repository).deleteAllById(List.of(1L, 2L));
+        assertThat(meterRegistry.counter("poi.outbox.relay.discarded").count()).isEqualTo(1);
+    }
+
+    @Test
+    void sendsNothingWhileAnotherNodeRelays() {
+        when(repository.tryLockRelay()).thenReturn(Mono.just(false));
+
+        assertThat(relay.relayBatch().block()).isZero();
+
+        verify(repository, never()).lockNextBatch(anyInt());
+        verify(transactionManager).commit(transaction);
+    }
+
+    private String poiPayload() throws Exception {
+        return objectMapper.writeValueAsString(PointOfInterestDTO.builder()
+                .poiId(UUID.randomUUID())
+                .poiName("Marché Mokolo")
+                .build());
+    }
+
+    private static PoiOutboxMessage message(long outboxId, String payload) {
+        return message(outboxId, payload, PointOfInterestDTO.class.getName());
+    }
+
+    private static PoiOutboxMessage message(long outboxId, String payload, String payloadType) {
+        return PoiOutboxMessage.builder()
+                .outboxId(outboxId)
+                .aggregateId(UUID.randomUUID())
+                .topic("poi-updated")
+                .payloadType(payloadType)
+                .payload(payload)
+                .createdAt(OffsetDateTime.now())
+                .build();
+    }
+}
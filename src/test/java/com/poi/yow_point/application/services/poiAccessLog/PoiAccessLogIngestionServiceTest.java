@@ -0,0 +1,106 @@
+package com.poi.yow_point.application.services.poiAccessLog;
+
+import com.poi.yow_point.application.mappers.MapperUtils;
+import com.poi.yow_point.application.mappers.PoiAccessLogMapper;
+import com.poi.yow_point.application.services.poiPlatformStat.PlatformStatAggregator;
+import com.poi.yow_point.application.validation.PoiAccessLogValidator;
+import com.poi.yow_point.infrastructure.configuration.AccessLogIngestionProperties;
+import com.poi.yow_point.infrastructure.entities.PoiAccessLog;
+import com.poi.yow_point.infrastructure.repositories.poiAccessLog.PoiAccessLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PoiAccessLogIngestionServiceTest {
+
+    private final PoiAccessLogRepository repository = mock(PoiAccessLogRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AccessLogIngestionProperties properties = new AccessLogIngestionProperties();
+
+    private PoiAccessLogIngestionService service() {
+        return new PoiAccessLogIngestionService(repository, mock(PoiAccessLogMapper.class), mock(MapperUtils.class),
+                mock(PoiAccessLogValidator.class), mock(PlatformStatAggregator.class), properties, meterRegistry);
+    }
+
+    @Test
+    void dropsOnlyTheLogsRejectedByAConstraint() {
+        UUID unknownPoi = UUID.randomUUID();
+        UUID otherUnknownPoi = UUID.randomUUID();
+        Set<UUID> unknownPois = Set.of(unknownPoi, otherUnknownPoi);
+        List<PoiAccessLog> inserted = new ArrayList<>();
+        when(repository.insertBatch(anyList())).thenAnswer(invocation -> {
+            List<PoiAccessLog> logs = invocation.getArgument(0);
+            if (logs.stream().anyMatch(accessLog -> unknownPois.contains(accessLog.getPoiId()))) {
+                return Mono.error(new DataIntegrityViolationException("fk_access_log_poi"));
+            }
+            inserted.addAll(logs);
+            return Mono.just((long) logs.size());
+        });
+        PoiAccessLogIngestionService service = service();
+        for (int i = 0; i < 100; i++) {
+            service.enqueue(accessLog(i == 17 ? unknownPoi : i == 80 ? otherUnknownPoi : UUID.randomUUID()));
+        }
+
+        service.flushOnce().block();
+
+        assertThat(inserted).hasSize(98).noneMatch(accessLog -> unknownPois.contains(accessLog.getPoiId()));
+        assertThat(records("written")).isEqualTo(98);
+        assertThat(records("dropped_invalid")).isEqualTo(2);
+        assertThat(records("dropped_flush_error")).isZero();
+    }
+
+    @Test
+    void dropsTheWholeBatchWhenATransientErrorOutlastsTheRetries() {
+        properties.setMaxRetries(1);
+        when(repository.insertBatch(anyList()))
+                .thenReturn(Mono.error(new TransientDataAccessResourceException("connection lost")));
+        PoiAccessLogIngestionService service = service();
+        for (int i = 0; i < 10; i++) {
+            service.enqueue(accessLog(UUID.randomUUID()));
+        }
+
+        service.flushOnce().block();
+
+        assertThat(records("written")).isZero();
+        assertThat(records("dropped_flush_error")).isEqualTo(10);
+    }
+
+    @Test
+    void doesNotAcknowledgeALogDroppedOnOverflow() {
+        properties.setQueueCapacity(1);
+        properties.setOverflowPolicy(AccessLogIngestionProperties.OverflowPolicy.DROP_NEWEST);
+        PoiAccessLogIngestionService service = service();
+
+        assertThat(service.enqueue(accessLog(UUID.randomUUID())))
+                .isEqualTo(PoiAccessLogIngestionService.EnqueueResult.QUEUED);
+        assertThat(service.enqueue(accessLog(UUID.randomUUID())))
+                .isEqualTo(PoiAccessLogIngestionService.EnqueueResult.DROPPED);
+    }
+
+    private double records(String outcome) {
+        return meterRegistry.counter("poi.access_log.ingestion.records", "outcome", outcome).count();
+    }
+
+    private static PoiAccessLog accessLog(UUID poiId) {
+        return PoiAccessLog.builder()
+                .accessId(UUID.randomUUID())
+                .poiId(poiId)
+                .platformType("WEB")
+                .accessType("VIEW")
+                .accessDatetime(OffsetDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.application.services.point_of_interest.PoiClusterGrid.Cluster;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Checks the cell aggregates of the grid: whole-cell counts, dominant values across removals and ties, and the
+ * dense and sparse ways of reading a box.
+ */
+class PoiClusterGridTest {
+
+    // At zoom 10 with shift 0, Yaoundé (3.87, 11.52) falls in cell (544, 500), which spans latitudes 3.864 to
+    // 4.215 and longitudes 11.25 to 11.60, and Douala (4.05, 9.70) in cell (539, 500)
+    private static final int ZOOM = 10;
+
+    private final PoiClusterGrid grid = new PoiClusterGrid(ZOOM, 0);
+
+    @Test
+    void countsTheWholeCellOfABoxCorner() {
+        grid.put(UUID.randomUUID(), 3.90, 11.30, PoiType.CAFE, PoiCategory.FOOD_DRINK);
+        grid.put(UUID.randomUUID(), 4.10, 11.55, PoiType.CAFE, PoiCategory.FOOD_DRINK);
+
+        // The box only contains the second POI, but both are in the cell it touches
+        List<Cluster> clusters = grid.clusters(ZOOM, 4.0, 11.5, 4.2, 11.56);
+
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).count()).isEqualTo(2);
+        assertThat(clusters.get(0).latitude()).isCloseTo(4.0, within(1e-9));
+        assertThat(clusters.get(0).longitude()).isCloseTo(11.425, within(1e-9));
+    }
+
+    @Test
+    void updatesTheDominantValuesOnRemoval() {
+        UUID cafe = UUID.randomUUID();
+        UUID firstBar = UUID.randomUUID();
+        UUID secondBar = UUID.randomUUID();
+        UUID hotel = UUID.randomUUID();
+        grid.put(cafe, 3.87, 11.52, PoiType.CAFE, PoiCategory.FOOD_DRINK);
+        grid.put(firstBar, 3.87, 11.52, PoiType.BAR, PoiCategory.FOOD_DRINK);
+        grid.put(secondBar, 3.87, 11.52, PoiType.BAR, PoiCategory.FOOD_DRINK);
+        grid.put(hotel, 3.87, 11.52, PoiType.HOTEL, PoiCategory.ACCOMMODATION);
+        assertThat(yaounde().dominantType()).isEqualTo(PoiType.BAR);
+
+        // Removing an entry from the middle of the tally keeps the others
+        grid.remove(cafe);
+        grid.remove(firstBar);
+        grid.remove(secondBar);
+        assertThat(yaounde().count()).isEqualTo(1);
+        assertThat(yaounde().dominantType()).isEqualTo(PoiType.HOTEL);
+        assertThat(yaounde().dominantCategory()).isEqualTo(PoiCategory.ACCOMMODATION);
+
+        // Moving a POI updates its old and new cells
+        grid.put(hotel, 4.05, 9.70, PoiType.HOTEL, PoiCategory.ACCOMMODATION);
+        assertThat(grid.clusters(ZOOM, 3.86, 11.51, 3.88, 11.53)).isEmpty();
+        assertThat(grid.size()).isEqualTo(1);
+
+        grid.remove(hotel);
+        grid.remove(hotel);
+        assertThat(grid.size()).isZero();
+        assertThat(grid.clusters(0, -80, -180, 80, 180)).isEmpty();
+    }
+
+    @Test
+    void breaksDominantTiesByNameAndIgnoresUnknownValues() {
+        grid.put(UUID.randomUUID(), 3.87, 11.52, PoiType.RESTAURANT, PoiCategory.FOOD_DRINK);
+        grid.put(UUID.randomUUID(), 3.87, 11.52, PoiType.CAFE, PoiCategory.ACCOMMODATION);
+        grid.put(UUID.randomUUID(), 3.87, 11.52, null, null);
+        grid.put(UUID.randomUUID(), 3.87, 11.52, null, null);
+
+        Cluster cluster = yaounde();
+        assertThat(cluster.count()).isEqualTo(4);
+        // RESTAURANT comes first in the enum, CAFE first by name
+        assertThat(cluster.dominantType()).isEqualTo(PoiType.CAFE);
+        assertThat(cluster.dominantCategory()).isEqualTo(PoiCategory.ACCOMMODATION);
+
+        PoiClusterGrid unknown = new PoiClusterGrid(0, 0);
+        unknown.put(UUID.randomUUID(), 3.87, 11.52, null, null);
+        assertThat(unknown.clusters(0, -80, -180, 80, 180))
+                .containsExactly(new Cluster(1, 3.87, 11.52, null, null));
+    }
+
+    @Test
+    void readsTheSameCellsWhetherTheBoxIsScannedOrProbed() {
+        grid.put(UUID.randomUUID(), 3.87, 11.52, PoiType.CAFE, PoiCategory.FOOD_DRINK);
+        grid.put(UUID.randomUUID(), 4.05, 9.70, PoiType.BAR, PoiCategory.FOOD_DRINK);
+        grid.put(UUID.randomUUID(), 48.85, 2.35, PoiType.HOTEL, PoiCategory.ACCOMMODATION);
+
+        // 6 x 2 cells around Douala and Yaoundé: probed, as there are more cells in the level than in the box
+        for (int i = 0; i < 20; i++) {
+            grid.put(UUID.randomUUID(), -40 + i, -100, PoiType.MARCHE, PoiCategory.SHOPPING_RETAIL);
+        }
+        List<Cluster> probed = sorted(grid.clusters(ZOOM, 3.86, 9.69, 4.06, 11.53));
+
+        // The whole of Cameroon covers far more positions than the level has cells: scanned
+        List<Cluster> scanned = sorted(grid.clusters(ZOOM, 1.5, 8.4, 13.1, 16.2));
+
+        assertThat(PoiClusterGrid.coveredCells(ZOOM, 3.86, 9.69, 4.06, 11.53)).isLessThan(23);
+        assertThat(PoiClusterGrid.coveredCells(ZOOM, 1.5, 8.4, 13.1, 16.2)).isGreaterThan(23);
+        assertThat(probed).isEqualTo(scanned);
+        assertThat(probed).extracting(Cluster::dominantType).containsExactly(PoiType.BAR, PoiType.CAFE);
+    }
+
+    @Test
+    void capsTheQueriedZoomAtTheDeepestLevel() {
+        grid.put(UUID.randomUUID(), 3.87, 11.52, PoiType.CAFE, PoiCategory.FOOD_DRINK);
+        grid.put(UUID.randomUUID(), 3.8705, 11.5205, PoiType.CAFE, PoiCategory.FOOD_DRINK);
+
+        assertThat(grid.clusters(18, 3.86, 11.51, 3.88, 11.53)).extracting(Cluster::count).containsExactly(2);
+    }
+
+    private Cluster yaounde() {
+        List<Cluster> clusters = grid.clusters(ZOOM, 3.86, 11.51, 3.88, 11.53);
+        assertThat(clusters).hasSize(1);
+        return clusters.get(0);
+    }
+
+    private static List<Cluster> sorted(List<Cluster> clusters) {
+        return clusters.stream().sorted(Comparator.comparingDouble(Cluster::longitude)).toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.application.mappers.PointOfInterestMapper;
+import com.poi.yow_point.infrastructure.configuration.AutocompleteProperties;
+import com.poi.yow_point.infrastructure.configuration.ClusterIndexProperties;
+import com.poi.yow_point.infrastructure.configuration.SpatialIndexProperties;
+import com.poi.yow_point.infrastructure.entities.PointOfInterest;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepository;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that one load rebuilds every enabled index and that writes received during the load survive the swap.
+ */
+class PoiIndexRebuilderTest {
+
+    private final PointOfInterestRepository repository = mock(PointOfInterestRepository.class);
+    private final PointOfInterestMapper mapper = mock(PointOfInterestMapper.class);
+    private final SpatialIndexProperties spatialProperties = new SpatialIndexProperties();
+    private final PoiSpatialIndex spatialIndex = new PoiSpatialIndex(spatialProperties);
+    private final PoiAutocompleteIndex autocompleteIndex = new PoiAutocompleteIndex(new AutocompleteProperties());
+    private final PoiClusterIndex clusterIndex = new PoiClusterIndex(new ClusterIndexProperties());
+    private final PoiIndexRebuilder rebuilder = new PoiIndexRebuilder(repository, mapper,
+            List.of(spatialIndex, autocompleteIndex, clusterIndex));
+
+    @Test
+    void buildsEveryIndexFromOneLoad() {
+        PointOfInterestDTO poi = poi("Café de Mvog-Mbi");
+        load(() -> { }, poi);
+
+        assertThat(rebuilder.rebuild().block()).isEqualTo(1);
+
+        verify(repository, times(1)).findByIsActiveTrue();
+        assertThat(spatialIndex.isReady()).isTrue();
+        assertThat(autocompleteIndex.isReady()).isTrue();
+        assertThat(clusterIndex.isReady()).isTrue();
+        assertThat(spatialIndex.findWithinRadius(3.87, 11.52, 100)).containsExactly(poi);
+        assertThat(autocompleteIndex.complete("mvo", null, null, 5)).hasSize(1);
+        assertThat(clusterIndex.clusters(10, 3.8, 11.4, 3.9, 11.6)).hasSize(1);
+    }
+
+    @Test
+    void replaysTheWritesReceivedDuringTheLoad() {
+        PointOfInterestDTO deleted = poi("Boulangerie Saker");
+        PointOfInterestDTO renamed = poi("Hôtel Mont Fébé");
+        PointOfInterestDTO created = poi("Marché Mokolo");
+        PointOfInterestDTO newName = poi("Hôtel La Falaise");
+        newName.setPoiId(renamed.getPoiId());
+        // The load reads the state before these writes
+        load(() -> {
+            spatialIndex.remove(deleted.getPoiId());
+            clusterIndex.remove(deleted.getPoiId());
+            autocompleteIndex.remove(deleted.getPoiId());
+            autocompleteIndex.upsert(newName);
+            autocompleteIndex.upsert(created);
+        }, deleted, renamed);
+
+        rebuilder.rebuild().block();
+
+        assertThat(spatialIndex.size()).isEqualTo(1);
+        assertThat(clusterIndex.size()).isEqualTo(1);
+        assertThat(autocompleteIndex.complete("bou", null, null, 5)).isEmpty();
+        assertThat(autocompleteIndex.complete("mont", null, null, 5)).isEmpty();
+        assertThat(autocompleteIndex.complete("fala", null, null, 5)).hasSize(1);
+        assertThat(autocompleteIndex.complete("moko", null, null, 5)).hasSize(1);
+    }
+
+    @Test
+    void skipsDisabledIndexes() {
+        spatialProperties.setEnabled(false);
+        load(() -> { }, poi("Café de Mvog-Mbi"));
+
+        rebuilder.rebuild().block();
+
+        assertThat(spatialIndex.size()).isZero();
+        assertThat(autocompleteIndex.size()).isEqualTo(1);
+    }
+
+    // The repository emits the POIs after running the writes, as if they landed while the query was running
+    private void load(Runnable concurrentWrites, PointOfInterestDTO... pois) {
+        when(repository.findByIsActiveTrue()).thenReturn(Flux.defer(() -> {
+            concurrentWrites.run();
+            return Flux.fromArray(pois).map(dto -> PointOfInterest.builder().poiId(dto.getPoiId()).build());
+        }));
+        when(mapper.toDto(any())).thenAnswer(invocation -> {
+            UUID poiId = invocation.<PointOfInterest>getArgument(0).getPoiId();
+            for (PointOfInterestDTO dto : pois) {
+                if (dto.getPoiId().equals(poiId)) {
+                    return dto;
+                }
+            }
+            throw new IllegalStateException("Unknown POI " + poiId);
+        });
+    }
+
+    private static PointOfInterestDTO poi(String name) {
+        return PointOfInterestDTO.builder()
+                .poiId(UUID.randomUUID())
+                .poiName(name)
+                .isActive(true)
+                .latitude(3.87)
+                .longitude(11.52)
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks completions across edge splits and merges, term counting and the best-first order with a filter.
+ */
+class PoiPrefixTrieTest {
+
+    private final PoiPrefixTrie trie = new PoiPrefixTrie();
+
+    @Test
+    void splitsEdgesOnCommonPrefixes() {
+        PoiPrefixTrie.Suggestion yaounde = suggestion("Yaoundé", "yaounde", 5);
+        PoiPrefixTrie.Suggestion yabassi = suggestion("Yabassi", "yabassi", 3);
+        trie.insert("yaounde", yaounde);
+        trie.insert("yabassi", yabassi);
+
+        assertThat(complete("y")).containsExactly(yaounde, yabassi);
+        assertThat(complete("ya")).containsExactly(yaounde, yabassi);
+        assertThat(complete("yao")).containsExactly(yaounde);
+        assertThat(complete("yab")).containsExactly(yabassi);
+        assertThat(complete("yaounde")).containsExactly(yaounde);
+        assertThat(complete("yaz")).isEmpty();
+        assertThat(complete("yaoundex")).isEmpty();
+    }
+
+    @Test
+    void mergesEdgesBackAfterRemoval() {
+        PoiPrefixTrie.Suggestion cafe = suggestion("Café", "yaounde", 4);
+        PoiPrefixTrie.Suggestion cafeteria = suggestion("Cafétéria", "yaounde", 2);
+        PoiPrefixTrie.Suggestion cafes = suggestion("Cafés du Centre", "yaounde", 3);
+        trie.insert("cafe", cafe);
+        trie.insert("cafeteria", cafeteria);
+        trie.insert("cafes", cafes);
+
+        trie.remove("cafe", cafe.poiId());
+        trie.remove("cafes", cafes.poiId());
+        // "cafe" is left with the single child "teria": both now form one edge
+        assertThat(complete("caf")).containsExactly(cafeteria);
+        assertThat(complete("cafe")).containsExactly(cafeteria);
+        assertThat(complete("cafet")).containsExactly(cafeteria);
+        assertThat(complete("cafes")).isEmpty();
+
+        // The merged edge splits again
+        trie.insert("cafe", cafe);
+        assertThat(complete("cafe")).containsExactly(cafe, cafeteria);
+        assertThat(complete("cafet")).containsExactly(cafeteria);
+        assertThat(trie.termCount()).isEqualTo(2);
+    }
+
+    @Test
+    void countsEachTermOfEachPoiOnce() {
+        PoiPrefixTrie.Suggestion first = suggestion("Marché Mokolo", "yaounde", 1);
+        PoiPrefixTrie.Suggestion second = suggestion("Marché Central", "yaounde", 1);
+        trie.insert("marche", first);
+        trie.insert("marche", first);
+        trie.insert("marche", second);
+        trie.insert("mokolo", first);
+        trie.insert("", first);
+        assertThat(trie.termCount()).isEqualTo(3);
+
+        // Unknown terms, a prefix of a term and an unknown POI leave the trie unchanged
+        trie.remove("march", first.poiId());
+        trie.remove("marches", first.poiId());
+        trie.remove("marche", UUID.randomUUID());
+        assertThat(trie.termCount()).isEqualTo(3);
+
+        trie.remove("marche", first.poiId());
+        assertThat(trie.termCount()).isEqualTo(2);
+        assertThat(complete("marche")).containsExactly(second);
+    }
+
+    @Test
+    void returnsAPoiOnceWhateverTheNumberOfMatchingTerms() {
+        PoiPrefixTrie.Suggestion market = suggestion("Marché Mokolo", "yaounde", 5);
+        PoiPrefixTrie.Suggestion mall = suggestion("Mahima", "yaounde", 1);
+        trie.insert("marche", market);
+        trie.insert("mokolo", market);
+        trie.insert("marche mokolo", market);
+        trie.insert("mahima", mall);
+
+        assertThat(complete("m")).containsExactly(market, mall);
+        assertThat(trie.complete("m", 1, s -> true)).containsExactly(market);
+    }
+
+    @Test
+    void completesBestFirstUnderAFilter() {
+        PoiPrefixTrie.Suggestion douala = suggestion("Boulangerie Akwa", "douala", 9);
+        PoiPrefixTrie.Suggestion best = suggestion("Boulangerie Bastos", "yaounde", 8);
+        PoiPrefixTrie.Suggestion middle = suggestion("Boutique Mvog-Mbi", "yaounde", 5);
+        PoiPrefixTrie.Suggestion worst = suggestion("Bar Emana", "yaounde", 1);
+        trie.insert("boulangerie akwa", douala);
+        trie.insert("boulangerie bastos", best);
+        trie.insert("boutique mvog mbi", middle);
+        trie.insert("bar emana", worst);
+
+        assertThat(trie.complete("b", 10, s -> s.cityKey().equals("yaounde")))
+                .containsExactly(best, middle, worst);
+        assertThat(trie.complete("b", 2, s -> s.cityKey().equals("yaounde")))
+                .containsExactly(best, middle);
+
+        // Subtree scores follow removals
+        trie.remove("boulangerie bastos", best.poiId());
+        assertThat(trie.complete("bou", 10, s -> true)).containsExactly(douala, middle);
+        trie.remove("boulangerie akwa", douala.poiId());
+        assertThat(complete("b")).containsExactly(middle, worst);
+    }
+
+    private List<PoiPrefixTrie.Suggestion> complete(String prefix) {
+        return trie.complete(prefix, 10, s -> true);
+    }
+
+    private static PoiPrefixTrie.Suggestion suggestion(String label, String cityKey, float score) {
+        return new PoiPrefixTrie.Suggestion(UUID.randomUUID(), label, cityKey, cityKey, "s0", score);
+    }
+}
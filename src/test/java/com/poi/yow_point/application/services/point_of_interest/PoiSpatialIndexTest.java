@@ -0,0 +1,95 @@
+package com.poi.yow_point.application.services.point_of_interest;
+
+import com.poi.yow_point.application.services.geo.GeoUtils;
+import com.poi.yow_point.application.services.point_of_interest.PoiSpatialIndex.Neighbour;
+import com.poi.yow_point.infrastructure.configuration.SpatialIndexProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that radius and nearest queries of the index find what PostGIS {@code ST_DWithin} on geography finds:
+ * across the antimeridian, over a pole, and at the edge of the circle.
+ */
+class PoiSpatialIndexTest {
+
+    private final PoiSpatialIndex index = new PoiSpatialIndex(new SpatialIndexProperties());
+
+    @BeforeEach
+    void build() {
+        index.swap(List.of());
+    }
+
+    @Test
+    void findsPoisAcrossTheAntimeridian() {
+        // Taveuni and Vanua Levu, Fiji, on both sides of 180°
+        PointOfInterestDTO east = poi(-16.80, 179.95);
+        PointOfInterestDTO west = poi(-16.80, -179.90);
+        PointOfInterestDTO far = poi(-16.80, 175.00);
+        index.upsert(east);
+        index.upsert(west);
+        index.upsert(far);
+
+        assertThat(index.findWithinRadius(-16.80, 179.95, 30_000)).containsExactlyInAnyOrder(east, west);
+        assertThat(index.findWithinRadius(-16.80, -179.90, 30_000)).containsExactlyInAnyOrder(east, west);
+    }
+
+    @Test
+    void findsTheNearestPoiAcrossTheAntimeridian() {
+        PointOfInterestDTO west = poi(-16.80, -179.90);
+        index.upsert(west);
+        index.upsert(poi(-16.80, 179.00));
+
+        List<Neighbour> nearest = index.findNearest(-16.80, 179.95, 1, poi -> true);
+
+        assertThat(nearest).extracting(Neighbour::poi).containsExactly(west);
+    }
+
+    @Test
+    void findsPoisAcrossAPole() {
+        // 1° of latitude apart through the pole, on opposite meridians
+        PointOfInterestDTO opposite = poi(89.5, 180.0);
+        index.upsert(opposite);
+
+        assertThat(index.findWithinRadius(89.5, 0.0, 150_000)).containsExactly(opposite);
+    }
+
+    @Test
+    void findsPoisOnTheEdgeOfTheCircle() {
+        // At 60°N a 2000 km circle reaches 38° of longitude from its center (poleward of it), not the 36° of
+        // radius / (111 km * cos 60°)
+        PointOfInterestDTO center = poi(60.0, 10.0);
+        index.upsert(center);
+        for (int bearing = 0; bearing < 360; bearing += 5) {
+            double[] point = destination(60.0, 10.0, bearing, 1_999_000);
+            index.upsert(poi(point[0], point[1]));
+        }
+
+        assertThat(index.findWithinRadius(60.0, 10.0, 2_000_000)).hasSize(73);
+    }
+
+    private static PointOfInterestDTO poi(double latitude, double longitude) {
+        return PointOfInterestDTO.builder()
+                .poiId(UUID.randomUUID())
+                .isActive(true)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    // Point at the given great-circle distance and initial bearing, longitude normalised to [-180, 180]
+    private static double[] destination(double latitude, double longitude, double bearing, double meters) {
+        double d = meters / GeoUtils.EARTH_RADIUS_METERS;
+        double lat1 = Math.toRadians(latitude);
+        double theta = Math.toRadians(bearing);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(d) + Math.cos(lat1) * Math.sin(d) * Math.cos(theta));
+        double lon2 = Math.toRadians(longitude) + Math.atan2(Math.sin(theta) * Math.sin(d) * Math.cos(lat1),
+                Math.cos(d) - Math.sin(lat1) * Math.sin(lat2));
+        return new double[] { Math.toDegrees(lat2), (Math.toDegrees(lon2) + 540) % 360 - 180 };
+    }
+}
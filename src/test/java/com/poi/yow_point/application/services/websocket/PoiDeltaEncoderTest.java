@@ -0,0 +1,146 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiStatus;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the SSE delta encoding, that status or popularity changes are several times smaller than the full
+ * event sent over the WebSocket, and that a stream only gets a delta over a state it was sent.
+ */
+class PoiDeltaEncoderTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final PoiDeltaEncoder encoder = new PoiDeltaEncoder(objectMapper, 100);
+
+    @Test
+    void sendsFullStateFirstThenOnlyChangedFields() throws Exception {
+        PointOfInterestDTO poi = poi(UUID.randomUUID());
+        PoiDeltaEncoder.Encoded created = encoder.encode(new PoiEvent(PoiEvent.EventType.POI_CREATED, poi), 1);
+        assertThat(created.delta()).isNull();
+        JsonNode first = objectMapper.readTree(created.full());
+        assertThat(first.get("full").asBoolean()).isTrue();
+        assertThat(first.get("changes").get("poi_name").asText()).isEqualTo(poi.getPoiName());
+
+        PointOfInterestDTO rescored = poi(poi.getPoiId());
+        rescored.setPopularityScore(4.6f);
+        rescored.setUpdatedAt(Instant.parse("2026-01-11T09:30:00Z"));
+        PoiDeltaEncoder.Encoded popularity = encoder.encode(new PoiEvent(PoiEvent.EventType.POI_UPDATED, rescored), 2);
+        assertThat(popularity.baseSeq()).isEqualTo(1);
+        JsonNode delta = objectMapper.readTree(popularity.delta());
+        assertThat(delta.has("full")).isFalse();
+        assertThat(delta.get("poi_id").asText()).isEqualTo(poi.getPoiId().toString());
+        assertThat(delta.get("changes").size()).isEqualTo(2);
+        assertThat(delta.get("changes").get("popularity_score").floatValue()).isEqualTo(4.6f);
+        assertThat(objectMapper.readTree(popularity.full()).get("changes").get("poi_name").asText())
+                .isEqualTo(poi.getPoiName());
+
+        PointOfInterestDTO approved = poi(poi.getPoiId());
+        approved.setPopularityScore(4.6f);
+        approved.setUpdatedAt(rescored.getUpdatedAt());
+        approved.setStatus(PoiStatus.APPROUVED);
+        approved.setPoiDescription(null);
+        PoiDeltaEncoder.Encoded status = encoder.encode(new PoiEvent(PoiEvent.EventType.POI_UPDATED, approved), 5);
+        assertThat(status.baseSeq()).isEqualTo(2);
+        JsonNode statusDelta = objectMapper.readTree(status.delta()).get("changes");
+        assertThat(statusDelta.get("status").asText()).isEqualTo("APPROUVED");
+        assertThat(statusDelta.get("poi_description").isNull()).isTrue();
+
+        int full = objectMapper.writeValueAsBytes(new PoiEvent(PoiEvent.EventType.POI_UPDATED, rescored)).length;
+        assertThat(popularity.delta().length() * 4).isLessThan(full);
+        assertThat(status.delta().length() * 4).isLessThan(full);
+    }
+
+    @Test
+    void deletionIsATombstoneAndForgetsTheState() throws Exception {
+        PointOfInterestDTO poi = poi(UUID.randomUUID());
+        encoder.encode(new PoiEvent(PoiEvent.EventType.POI_CREATED, poi), 1);
+
+        PoiDeltaEncoder.Encoded deleted = encoder.encode(new PoiEvent(PoiEvent.EventType.POI_DELETED, poi), 2);
+        JsonNode tombstone = objectMapper.readTree(deleted.full());
+        assertThat(tombstone.size()).isEqualTo(2);
+        assertThat(tombstone.get("poi_id").asText()).isEqualTo(poi.getPoiId().toString());
+
+        PoiDeltaEncoder.Encoded recreated = encoder.encode(new PoiEvent(PoiEvent.EventType.POI_CREATED, poi), 3);
+        assertThat(recreated.delta()).isNull();
+        assertThat(objectMapper.readTree(recreated.full()).get("full").asBoolean()).isTrue();
+    }
+
+    @Test
+    void streamGetsADeltaOnlyOverTheFrameItWasSent() throws Exception {
+        PointOfInterestDTO poi = poi(UUID.randomUUID());
+        PoiEventFrame created = frame(1, PoiEvent.EventType.POI_CREATED, poi);
+        PointOfInterestDTO rescored = poi(poi.getPoiId());
+        rescored.setPopularityScore(4.6f);
+        PoiEventFrame first = frame(2, PoiEvent.EventType.POI_UPDATED, rescored);
+        rescored.setPopularityScore(4.8f);
+        PoiEventFrame second = frame(3, PoiEvent.EventType.POI_UPDATED, rescored);
+        rescored.setPopularityScore(4.9f);
+        PoiEventFrame third = frame(4, PoiEvent.EventType.POI_UPDATED, rescored);
+
+        PoiSseDeltaState early = new PoiSseDeltaState(10);
+        assertThat(early.data(created)).isEqualTo(created.full());
+        assertThat(early.data(first)).isEqualTo(first.delta());
+        assertThat(early.data(second)).isEqualTo(second.delta());
+
+        // Connected after the creation: the first frame it sees of the POI is in full
+        PoiSseDeltaState late = new PoiSseDeltaState(10);
+        assertThat(late.data(first)).isEqualTo(first.full());
+        // Its filter skipped the second frame: the third is not relative to anything it has
+        assertThat(late.data(third)).isEqualTo(third.full());
+
+        PoiEventFrame resync = PoiEventFrame.of(5, new PoiEvent(PoiEvent.EventType.RESYNC, null), new byte[0],
+                new PoiDeltaEncoder.Encoded("{}", "{}", 0));
+        assertThat(early.data(resync)).isEqualTo("{}");
+        rescored.setPopularityScore(5.0f);
+        PoiEventFrame afterResync = frame(6, PoiEvent.EventType.POI_UPDATED, rescored);
+        assertThat(early.data(afterResync)).isEqualTo(afterResync.full());
+    }
+
+    private PoiEventFrame frame(long seq, PoiEvent.EventType type, PointOfInterestDTO poi) throws Exception {
+        PoiEvent event = new PoiEvent(type, poi);
+        return PoiEventFrame.of(seq, event, new byte[0], encoder.encode(event, seq));
+    }
+
+    private static PointOfInterestDTO poi(UUID poiId) {
+        return PointOfInterestDTO.builder()
+                .poiId(poiId)
+                .createdByUserId(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+                .poiName("Café des Délices")
+                .poiType(PoiType.CAFE)
+                .poiCategory(PoiCategory.FOOD_DRINK)
+                .poiLongName("Café des Délices de Bastos")
+                .poiDescription("Pâtisseries, café torréfié sur place et petit-déjeuner camerounais.")
+                .latitude(3.8867)
+                .longitude(11.5135)
+                .addressStreetName("Avenue Rosa Parks")
+                .addressCity("Yaoundé")
+                .addressCountry("CM")
+                .websiteUrl("https://example.cm/cafe-des-delices")
+                .operationTimePlan(Map.of("timezone", "Africa/Douala",
+                        "monday", List.of(Map.of("open", "07:00", "close", "20:00"))))
+                .poiContacts(Map.of("phone", "+237 6 99 00 00 00"))
+                .poiImagesUrls(List.of("https://cdn.example.cm/poi/1.jpg", "https://cdn.example.cm/poi/2.jpg"))
+                .poiAmenities(List.of("wifi", "terrasse"))
+                .poiKeywords(List.of("café", "pâtisserie"))
+                .popularityScore(4.2f)
+                .isActive(true)
+                .status(PoiStatus.SUBMITTED)
+                .createdAt(Instant.parse("2026-01-10T08:00:00Z"))
+                .updatedAt(Instant.parse("2026-01-10T08:00:00Z"))
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.application.services.geo.GeoHash;
+import com.poi.yow_point.infrastructure.configuration.PoiEventBusProperties;
+import com.poi.yow_point.infrastructure.configuration.WebSocketFanoutProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load harness for the WebSocket fan-out, without sockets: many in-memory sessions with mixed filters, a few
+ * of which never read. Checks that every reading session receives exactly the events matching its filter and
+ * that the stalled ones only lose their own events. Tagged {@code perf}: run it with {@code mvn test -Pperf}.
+ * <p>
+ * Scale it with {@code -Dpoi.ws.load.sessions=50000 -Dpoi.ws.load.events=2000}.
+ */
+@Tag("perf")
+class PoiEventFanoutLoadTest {
+
+    private static final int SESSIONS = Integer.getInteger("poi.ws.load.sessions", 10_000);
+    private static final int EVENTS = Integer.getInteger("poi.ws.load.events", 500);
+    private static final int BUFFER = 256;
+    private static final int STALLED_EVERY = 100;
+
+    private static final double YAOUNDE_LAT = 3.848;
+    private static final double YAOUNDE_LON = 11.502;
+    private static final double DOUALA_LAT = 4.051;
+    private static final double DOUALA_LON = 9.768;
+
+    @Test
+    void fansOutToEveryMatchingSessionDespiteStalledClients() throws Exception {
+        WebSocketFanoutProperties properties = new WebSocketFanoutProperties();
+        properties.setSessionBufferSize(BUFFER);
+        properties.setOverflowPolicy(WebSocketFanoutProperties.OverflowPolicy.DROP_OLDEST);
+        PoiEventPublisher publisher = new PoiEventPublisher();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PoiEventFanout fanout = new PoiEventFanout(properties, new PoiEventBusProperties.Log(), 20_000,
+                publisher.getPublisher(), JsonMapper.builder().findAndAddModules().build(), meterRegistry);
+
+        PoiEventFilter yaoundeBox = new PoiEventFilter(new double[] { 3.7, 11.4, 4.0, 11.6 }, null, null, null);
+        PoiEventFilter doualaCell = new PoiEventFilter(null,
+                List.of(GeoHash.encode(DOUALA_LAT, DOUALA_LON, 4)), null, null);
+        PoiEventFilter restaurants = new PoiEventFilter(null, null, Set.of(PoiType.RESTAURANT), null);
+        long yaoundeEvents = (EVENTS + 1) / 2;
+        long[] expectedByKind = { EVENTS, yaoundeEvents, EVENTS - yaoundeEvents, (EVENTS + 2) / 3 };
+
+        List<CountingSubscriber> reading = new ArrayList<>();
+        long expected = 0;
+        try {
+            for (int i = 0; i < SESSIONS; i++) {
+                int kind = i % 4;
+                PoiEventFilter filter = switch (kind) {
+                    case 1 -> yaoundeBox;
+                    case 2 -> doualaCell;
+                    case 3 -> restaurants;
+                    default -> PoiEventFilter.ALL;
+                };
+                boolean stalled = kind == 0 && i % STALLED_EVERY == 0;
+                CountingSubscriber subscriber = new CountingSubscriber(stalled ? 1 : Long.MAX_VALUE,
+                        expectedByKind[kind]);
+                fanout.subscribe(filter).frames().subscribe(subscriber);
+                if (!stalled) {
+                    reading.add(subscriber);
+                    expected += expectedByKind[kind];
+                }
+            }
+            waitFor(() -> fanout.sessionCount() == SESSIONS, 10_000);
+
+            for (int e = 0; e < EVENTS; e++) {
+                boolean inYaounde = e % 2 == 0;
+                PointOfInterestDTO poi = PointOfInterestDTO.builder()
+                        .poiId(UUID.randomUUID())
+                        .poiName("POI " + e)
+                        .poiType(e % 3 == 0 ? PoiType.RESTAURANT : PoiType.CAFE)
+                        .latitude(inYaounde ? YAOUNDE_LAT : DOUALA_LAT)
+                        .longitude(inYaounde ? YAOUNDE_LON : DOUALA_LON)
+                        .build();
+                publisher.publishEvent(new PoiEvent(PoiEvent.EventType.POI_UPDATED, poi));
+            }
+            long total = expected;
+            waitFor(() -> reading.stream().mapToLong(s -> s.received.get()).sum() >= total, 60_000);
+
+            assertThat(reading).allSatisfy(s -> assertThat(s.received.get()).isEqualTo(s.expected));
+            assertThat(meterRegistry.counter("poi.websocket.frames.dropped").count()).isPositive();
+        } finally {
+            fanout.shutdown();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("timed out").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class CountingSubscriber extends BaseSubscriber<PoiEventFrame> {
+        private final long demand;
+        private final long expected;
+        private final AtomicLong received = new AtomicLong();
+
+        private CountingSubscriber(long demand, long expected) {
+            this.demand = demand;
+            this.expected = expected;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(demand);
+        }
+
+        @Override
+        protected void hookOnNext(PoiEventFrame frame) {
+            received.incrementAndGet();
+        }
+    }
+}
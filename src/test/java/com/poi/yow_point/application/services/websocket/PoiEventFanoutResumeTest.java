@@ -0,0 +1,108 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poi.yow_point.infrastructure.configuration.PoiEventBusProperties;
+import com.poi.yow_point.infrastructure.configuration.WebSocketFanoutProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks what a resuming session receives: the events it missed when this node still has them all, a
+ * {@code RESYNC} frame carrying the current position otherwise.
+ */
+class PoiEventFanoutResumeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final Sinks.Many<PoiEvent> events = Sinks.many().multicast().directBestEffort();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PoiEventFanout fanout;
+
+    @AfterEach
+    void shutdown() {
+        fanout.shutdown();
+    }
+
+    @Test
+    void resumingOnThisNodeReplaysTheMissedEvents() {
+        fanout = fanout(100);
+        publish(3);
+
+        List<PoiEventFrame> frames = fanout.subscribe(PoiEventFilter.ALL, 1L, fanout.getNodeId())
+                .frames().take(2).collectList().block(TIMEOUT);
+
+        assertThat(frames).extracting(PoiEventFrame::seq).containsExactly(2L, 3L);
+        assertThat(meterRegistry.counter("poi.websocket.resyncs").count()).isZero();
+    }
+
+    @Test
+    void resumingFromAnotherNodeGetsAResync() {
+        fanout = fanout(100);
+        publish(3);
+
+        PoiEventFrame frame = fanout.subscribe(PoiEventFilter.ALL, 1L, UUID.randomUUID().toString())
+                .frames().blockFirst(TIMEOUT);
+
+        assertResync(frame, 3);
+    }
+
+    @Test
+    void resumingPastTheLogGetsAResync() {
+        fanout = fanout(2);
+        publish(4);
+
+        PoiEventFrame frame = fanout.subscribe(PoiEventFilter.ALL, 1L, fanout.getNodeId())
+                .frames().blockFirst(TIMEOUT);
+
+        assertResync(frame, 4);
+    }
+
+    @Test
+    void resumingFromAPositionNeverIssuedGetsAResync() {
+        fanout = fanout(100);
+        publish(2);
+
+        // A position of an earlier run of this node, or a made-up one
+        PoiEventFrame frame = fanout.subscribe(PoiEventFilter.ALL, 42L, fanout.getNodeId())
+                .frames().blockFirst(TIMEOUT);
+
+        assertResync(frame, 2);
+    }
+
+    private void assertResync(PoiEventFrame frame, long currentSeq) {
+        assertThat(frame.eventType()).isEqualTo(PoiEvent.EventType.RESYNC);
+        // The client resumes from there once it has reloaded
+        assertThat(frame.seq()).isEqualTo(currentSeq);
+        assertThat(frame.poiId()).isNull();
+        assertThat(meterRegistry.counter("poi.websocket.resyncs").count()).isEqualTo(1);
+    }
+
+    private PoiEventFanout fanout(int logSize) {
+        PoiEventBusProperties.Log log = new PoiEventBusProperties.Log();
+        log.setMaxSize(logSize);
+        return new PoiEventFanout(new WebSocketFanoutProperties(), log, 100, events.asFlux(),
+                JsonMapper.builder().findAndAddModules().build(), meterRegistry);
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            PointOfInterestDTO poi = PointOfInterestDTO.builder()
+                    .poiId(UUID.randomUUID())
+                    .poiName("POI " + i)
+                    .latitude(3.848)
+                    .longitude(11.502)
+                    .build();
+            events.tryEmitNext(new PoiEvent(PoiEvent.EventType.POI_CREATED, poi));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.poi.yow_point.application.model.PoiType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that malformed subscription filters, as decoded from a client message, are rejected with
+ * {@link IllegalArgumentException} (which closes the session with 1003) rather than failing later.
+ */
+class PoiEventFilterTest {
+
+    @Test
+    void readsABoundingBoxList() {
+        assertThat(PoiEventFilter.boundingBox(List.of(3.8, 11.4, 3.9, 11.6))).containsExactly(3.8, 11.4, 3.9, 11.6);
+        assertThat(PoiEventFilter.boundingBox(null)).isNull();
+    }
+
+    @Test
+    void rejectsNullBoundingBoxValues() {
+        assertThatThrownBy(() -> PoiEventFilter.boundingBox(Arrays.asList(3.8, null, 3.9, 11.6)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNullListEntries() {
+        Set<PoiType> types = new HashSet<>(Arrays.asList(PoiType.CAFE, null));
+        Set<UUID> poiIds = new HashSet<>(Arrays.asList(UUID.randomUUID(), null));
+
+        assertThatThrownBy(() -> new PoiEventFilter(null, Arrays.asList("s0", null), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PoiEventFilter(null, null, types, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PoiEventFilter(null, null, null, poiIds))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsAnInvalidBoundingBox() {
+        assertThatThrownBy(() -> new PoiEventFilter(new double[] { 3.9, 11.4, 3.8, 11.6 }, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PoiEventFilter(new double[] { 3.8, 11.4, 3.9 }, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
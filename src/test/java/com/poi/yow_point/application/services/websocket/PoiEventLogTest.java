@@ -0,0 +1,74 @@
+package com.poi.yow_point.application.services.websocket;
+
+import com.poi.yow_point.presentation.dto.websocketDTO.PoiEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks which positions the event log can resume from as frames leave it by count or by age.
+ */
+class PoiEventLogTest {
+
+    @Test
+    void resumesOnlyWhileEveryMissedFrameIsKept() {
+        PoiEventLog log = new PoiEventLog(3, 60_000);
+        for (long seq = 1; seq <= 5; seq++) {
+            log.append(frame(seq), 0);
+        }
+
+        // Frames 3 to 5 are kept: resuming after 2 misses nothing, after 1 would miss frame 2
+        assertThat(seqs(log.since(2, 0))).containsExactly(3L, 4L, 5L);
+        assertThat(seqs(log.since(4, 0))).containsExactly(5L);
+        assertThat(log.since(1, 0)).isNull();
+        assertThat(log.since(0, 0)).isNull();
+    }
+
+    @Test
+    void framesOlderThanTheWindowLeaveTheLog() {
+        PoiEventLog log = new PoiEventLog(100, 1_000);
+        log.append(frame(1), 0);
+        log.append(frame(2), 800);
+        assertThat(seqs(log.since(0, 900))).containsExactly(1L, 2L);
+
+        log.append(frame(3), 1_500);
+        assertThat(log.since(0, 1_500)).isNull();
+        assertThat(seqs(log.since(1, 1_500))).containsExactly(2L, 3L);
+        assertThat(log.since(1, 1_900)).isNull();
+        assertThat(seqs(log.since(2, 1_900))).containsExactly(3L);
+    }
+
+    @Test
+    void positionsNeverIssuedCannotBeResumed() {
+        PoiEventLog log = new PoiEventLog(100, 60_000);
+        assertThat(log.since(0, 0)).isEmpty();
+        assertThat(log.since(1, 0)).isNull();
+
+        log.append(frame(1), 0);
+        log.append(frame(2), 0);
+        assertThat(log.since(2, 0)).isEmpty();
+        assertThat(log.since(3, 0)).isNull();
+        assertThat(log.since(-1, 0)).isNull();
+    }
+
+    @Test
+    void emptiedLogStillResumesFromTheLastPosition() {
+        PoiEventLog log = new PoiEventLog(100, 1_000);
+        log.append(frame(1), 0);
+
+        assertThat(log.since(1, 5_000)).isEmpty();
+        assertThat(log.since(0, 5_000)).isNull();
+    }
+
+    private static PoiEventFrame frame(long seq) {
+        return new PoiEventFrame(seq, PoiEvent.EventType.POI_UPDATED, null, null, null, null, null, new byte[0],
+                null, "{}", 0);
+    }
+
+    private static List<Long> seqs(List<PoiEventFrame> frames) {
+        assertThat(frames).isNotNull();
+        return frames.stream().map(PoiEventFrame::seq).toList();
+    }
+}
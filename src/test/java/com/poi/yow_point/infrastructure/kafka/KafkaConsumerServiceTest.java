@@ -0,0 +1,80 @@
+package com.poi.yow_point.infrastructure.kafka;
+
+import com.poi.yow_point.application.services.point_of_interest.PoiAutocompleteIndex;
+import com.poi.yow_point.application.services.point_of_interest.PoiClusterIndex;
+import com.poi.yow_point.application.services.point_of_interest.PoiQueryCache;
+import com.poi.yow_point.application.services.point_of_interest.PoiSpatialIndex;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks that events of a POI read out of order across topics never bring back an older version.
+ */
+class KafkaConsumerServiceTest {
+
+    private static final Instant CREATED = Instant.parse("2026-03-01T10:00:00Z");
+    private static final Instant UPDATED = Instant.parse("2026-03-01T10:05:00Z");
+
+    private final PoiSpatialIndex spatialIndex = mock(PoiSpatialIndex.class);
+    private final KafkaConsumerService consumer = new KafkaConsumerService(spatialIndex,
+            mock(PoiAutocompleteIndex.class), mock(PoiClusterIndex.class), mock(PoiQueryCache.class),
+            new SimpleMeterRegistry());
+
+    @Test
+    void creationReadAfterAnUpdateInTheSameBatchIsIgnored() {
+        UUID poiId = UUID.randomUUID();
+        consumer.listenPoiEvents(List.of(
+                record("poi-updated", poi(poiId, "renamed", UPDATED)),
+                record("poi-created", poi(poiId, "original", CREATED))));
+
+        ArgumentCaptor<PointOfInterestDTO> applied = ArgumentCaptor.forClass(PointOfInterestDTO.class);
+        verify(spatialIndex).upsert(applied.capture());
+        assertThat(applied.getValue().getPoiName()).isEqualTo("renamed");
+    }
+
+    @Test
+    void creationReadInALaterBatchIsIgnored() {
+        UUID poiId = UUID.randomUUID();
+        consumer.listenPoiEvents(List.of(record("poi-updated", poi(poiId, "renamed", UPDATED))));
+        consumer.listenPoiEvents(List.of(record("poi-created", poi(poiId, "original", CREATED))));
+
+        verify(spatialIndex, times(1)).upsert(any());
+    }
+
+    @Test
+    void updateReadAfterTheDeletionIsIgnored() {
+        UUID poiId = UUID.randomUUID();
+        consumer.listenPoiEvents(List.of(record("poi-deleted", poi(poiId, "original", CREATED))));
+        consumer.listenPoiEvents(List.of(record("poi-updated", poi(poiId, "renamed", UPDATED))));
+
+        verify(spatialIndex).remove(poiId);
+        verify(spatialIndex, never()).upsert(any());
+    }
+
+    private static ConsumerRecord<String, PointOfInterestDTO> record(String topic, PointOfInterestDTO poi) {
+        return new ConsumerRecord<>(topic, 0, 0, poi.getPoiId().toString(), poi);
+    }
+
+    private static PointOfInterestDTO poi(UUID poiId, String name, Instant updatedAt) {
+        return PointOfInterestDTO.builder()
+                .poiId(poiId)
+                .poiName(name)
+                .isActive(true)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.poi.yow_point.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poi.yow_point.application.services.point_of_interest.PoiAutocompleteIndex;
+import com.poi.yow_point.application.services.point_of_interest.PoiClusterIndex;
+import com.poi.yow_point.application.services.point_of_interest.PoiQueryCache;
+import com.poi.yow_point.application.services.point_of_interest.PoiSpatialIndex;
+import com.poi.yow_point.config.KafkaConfig;
+import com.poi.yow_point.infrastructure.configuration.PoiKafkaProperties;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Throughput harness for the POI event pipeline on an embedded broker: keyed, compressed sends through
+ * {@link KafkaProducerService} and the partitioned batch listener of {@link KafkaConsumerService}. Each POI gets
+ * a series of updates and every tenth one is then deleted; checks that each POI ends up with its last version in
+ * the index (per-POI order kept across partitions and consumer threads) and that deleted POIs stay deleted.
+ * Tagged {@code perf}: run it with {@code mvn test -Pperf}.
+ * <p>
+ * Scale it with {@code -Dpoi.kafka.load.pois=20000 -Dpoi.kafka.load.updates=20}.
+ */
+@Tag("perf")
+@SpringBootTest(classes = { KafkaConfig.class, KafkaProducerService.class, KafkaConsumerService.class,
+        KafkaConsumerThroughputTest.TestConfig.class },
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "poi.kafka.topics.partitions=" + KafkaConsumerThroughputTest.PARTITIONS
+        })
+@EmbeddedKafka(partitions = KafkaConsumerThroughputTest.PARTITIONS,
+        topics = { "poi-created", "poi-updated", "poi-deleted" })
+class KafkaConsumerThroughputTest {
+
+    static final int PARTITIONS = 6;
+
+    private static final int POIS = Integer.getInteger("poi.kafka.load.pois", 2_000);
+    private static final int UPDATES = Integer.getInteger("poi.kafka.load.updates", 10);
+    private static final int DELETED_EVERY = 10;
+    private static final String DELETED = "<deleted>";
+
+    @TestConfiguration
+    @EnableConfigurationProperties(PoiKafkaProperties.class)
+    static class TestConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder().findAndAddModules().build();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private KafkaProducerService producer;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private PoiSpatialIndex spatialIndex;
+
+    @MockitoBean
+    private PoiAutocompleteIndex autocompleteIndex;
+
+    @MockitoBean
+    private PoiClusterIndex clusterIndex;
+
+    @MockitoBean
+    private PoiQueryCache queryCache;
+
+    @Test
+    void appliesTheLastEventOfEveryPoiInOrder() throws Exception {
+        Map<UUID, String> indexed = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            PointOfInterestDTO poi = invocation.getArgument(0);
+            indexed.put(poi.getPoiId(), poi.getPoiName());
+            return null;
+        }).when(spatialIndex).upsert(any());
+        doAnswer(invocation -> {
+            indexed.put(invocation.getArgument(0), DELETED);
+            return null;
+        }).when(spatialIndex).remove(any());
+
+        // The per-node group starts from the latest offsets: wait until every partition is assigned
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, PARTITIONS * 3);
+        }
+
+        List<UUID> poiIds = new ArrayList<>();
+        for (int i = 0; i < POIS; i++) {
+            poiIds.add(UUID.randomUUID());
+        }
+        int records = POIS * UPDATES + POIS / DELETED_EVERY;
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(records);
+        for (int version = 0; version < UPDATES; version++) {
+            for (UUID poiId : poiIds) {
+                sends.add(producer.send("poi-updated", poiId.toString(), poi(poiId, "v" + version)));
+            }
+        }
+        for (int i = 0; i < POIS; i += DELETED_EVERY) {
+            UUID poiId = poiIds.get(i);
+            sends.add(producer.send("poi-deleted", poiId.toString(), poi(poiId, DELETED)));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+
+        waitFor(() -> meterRegistry.counter("poi.kafka.consumer.records").count() >= records, 120_000);
+
+        for (int i = 0; i < POIS; i++) {
+            String expected = i % DELETED_EVERY == 0 ? DELETED : "v" + (UPDATES - 1);
+            assertThat(indexed.get(poiIds.get(i))).as("POI %d", i).isEqualTo(expected);
+        }
+        assertThat(meterRegistry.counter("poi.kafka.consumer.skipped").count()).isZero();
+    }
+
+    private static PointOfInterestDTO poi(UUID poiId, String name) {
+        return PointOfInterestDTO.builder()
+                .poiId(poiId)
+                .poiName(name)
+                .isActive(true)
+                .latitude(3.848)
+                .longitude(11.502)
+                .build();
+    }
+
+    private static void waitFor(BooleanSupplier condition, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("timed out").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.poi.yow_point.infrastructure.repositories;
+
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.infrastructure.configuration.PoiSearchProperties;
+import com.poi.yow_point.infrastructure.configuration.VectorTileProperties;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PoiSearchHit;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepositoryImpl;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the ranking of {@code PointOfInterestRepositoryImpl.search} on PostGIS: text relevance, popularity and
+ * proximity blended into one score, and keyset pages on {@code (search_score, poi_id)} that continue each other
+ * across equal scores.
+ */
+class PoiSearchRankingTest extends PostgisTestBase {
+
+    private static final String INSERT = "INSERT INTO point_of_interest (poi_id, poi_name, poi_type, poi_category,"
+            + " poi_description, location_geog, address_city, popularity_score, is_active, status)"
+            + " VALUES (?, ?, ?, ?, ?, ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography, 'Yaoundé', ?, true, 'APPROUVED')";
+
+    // Poste centrale de Yaoundé, and about 20 km to the north
+    private static final double CENTER_LATITUDE = 3.8667;
+    private static final double CENTER_LONGITUDE = 11.5167;
+    private static final double NORTH_LATITUDE = 4.0467;
+
+    private static PointOfInterestRepositoryImpl repository;
+
+    private static UUID popularBakery;
+    private static UUID quietBakery;
+    private static UUID pastryShop;
+    private static UUID misspelledBakery;
+    private static UUID pharmacy;
+    private static UUID centralIceCream;
+    private static UUID northIceCream;
+
+    @BeforeAll
+    static void insertPois() throws Exception {
+        popularBakery = insert("Boulangerie Saker", null, CENTER_LATITUDE, 5);
+        quietBakery = insert("Boulangerie Saker", null, CENTER_LATITUDE, 0);
+        pastryShop = insert("Pâtisserie du Lac", "Viennoiseries et pain de la boulangerie voisine", CENTER_LATITUDE, 0);
+        misspelledBakery = insert("Boulangeri Ndogbong", null, CENTER_LATITUDE, 0);
+        pharmacy = insert("Pharmacie du Lac", "Ouverte la nuit", CENTER_LATITUDE, 5);
+        centralIceCream = insert("Glacier Bastos", null, CENTER_LATITUDE, 2);
+        northIceCream = insert("Glacier Bastos", null, NORTH_LATITUDE, 2);
+        for (int i = 0; i < 12; i++) {
+            insert("Café Central", null, CENTER_LATITUDE, i % 2 == 0 ? 4 : 2);
+        }
+
+        repository = new PointOfInterestRepositoryImpl(new R2dbcEntityTemplate(connectionFactory()),
+                new PoiSearchProperties(), new VectorTileProperties());
+    }
+
+    @Test
+    void ranksByTextRelevanceThenPopularity() {
+        List<PoiSearchHit> hits = search("boulangerie", null, null, null, 100);
+
+        assertThat(ids(hits)).doesNotContain(pharmacy);
+        // The same name: popularity decides; a name match outranks a description match of equal popularity
+        assertThat(ids(hits)).containsSubsequence(popularBakery, quietBakery, pastryShop);
+        // Typo tolerance: trigram similarity of the name
+        assertThat(ids(hits)).contains(misspelledBakery);
+        assertThat(hits).extracting(PoiSearchHit::getScore).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    void ranksNearerPoisFirstWhenAPointIsGiven() {
+        assertThat(ids(search("glacier", CENTER_LATITUDE, CENTER_LONGITUDE, null, 100)))
+                .containsExactly(centralIceCream, northIceCream);
+        assertThat(ids(search("glacier", NORTH_LATITUDE, CENTER_LONGITUDE, null, 100)))
+                .containsExactly(northIceCream, centralIceCream);
+
+        List<PoiSearchHit> hits = search("glacier", CENTER_LATITUDE, CENTER_LONGITUDE, null, 100);
+        assertThat(hits.get(0).getDistanceMeters()).isLessThan(1.0);
+        assertThat(hits.get(1).getDistanceMeters()).isBetween(19_000.0, 21_000.0);
+    }
+
+    @Test
+    void pagesContinueEachOtherAcrossEqualScores() {
+        List<PoiSearchHit> all = search("café central", null, null, null, 100);
+        assertThat(all).hasSize(12);
+
+        // Pages of 5 over two groups of 6 equal scores: page boundaries fall inside a group
+        List<PoiSearchHit> paged = new ArrayList<>();
+        KeysetCursor after = null;
+        List<PoiSearchHit> page;
+        do {
+            page = search("café central", null, null, after, 5);
+            paged.addAll(page);
+            if (!page.isEmpty()) {
+                PoiSearchHit last = page.get(page.size() - 1);
+                // Round trip through the token the service returns as next_cursor
+                after = KeysetCursor.decode(KeysetCursor.of(last.getScore(), last.getPoi().getPoiId()).encode());
+            }
+        } while (page.size() == 5);
+
+        assertThat(ids(paged)).doesNotHaveDuplicates().containsExactlyElementsOf(ids(all));
+        assertThat(all.get(5).getScore()).isGreaterThan(all.get(6).getScore());
+    }
+
+    private static List<PoiSearchHit> search(String query, Double latitude, Double longitude, KeysetCursor after,
+            int limit) {
+        return repository.search(query, null, null, null, latitude, longitude, after, limit).collectList().block();
+    }
+
+    private static List<UUID> ids(List<PoiSearchHit> hits) {
+        return hits.stream().map(hit -> hit.getPoi().getPoiId()).toList();
+    }
+
+    private static UUID insert(String name, String description, double latitude, float popularity) throws Exception {
+        UUID poiId = UUID.randomUUID();
+        try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            insert.setObject(1, poiId);
+            insert.setString(2, name);
+            insert.setString(3, PoiType.BOULANGERIE_PATISSERIE.name());
+            insert.setString(4, PoiCategory.FOOD_DRINK.name());
+            insert.setString(5, description);
+            insert.setDouble(6, CENTER_LONGITUDE);
+            insert.setDouble(7, latitude);
+            insert.setFloat(8, popularity);
+            insert.executeUpdate();
+        }
+        return poiId;
+    }
+}
@@ -0,0 +1,182 @@
+package com.poi.yow_point.infrastructure.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poi.yow_point.application.mappers.MapperUtils;
+import com.poi.yow_point.application.mappers.PointOfInterestMapperImpl;
+import com.poi.yow_point.application.model.PoiCategory;
+import com.poi.yow_point.application.model.PoiListFilter;
+import com.poi.yow_point.application.model.PoiStatus;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.infrastructure.configuration.PoiSearchProperties;
+import com.poi.yow_point.infrastructure.configuration.VectorTileProperties;
+import com.poi.yow_point.infrastructure.entities.PointOfInterest;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepositoryImpl;
+import com.poi.yow_point.presentation.dto.PoiSummaryDTO;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import io.r2dbc.postgresql.codec.Json;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Compares the list payloads of the full and summary views over realistic POIs (base64 logo, description,
+ * opening hours, contacts, image and tag lists). The summary view is read the way the API serves it, through
+ * {@code PointOfInterestRepositoryImpl.findSummaries} on PostGIS and the mapper; the full view is the mapped
+ * entities the POIs were inserted from.
+ */
+class PoiSummaryPayloadTest extends PostgisTestBase {
+
+    private static final int POIS = 500;
+
+    private static final String INSERT = "INSERT INTO point_of_interest (poi_id, created_by_user_id, poi_name,"
+            + " poi_type, poi_category, poi_long_name, poi_short_name, poi_friendly_name, poi_description, poi_logo,"
+            + " location_geog, address_street_number, address_street_name, address_city, address_state_province,"
+            + " address_postal_code, address_country, address_informal, website_url, operation_time_plan,"
+            + " poi_contacts, poi_images_urls, poi_amenities, poi_keywords, poi_type_tags, popularity_score,"
+            + " is_active, status, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography,"
+            + " ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+    private static final MapperUtils MAPPER_UTILS = new MapperUtils(OBJECT_MAPPER);
+
+    private static List<PointOfInterest> entities;
+
+    @BeforeAll
+    static void insertPois() throws Exception {
+        entities = entities();
+        try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            for (PointOfInterest poi : entities) {
+                int i = 1;
+                insert.setObject(i++, poi.getPoiId());
+                insert.setObject(i++, poi.getCreatedByUserId());
+                insert.setString(i++, poi.getPoiName());
+                insert.setString(i++, poi.getPoiType().name());
+                insert.setString(i++, poi.getPoiCategory().name());
+                insert.setString(i++, poi.getPoiLongName());
+                insert.setString(i++, poi.getPoiShortName());
+                insert.setString(i++, poi.getPoiFriendlyName());
+                insert.setString(i++, poi.getPoiDescription());
+                insert.setString(i++, poi.getPoiLogo());
+                insert.setDouble(i++, poi.getLocationGeog().getX());
+                insert.setDouble(i++, poi.getLocationGeog().getY());
+                insert.setString(i++, poi.getAddressStreetNumber());
+                insert.setString(i++, poi.getAddressStreetName());
+                insert.setString(i++, poi.getAddressCity());
+                insert.setString(i++, poi.getAddressStateProvince());
+                insert.setString(i++, poi.getAddressPostalCode());
+                insert.setString(i++, poi.getAddressCountry());
+                insert.setString(i++, poi.getAddressInformal());
+                insert.setString(i++, poi.getWebsiteUrl());
+                insert.setString(i++, poi.getOperationTimePlan().asString());
+                insert.setString(i++, poi.getPoiContacts().asString());
+                insert.setArray(i++, connection.createArrayOf("text", poi.getPoiImagesUrls().toArray()));
+                insert.setArray(i++, connection.createArrayOf("text", poi.getPoiAmenities().toArray()));
+                insert.setArray(i++, connection.createArrayOf("text", poi.getPoiKeywords().toArray()));
+                insert.setArray(i++, connection.createArrayOf("text", poi.getPoiTypeTags().toArray()));
+                insert.setFloat(i++, poi.getPopularityScore());
+                insert.setBoolean(i++, poi.getIsActive());
+                insert.setString(i++, poi.getStatus().name());
+                insert.setTimestamp(i++, Timestamp.from(poi.getCreatedAt()));
+                insert.setTimestamp(i, Timestamp.from(poi.getUpdatedAt()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @Test
+    void summaryViewIsMuchSmallerThanFullView() throws Exception {
+        PointOfInterestMapperImpl mapper = new PointOfInterestMapperImpl();
+        ReflectionTestUtils.setField(mapper, "mapperUtils", MAPPER_UTILS);
+        PointOfInterestRepositoryImpl repository = new PointOfInterestRepositoryImpl(
+                new R2dbcEntityTemplate(connectionFactory()), new PoiSearchProperties(), new VectorTileProperties());
+
+        List<PoiSummaryDTO> summaries = repository
+                .findSummaries(PoiListFilter.builder().status(PoiStatus.APPROUVED).build())
+                .map(mapper::toSummaryDto)
+                .collectList()
+                .block();
+        List<PointOfInterestDTO> full = entities.stream().map(mapper::toDto).toList();
+
+        assertThat(summaries).hasSize(POIS);
+        Map<UUID, PointOfInterestDTO> byId = full.stream()
+                .collect(Collectors.toMap(PointOfInterestDTO::getPoiId, Function.identity()));
+        assertThat(summaries).allSatisfy(summary -> {
+            PointOfInterestDTO poi = byId.get(summary.getPoiId());
+            assertThat(summary.getPoiName()).isEqualTo(poi.getPoiName());
+            assertThat(summary.getLatitude()).isCloseTo(poi.getLatitude(), within(1e-9));
+            assertThat(summary.getLongitude()).isCloseTo(poi.getLongitude(), within(1e-9));
+        });
+
+        long fullBytes = OBJECT_MAPPER.writeValueAsBytes(full).length;
+        long summaryBytes = OBJECT_MAPPER.writeValueAsBytes(summaries).length;
+        assertThat(summaryBytes * 10).isLessThan(fullBytes);
+    }
+
+    private static List<PointOfInterest> entities() {
+        Random random = new Random(42);
+        byte[] logo = new byte[6 * 1024];
+        List<PointOfInterest> entities = new ArrayList<>(POIS);
+        for (int i = 0; i < POIS; i++) {
+            random.nextBytes(logo);
+            entities.add(PointOfInterest.builder()
+                    .poiId(UUID.randomUUID())
+                    .createdByUserId(UUID.randomUUID())
+                    .poiName("Restaurant " + i)
+                    .poiType(PoiType.RESTAURANT)
+                    .poiCategory(PoiCategory.FOOD_DRINK)
+                    .poiLongName("Restaurant " + i + " du quartier Bastos")
+                    .poiShortName("R" + i)
+                    .poiFriendlyName("Chez " + i)
+                    .poiDescription("Cuisine camerounaise traditionnelle : ndolé, poulet DG et poisson braisé, "
+                            + "servis en terrasse ou à emporter. Salle climatisée et parking gardé.")
+                    .poiLogo("data:image/png;base64," + Base64.getEncoder().encodeToString(logo))
+                    .locationGeog(MAPPER_UTILS.coordinatesToPoint(3.8 + random.nextDouble() / 10,
+                            11.5 + random.nextDouble() / 10))
+                    .addressStreetNumber(String.valueOf(i))
+                    .addressStreetName("Rue 1.839")
+                    .addressCity("Yaoundé")
+                    .addressStateProvince("Centre")
+                    .addressPostalCode("00237")
+                    .addressCountry("CM")
+                    .addressInformal("Derrière l'ambassade")
+                    .websiteUrl("https://example.cm/restaurant-" + i)
+                    .operationTimePlan(Json.of("""
+                            {"timezone":"Africa/Douala","monday":[{"open":"08:00","close":"22:00"}],\
+                            "tuesday":[{"open":"08:00","close":"22:00"}],"wednesday":[{"open":"08:00","close":"22:00"}],\
+                            "thursday":[{"open":"08:00","close":"22:00"}],"friday":[{"open":"08:00","close":"23:30"}],\
+                            "saturday":[{"open":"10:00","close":"23:30"}]}"""))
+                    .poiContacts(Json.of("{\"phone\":\"+237 6 99 00 00 00\",\"email\":\"contact@example.cm\"}"))
+                    .poiImagesUrls(List.of("https://cdn.example.cm/poi/" + i + "/1.jpg",
+                            "https://cdn.example.cm/poi/" + i + "/2.jpg", "https://cdn.example.cm/poi/" + i + "/3.jpg"))
+                    .poiAmenities(List.of("wifi", "parking", "terrasse", "climatisation"))
+                    .poiKeywords(List.of("ndolé", "braise", "famille"))
+                    .poiTypeTags(List.of("restaurant", "local"))
+                    .popularityScore(random.nextFloat() * 100)
+                    .isActive(true)
+                    .status(PoiStatus.APPROUVED)
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,68 @@
+package com.poi.yow_point.infrastructure.repositories;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+
+/**
+ * PostGIS container migrated with the Liquibase changelog, for the repository tests that need real PostgreSQL
+ * (geography, trigrams, JSONB, partitions). Each test class gets its own container; subclass {@code @BeforeAll}
+ * methods run after the migration and can insert their fixtures through {@link #connection}.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+abstract class PostgisTestBase {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGIS = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:15-3.4").asCompatibleSubstituteFor("postgres"));
+
+    /**
+     * JDBC connection to the migrated database, open for the whole test class.
+     */
+    static Connection connection;
+
+    @BeforeAll
+    static void migrateSchema() throws Exception {
+        connection = DriverManager.getConnection(POSTGIS.getJdbcUrl(), POSTGIS.getUsername(), POSTGIS.getPassword());
+        Database database = DatabaseFactory.getInstance()
+                .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+        new Liquibase("db/changelog/db.changelog-master.yaml", new ClassLoaderResourceAccessor(), database)
+                .update("");
+    }
+
+    @AfterAll
+    static void closeConnection() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * R2DBC connection factory on the container, for the repositories under test.
+     */
+    static ConnectionFactory connectionFactory() {
+        return ConnectionFactories.get(ConnectionFactoryOptions.builder()
+                .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+                .option(ConnectionFactoryOptions.HOST, POSTGIS.getHost())
+                .option(ConnectionFactoryOptions.PORT, POSTGIS.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+                .option(ConnectionFactoryOptions.DATABASE, POSTGIS.getDatabaseName())
+                .option(ConnectionFactoryOptions.USER, POSTGIS.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, POSTGIS.getPassword())
+                .build());
+    }
+}
@@ -0,0 +1,316 @@
+package com.poi.yow_point.infrastructure.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.poi.yow_point.application.model.PoiListFilter;
+import com.poi.yow_point.application.model.PoiStatus;
+import com.poi.yow_point.application.model.PoiType;
+import com.poi.yow_point.config.R2dbcConfig;
+import com.poi.yow_point.config.json_Converter.JsonNodeToJsonConverter;
+import com.poi.yow_point.config.json_Converter.JsonToJsonNodeConverter;
+import com.poi.yow_point.config.postGIS_Converter.PointToPostgresqlGeographyConverter;
+import com.poi.yow_point.config.postGIS_Converter.StringToPointConverter;
+import com.poi.yow_point.infrastructure.configuration.PoiSearchProperties;
+import com.poi.yow_point.infrastructure.configuration.VectorTileProperties;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepository;
+import com.poi.yow_point.infrastructure.repositories.PointOfInterest.PointOfInterestRepositoryImpl;
+import com.poi.yow_point.infrastructure.repositories.pagination.KeysetCursor;
+import com.poi.yow_point.infrastructure.repositories.poiAccessLog.PoiAccessLogRepositoryImpl;
+import com.poi.yow_point.infrastructure.repositories.poiReview.ReviewRepositoryImpl;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Parameter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Liquibase changelog against PostGIS and checks that the SQL issued by the repository
+ * implementations (POI, review, access log) is planned with an index rather than a sequential scan. The SQL is
+ * not copied here: each repository method is called and the statement it sends is recorded at the connection,
+ * then explained with its bound values inlined.
+ * Sequential scans are disabled so that the planner picks any usable index even on empty tables.
+ * Also checks that date-bounded access-log queries only touch the matching monthly partitions.
+ */
+class QueryPlanIndexTest extends PostgisTestBase {
+
+    private static final String UUID_LITERAL = "'00000000-0000-0000-0000-000000000001'::uuid";
+    private static final double LATITUDE = 3.8480;
+    private static final double LONGITUDE = 11.5021;
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private static Repositories repositories;
+    // Statements sent through the repositories, in order
+    private static final List<IssuedStatement> issued = new CopyOnWriteArrayList<>();
+
+    record Repositories(PointOfInterestRepository pois, ReviewRepositoryImpl reviews,
+            PoiAccessLogRepositoryImpl accessLogs) {
+    }
+
+    @BeforeAll
+    static void createRepositories() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+
+        // Same conversions as R2dbcConfig, so that the entity template writes the SQL the application sends
+        R2dbcCustomConversions conversions = new R2dbcConfig().r2dbcCustomConversions(new StringToPointConverter(),
+                new PointToPostgresqlGeographyConverter(), new JsonNodeToJsonConverter(OBJECT_MAPPER),
+                new JsonToJsonNodeConverter(OBJECT_MAPPER));
+        R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        DatabaseClient databaseClient = DatabaseClient.create(recording(connectionFactory()));
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(databaseClient, PostgresDialect.INSTANCE,
+                new MappingR2dbcConverter(mappingContext, conversions));
+        PointOfInterestRepository pois = new R2dbcRepositoryFactory(template).getRepository(
+                PointOfInterestRepository.class, RepositoryFragments.just(new PointOfInterestRepositoryImpl(template,
+                        new PoiSearchProperties(), new VectorTileProperties())));
+        repositories = new Repositories(pois, new ReviewRepositoryImpl(template, databaseClient),
+                new PoiAccessLogRepositoryImpl(template, databaseClient));
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        return Stream.of(
+                // PointOfInterestRepository: derived queries and PointOfInterestRepositoryImpl
+                query("point_of_interest", "findByStatus", r -> r.pois().findByStatus(PoiStatus.SUBMITTED)),
+                query("point_of_interest", "findByAddressCity", r -> r.pois().findByAddressCity("Yaoundé")),
+                query("point_of_interest", "findByCreatedByUserId", r -> r.pois().findByCreatedByUserId(id)),
+                query("point_of_interest", "findByPoiType", r -> r.pois().findByPoiType(PoiType.RESTAURANT)),
+                query("point_of_interest", "findByPoiNameContainingIgnoreCase",
+                        r -> r.pois().findByPoiNameContainingIgnoreCase("cafe")),
+                query("point_of_interest", "findTopByPopularityScore", r -> r.pois().findTopByPopularityScore(10)),
+                query("point_of_interest", "findRecent", r -> r.pois().findRecent(10)),
+                query("point_of_interest", "findSummaries approved by popularity", r -> r.pois().findSummaries(
+                        PoiListFilter.builder().status(PoiStatus.APPROUVED).order(PoiListFilter.Order.POPULARITY)
+                                .limit(10).build())),
+                query("point_of_interest", "findByLocationWithinRadius",
+                        r -> r.pois().findByLocationWithinRadius(LATITUDE, LONGITUDE, 5.0)),
+                query("point_of_interest", "findNearest",
+                        r -> r.pois().findNearest(LATITUDE, LONGITUDE, 10, null, null)),
+                query("point_of_interest", "search",
+                        r -> r.pois().search("cafe mvog", null, null, null, null, null, null, 20)),
+                query("point_of_interest", "findByAmenitiesAndTypeTags amenities",
+                        r -> r.pois().findByAmenitiesAndTypeTags(List.of("wifi"), null, null, null, null, 20)),
+                query("point_of_interest", "findByAmenitiesAndTypeTags type tags",
+                        r -> r.pois().findByAmenitiesAndTypeTags(null, List.of("maquis"), null, null, null, 20)),
+                query("point_of_interest", "findOpenAt",
+                        r -> r.pois().findOpenAt(600, PoiType.RESTAURANT, null, null, null, null, null)),
+                query("point_of_interest", "findVectorTile", r -> r.pois().findVectorTile(15, 17807, 16035)),
+                query("point_of_interest", "findSummariesWithinBoundingBox",
+                        r -> r.pois().findSummariesWithinBoundingBox(3.80, 11.45, 3.90, 11.55, null, null, 1000)),
+                query("point_of_interest", "findPageAfter",
+                        r -> r.pois().findPageAfter(null, null, null, KeysetCursor.of(Instant.now(), id), 21)),
+                query("point_of_interest", "findPageAfter past NULL created_at",
+                        r -> r.pois().findPageAfter(null, null, null, KeysetCursor.of(null, id), 21)),
+                query("point_of_interest", "findGridCells",
+                        r -> r.pois().findGridCells(18, 3.80, 11.45, 3.90, 11.55)),
+                // ReviewRepositoryImpl
+                query("review", "findByPoiIdOrderByCreatedAtDesc", r -> r.reviews().findByPoiIdOrderByCreatedAtDesc(id)),
+                query("review", "findByUserIdOrderByCreatedAtDesc",
+                        r -> r.reviews().findByUserIdOrderByCreatedAtDesc(id)),
+                query("review", "findAverageRatingByPoiId", r -> r.reviews().findAverageRatingByPoiId(id)),
+                // PoiAccessLogRepositoryImpl
+                query("poi_access_log", "findPageAfter", r -> r.accessLogs().findPageAfter(id, null, 20)),
+                query("poi_access_log", "findPageAfter with a cursor",
+                        r -> r.accessLogs().findPageAfter(id, KeysetCursor.of(now, id), 20)),
+                query("poi_access_log", "findByUserId", r -> r.accessLogs().findByUserId(id)),
+                query("poi_access_log", "findByAccessDatetimeBetween",
+                        r -> r.accessLogs().findByAccessDatetimeBetween(now.minusDays(7), now)),
+                query("poi_access_log", "countByPoiId", r -> r.accessLogs().countByPoiId(id)),
+                query("poi_access_log", "deleteOldLogs", r -> r.accessLogs().deleteOldLogs(now.minusDays(90))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositoryQueries")
+    void queryUsesAnIndex(String table, Function<Repositories, Publisher<?>> call) throws Exception {
+        issued.clear();
+        Flux.from(call.apply(repositories)).blockLast();
+        assertThat(issued).as("Statements issued").isNotEmpty();
+        String sql = issued.get(issued.size() - 1).withLiterals();
+
+        assertThat(explain(sql))
+                .as("Plan for: %s", sql)
+                .doesNotContain("Seq Scan on " + table);
+    }
+
+    @Test
+    void dateBoundedAccessLogQueryIsPrunedToItsMonth() throws Exception {
+        LocalDate month = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+        DateTimeFormatter suffix = DateTimeFormatter.ofPattern("yyyyMM");
+        String sql = "SELECT * FROM poi_access_log WHERE poi_id = " + UUID_LITERAL
+                + " AND access_datetime >= '" + month + "T00:00:00Z' AND access_datetime < '" + month.plusDays(7)
+                + "T00:00:00Z' ORDER BY access_datetime DESC";
+
+        String plan = explain(sql);
+
+        assertThat(plan).contains("poi_access_log_p" + month.format(suffix));
+        assertThat(plan).doesNotContain("poi_access_log_p" + month.plusMonths(1).format(suffix));
+    }
+
+    @Test
+    void expiredAccessLogPartitionsAreDropped() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT poi_access_log_ensure_partition(DATE '2001-01-01')");
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT poi_access_log_drop_partitions_before(TIMESTAMPTZ '2001-02-01 00:00:00+00')")) {
+                rs.next();
+                assertThat(rs.getInt(1)).isEqualTo(1);
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT to_regclass('poi_access_log_p200101') IS NULL")) {
+                rs.next();
+                assertThat(rs.getBoolean(1)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void openingHoursAreFlattenedToWeeklyMinutes() throws Exception {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT poi_opening_week_minutes('"
+                        + "{\"monday\": [{\"open\": \"08:00\", \"close\": \"18:00\"}], \"sunday\": [\"22:00-02:00\"]}'::jsonb)::text")) {
+            rs.next();
+            // Monday 08:00-18:00, Sunday 22:00 wrapping to Monday 02:00
+            assertThat(rs.getString(1)).isEqualTo("{[0,120),[480,1080),[9960,10080)}");
+        }
+    }
+
+    private static Arguments query(String table, String name, Function<Repositories, Publisher<?>> call) {
+        return Arguments.of(table, Named.of(name, call));
+    }
+
+    /**
+     * SQL of a statement as the driver received it, with its {@code $n} parameters.
+     */
+    record IssuedStatement(String sql, Map<String, Object> bindings) {
+
+        private static final Pattern PARAMETER = Pattern.compile("\\$(\\d+)");
+
+        // Bound values inlined as literals, for EXPLAIN
+        String withLiterals() {
+            Matcher matcher = PARAMETER.matcher(sql);
+            StringBuilder result = new StringBuilder();
+            while (matcher.find()) {
+                matcher.appendReplacement(result, Matcher.quoteReplacement(literal(bindings.get(matcher.group()))));
+            }
+            return matcher.appendTail(result).toString();
+        }
+
+        private static String literal(Object value) {
+            if (value instanceof Parameter parameter) {
+                value = parameter.getValue();
+            }
+            if (value == null) {
+                return "NULL";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            if (value instanceof UUID) {
+                return "'" + value + "'::uuid";
+            }
+            if (value instanceof OffsetDateTime || value instanceof Instant) {
+                return "'" + value + "'::timestamptz";
+            }
+            if (value instanceof Object[] array) {
+                return Arrays.stream(array).map(IssuedStatement::literal)
+                        .collect(Collectors.joining(", ", "ARRAY[", "]::text[]"));
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+    }
+
+    // Records the statements created on its connections and the values bound to them
+    private static ConnectionFactory recording(ConnectionFactory factory) {
+        return proxy(ConnectionFactory.class, factory, (method, args, result) -> method.getName().equals("create")
+                ? Mono.from((Publisher<?>) result).map(connection -> recording((io.r2dbc.spi.Connection) connection))
+                : result);
+    }
+
+    private static io.r2dbc.spi.Connection recording(io.r2dbc.spi.Connection connection) {
+        return proxy(io.r2dbc.spi.Connection.class, connection, (method, args, result) -> {
+            if (!method.getName().equals("createStatement")) {
+                return result;
+            }
+            IssuedStatement statement = new IssuedStatement((String) args[0], Collections.synchronizedMap(new HashMap<>()));
+            issued.add(statement);
+            return proxy(io.r2dbc.spi.Statement.class, (io.r2dbc.spi.Statement) result, (bind, bindArgs, bound) -> {
+                if (bind.getName().equals("bind") || bind.getName().equals("bindNull")) {
+                    String name = bindArgs[0] instanceof Integer index ? "$" + (index + 1) : (String) bindArgs[0];
+                    statement.bindings().put(name, bind.getName().equals("bind") ? bindArgs[1] : null);
+                }
+                return bound;
+            });
+        });
+    }
+
+    private interface Interceptor {
+        Object intercept(Method method, Object[] args, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            Object intercepted = interceptor.intercept(method, args, result);
+            // Fluent calls (Statement.bind returns the statement) stay on the proxy
+            return intercepted == target ? proxy : intercepted;
+        });
+    }
+
+    private static String explain(String sql) throws Exception {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.poi.yow_point.infrastructure.repositories.pagination;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pages through an H2 table whose sort column has NULLs and ties, the way the repositories do, and checks that
+ * every row comes exactly once, in {@code (created_at DESC NULLS LAST, row_id DESC)} order.
+ */
+class KeysetPaginationTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Table("page_row")
+    record PageRow(@Id UUID rowId, LocalDateTime createdAt) {
+    }
+
+    private R2dbcEntityTemplate template;
+    private final List<PageRow> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories
+                .get("r2dbc:h2:mem:///keyset-" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        template = new R2dbcEntityTemplate(connectionFactory);
+        template.getDatabaseClient()
+                .sql("CREATE TABLE page_row (row_id UUID PRIMARY KEY, created_at TIMESTAMP)")
+                .then()
+                .block();
+        for (int i = 0; i < 12; i++) {
+            // Ties on every other timestamp and four rows without one; ids out of insertion order, small enough
+            // for UUID.compareTo (signed) to agree with the database (unsigned)
+            LocalDateTime createdAt = i < 8 ? T0.plusMinutes(i / 2) : null;
+            rows.add(template.insert(new PageRow(new UUID(i * 7 % 12 + 1, 0), createdAt)).block());
+        }
+    }
+
+    @Test
+    void pagesPastRowsWithANullSortKey() {
+        List<PageRow> expected = rows.stream()
+                .sorted(Comparator.comparing(PageRow::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                        .thenComparing(PageRow::rowId)
+                        .reversed())
+                .toList();
+
+        List<PageRow> read = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            List<PageRow> page = page(KeysetCursor.decode(cursor), 5);
+            read.addAll(page);
+            PageRow last = page.get(page.size() - 1);
+            cursor = page.size() < 5 ? null : KeysetCursor.of(last.createdAt(), last.rowId()).encode();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(read).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void nullSortKeyRoundTripsThroughTheCursor() {
+        UUID id = UUID.randomUUID();
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(null, id).encode());
+
+        assertThat(cursor.sortKey()).isNull();
+        assertThat(cursor.<LocalDateTime>sortKey(LocalDateTime::parse)).isNull();
+        assertThat(cursor.id()).isEqualTo(id);
+    }
+
+    @Test
+    void sortKeyRoundTripsThroughTheCursor() {
+        UUID id = UUID.randomUUID();
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(T0, id).encode());
+
+        assertThat(cursor.<LocalDateTime>sortKey(LocalDateTime::parse)).isEqualTo(T0);
+        assertThat(cursor.id()).isEqualTo(id);
+    }
+
+    @Test
+    void rejectsAMalformedCursor() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.of("x", UUID.randomUUID()).encode())
+                .sortKey(LocalDateTime::parse))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<PageRow> page(KeysetCursor after, int limit) {
+        return template.select(PageRow.class)
+                .matching(KeysetPagination.after(Criteria.empty(), "created_at", "row_id", after,
+                        LocalDateTime::parse, limit))
+                .all()
+                .collectList()
+                .block();
+    }
+}
@@ -0,0 +1,61 @@
+package com.poi.yow_point.presentation.controllers;
+
+import com.poi.yow_point.application.services.point_of_interest.PointOfInterestService;
+import com.poi.yow_point.presentation.dto.PoiSummaryDTO;
+import com.poi.yow_point.presentation.dto.PointOfInterestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the {@code view} parameter of the POI list endpoints: summary by default, complete POIs with
+ * {@code view=full}, 400 for any other value without querying.
+ */
+class PointOfInterestControllerViewTest {
+
+    private final PointOfInterestService poiService = mock(PointOfInterestService.class);
+    private final WebTestClient client = WebTestClient
+            .bindToController(new PointOfInterestController(poiService))
+            .build();
+
+    @Test
+    void servesSummariesByDefaultAndCompletePoisOnRequest() {
+        UUID poiId = UUID.randomUUID();
+        when(poiService.findSummaries(any())).thenReturn(Flux.just(PoiSummaryDTO.builder()
+                .poiId(poiId).poiName("Marché Mokolo").build()));
+        when(poiService.findAll()).thenReturn(Flux.just(PointOfInterestDTO.builder()
+                .poiId(poiId).poiName("Marché Mokolo").poiDescription("Grand marché").build()));
+
+        client.get().uri("/poi-navigoo/api/pois")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].poi_name").isEqualTo("Marché Mokolo")
+                .jsonPath("$[0].poi_description").doesNotExist();
+
+        client.get().uri("/poi-navigoo/api/pois?view=FULL")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].poi_description").isEqualTo("Grand marché");
+    }
+
+    @Test
+    void rejectsAnUnknownView() {
+        client.get().uri("/poi-navigoo/api/pois?view=compact")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/poi-navigoo/api/pois/city/Douala?view=none")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(poiService);
+    }
+}